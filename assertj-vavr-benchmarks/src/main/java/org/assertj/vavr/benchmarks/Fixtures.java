@@ -0,0 +1,110 @@
+/*
+ * Copyright 2017-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.vavr.benchmarks;
+
+import io.vavr.Tuple;
+import io.vavr.Tuple2;
+import io.vavr.collection.Array;
+import io.vavr.collection.HashMap;
+import io.vavr.collection.HashMultimap;
+import io.vavr.collection.LinkedHashMap;
+import io.vavr.collection.LinkedHashMultimap;
+import io.vavr.collection.List;
+import io.vavr.collection.Map;
+import io.vavr.collection.Multimap;
+import io.vavr.collection.Queue;
+import io.vavr.collection.Seq;
+import io.vavr.collection.Stream;
+import io.vavr.collection.TreeMap;
+import io.vavr.collection.Vector;
+
+/**
+ * Builds the collections the benchmarks run against. Every collection holds {@code size} deterministic entries so
+ * results stay comparable between runs and between versions.
+ */
+final class Fixtures {
+
+    /**
+     * Number of values stored under each key of the generated multimaps.
+     */
+    static final int VALUES_PER_KEY = 4;
+
+    private Fixtures() {
+    }
+
+    static List<Tuple2<Integer, String>> entries(int size) {
+        return List.range(0, size).map(i -> Tuple.of(i, "value" + i));
+    }
+
+    static Map<Integer, String> map(String implementation, int size) {
+        final List<Tuple2<Integer, String>> entries = entries(size);
+        switch (implementation) {
+            case "HashMap":
+                return HashMap.ofEntries(entries);
+            case "LinkedHashMap":
+                return LinkedHashMap.ofEntries(entries);
+            case "TreeMap":
+                return TreeMap.ofEntries(entries);
+            default:
+                throw new IllegalArgumentException("Unsupported Map implementation: " + implementation);
+        }
+    }
+
+    static Multimap<Integer, String> multimap(String implementation, int size) {
+        final List<Tuple2<Integer, String>> entries = List.range(0, size).map(i -> Tuple.of(i / VALUES_PER_KEY, "value" + i));
+        switch (implementation) {
+            case "HashMultimap":
+                return HashMultimap.withSeq().ofEntries(entries);
+            case "HashMultimap.withSet":
+                return HashMultimap.withSet().ofEntries(entries);
+            case "LinkedHashMultimap":
+                return LinkedHashMultimap.withSeq().ofEntries(entries);
+            default:
+                throw new IllegalArgumentException("Unsupported Multimap implementation: " + implementation);
+        }
+    }
+
+    static Seq<Integer> seq(String implementation, int size) {
+        final List<Integer> elements = List.range(0, size);
+        switch (implementation) {
+            case "List":
+                return elements;
+            case "Vector":
+                return Vector.ofAll(elements);
+            case "Array":
+                return Array.ofAll(elements);
+            case "Queue":
+                return Queue.ofAll(elements);
+            case "Stream":
+                final Stream<Integer> stream = Stream.ofAll(elements);
+                // fully evaluated so that every run measures the assertion, not the stream generation
+                stream.length();
+                return stream;
+            default:
+                throw new IllegalArgumentException("Unsupported Seq implementation: " + implementation);
+        }
+    }
+
+    /**
+     * Picks at most {@code count} values evenly spread over the given ones.
+     */
+    static <T> Array<T> sample(Seq<T> values, int count) {
+        final Array<T> all = Array.ofAll(values);
+        if (all.size() <= count) return all;
+        final int step = all.size() / count;
+        return Array.range(0, count).map(i -> all.get(i * step));
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright 2017-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.vavr.benchmarks;
+
+import io.vavr.Tuple2;
+import io.vavr.collection.List;
+import io.vavr.collection.Multimap;
+import org.assertj.vavr.api.MultimapAssert;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.vavr.api.VavrAssertions.assertThat;
+
+/**
+ * Benchmarks for the {@link MultimapAssert} assertions backed by {@code org.assertj.vavr.internal.Multimaps}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MultimapAssertBenchmark {
+
+    @Param({"10", "1000", "100000", "1000000"})
+    int size;
+
+    @Param({"HashMultimap", "HashMultimap.withSet", "LinkedHashMultimap"})
+    String implementation;
+
+    private Multimap<Integer, String> actual;
+
+    private List<Tuple2<Integer, String>> entriesInIterationOrder;
+
+    private Tuple2<Integer, String>[] entriesArray;
+
+    private String[] values;
+
+    @Setup
+    @SuppressWarnings("unchecked")
+    public void setUp() {
+        actual = Fixtures.multimap(implementation, size);
+        entriesInIterationOrder = actual.toList();
+        entriesArray = entriesInIterationOrder.toJavaList().toArray(new Tuple2[0]);
+        values = Fixtures.sample(actual.values().toList(), 1_000).toJavaList().toArray(new String[0]);
+    }
+
+    @Benchmark
+    public MultimapAssert<Integer, String> containsOnly() {
+        return assertThat(actual).containsOnly(entriesInIterationOrder);
+    }
+
+    @Benchmark
+    public MultimapAssert<Integer, String> containsExactly() {
+        return assertThat(actual).containsExactly(entriesArray);
+    }
+
+    @Benchmark
+    public MultimapAssert<Integer, String> contains() {
+        return assertThat(actual).contains(entriesArray);
+    }
+
+    @Benchmark
+    public MultimapAssert<Integer, String> containsValues() {
+        return assertThat(actual).containsValues(values);
+    }
+}
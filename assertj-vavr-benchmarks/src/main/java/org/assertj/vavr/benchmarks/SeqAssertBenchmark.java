@@ -0,0 +1,77 @@
+/*
+ * Copyright 2017-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.vavr.benchmarks;
+
+import io.vavr.collection.Seq;
+import org.assertj.vavr.api.SeqAssert;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.vavr.api.VavrAssertions.assertThat;
+
+/**
+ * Benchmarks for the {@link SeqAssert} assertions, run against both linear and indexed {@link Seq} implementations.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SeqAssertBenchmark {
+
+    @Param({"10", "1000", "100000", "1000000"})
+    int size;
+
+    @Param({"List", "Vector", "Array", "Queue", "Stream"})
+    String implementation;
+
+    private Seq<Integer> actual;
+
+    private Seq<Integer> reversed;
+
+    @Setup
+    public void setUp() {
+        actual = Fixtures.seq(implementation, size);
+        reversed = Fixtures.seq(implementation, size).reverse();
+    }
+
+    @Benchmark
+    public SeqAssert<Integer> isSorted() {
+        return assertThat(actual).isSorted();
+    }
+
+    @Benchmark
+    public SeqAssert<Integer> isSortedAccordingTo() {
+        return assertThat(actual).isSortedAccordingTo(Integer::compare);
+    }
+
+    @Benchmark
+    public SeqAssert<Integer> containsExactlyInAnyOrder() {
+        return assertThat(actual).containsExactlyInAnyOrder(reversed);
+    }
+}
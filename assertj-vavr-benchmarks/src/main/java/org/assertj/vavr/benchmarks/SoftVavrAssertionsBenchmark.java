@@ -0,0 +1,79 @@
+/*
+ * Copyright 2017-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.vavr.benchmarks;
+
+import io.vavr.collection.HashMap;
+import io.vavr.collection.List;
+import io.vavr.collection.Map;
+import io.vavr.collection.Seq;
+import io.vavr.control.Either;
+import io.vavr.control.Option;
+import io.vavr.control.Try;
+import org.assertj.vavr.api.soft.SoftVavrAssertions;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for soft assertions, which proxy every Vavr assert through {@code StandardSoftVavrAssertionsProvider}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SoftVavrAssertionsBenchmark {
+
+    private final Option<String> option = Option.of("value");
+
+    private final Try<String> success = Try.success("value");
+
+    private final Either<String, Integer> right = Either.right(42);
+
+    private final Seq<Integer> seq = List.of(1, 2, 3);
+
+    private final Map<Integer, String> map = HashMap.of(1, "value");
+
+    @Benchmark
+    public SoftVavrAssertions passingSoftAssertions() {
+        final SoftVavrAssertions softly = new SoftVavrAssertions();
+        softly.assertThat(option).contains("value");
+        softly.assertThat(success).isSuccess();
+        softly.assertThat(right).containsOnRight(42);
+        softly.assertThat(seq).isSorted();
+        softly.assertThat(map).containsEntry(1, "value");
+        softly.assertAll();
+        return softly;
+    }
+
+    @Benchmark
+    public int failingSoftAssertions() {
+        final SoftVavrAssertions softly = new SoftVavrAssertions();
+        softly.assertThat(option).isEmpty();
+        softly.assertThat(success).isFailure();
+        softly.assertThat(map).containsKey(2);
+        return softly.errorsCollected().size();
+    }
+}
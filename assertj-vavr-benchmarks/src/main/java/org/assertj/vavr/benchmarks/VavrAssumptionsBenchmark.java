@@ -0,0 +1,92 @@
+/*
+ * Copyright 2017-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.vavr.benchmarks;
+
+import io.vavr.collection.HashMap;
+import io.vavr.collection.List;
+import io.vavr.collection.Map;
+import io.vavr.collection.Seq;
+import io.vavr.control.Option;
+import io.vavr.control.Try;
+import org.assertj.vavr.api.MapAssert;
+import org.assertj.vavr.api.OptionAssert;
+import org.assertj.vavr.api.SeqAssert;
+import org.assertj.vavr.api.TryAssert;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.data.Index.atIndex;
+import static org.assertj.vavr.api.VavrAssumptions.assumeThat;
+
+/**
+ * Benchmarks for the creation of {@code VavrAssumptions} proxies, both on a warmed-up JVM and on the first call in a
+ * fresh JVM where the assumption classes still have to be generated.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class VavrAssumptionsBenchmark {
+
+    private final Option<String> option = Option.of("value");
+
+    private final Try<String> success = Try.success("value");
+
+    private final Seq<Integer> seq = List.of(1, 2, 3);
+
+    private final Map<Integer, String> map = HashMap.of(1, "value");
+
+    @Benchmark
+    public OptionAssert<String> optionAssumption() {
+        return assumeThat(option).contains("value");
+    }
+
+    @Benchmark
+    public TryAssert<String> tryAssumption() {
+        return assumeThat(success).isSuccess();
+    }
+
+    @Benchmark
+    public SeqAssert<Integer> seqAssumption() {
+        return assumeThat(seq).contains(2, atIndex(1));
+    }
+
+    @Benchmark
+    public MapAssert<Integer, String> mapAssumption() {
+        return assumeThat(map).containsEntry(1, "value");
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(iterations = 0)
+    @Measurement(iterations = 1)
+    @Fork(10)
+    public OptionAssert<String> firstAssumptionInFreshJvm() {
+        return assumeThat(option).contains("value");
+    }
+}
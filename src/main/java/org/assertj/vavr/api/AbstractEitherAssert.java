@@ -19,7 +19,6 @@ import io.vavr.control.Either;
 import org.assertj.core.api.Assertions;
 import org.assertj.core.internal.ComparatorBasedComparisonStrategy;
 import org.assertj.core.internal.ComparisonStrategy;
-import org.assertj.core.internal.FieldByFieldComparator;
 import org.assertj.core.internal.StandardComparisonStrategy;
 import org.assertj.core.util.CheckReturnValue;
 
@@ -31,6 +30,7 @@ import static org.assertj.vavr.api.EitherShouldBeRight.shouldBeRight;
 import static org.assertj.vavr.api.EitherShouldContain.*;
 import static org.assertj.vavr.api.EitherShouldContainInstanceOf.shouldContainOnLeftInstanceOf;
 import static org.assertj.vavr.api.EitherShouldContainInstanceOf.shouldContainOnRightInstanceOf;
+import static org.assertj.vavr.api.FieldByFieldValueComparator.fieldByFieldValueComparator;
 
 /**
  * Assertions for {@link Either}.
@@ -234,12 +234,15 @@ abstract class AbstractEitherAssert<SELF extends AbstractEitherAssert<SELF, LEFT
      * actual type A <code>equals</code> method to compare the {@link Either} value's object for incoming assertion
      * checks. Private fields are included but this can be disabled using
      * {@link Assertions#setAllowExtractingPrivateFields(boolean)}.
+     * <p>
+     * The fields of each value class and their accessors are looked up once and cached, so comparing many values of
+     * the same class does not pay for the introspection again.
      *
      * @return {@code this} assertion object.
      */
     @CheckReturnValue
     public SELF usingFieldByFieldValueComparator() {
-        return usingValueComparator(new FieldByFieldComparator());
+        return usingValueComparator(fieldByFieldValueComparator());
     }
 
     /**
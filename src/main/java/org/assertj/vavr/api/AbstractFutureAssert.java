@@ -0,0 +1,122 @@
+/*
+ * Copyright 2017-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.vavr.api;
+
+import io.vavr.concurrent.Future;
+import io.vavr.control.Option;
+import io.vavr.control.Try;
+
+import java.time.Duration;
+
+import static org.assertj.vavr.api.FutureCompletion.awaitCompletion;
+import static org.assertj.vavr.api.FutureShouldFailWithin.shouldFailWithin;
+import static org.assertj.vavr.api.FutureShouldNotBeCompletedAfter.shouldNotBeCompletedAfter;
+import static org.assertj.vavr.api.FutureShouldSucceedWithin.shouldSucceedWithin;
+
+/**
+ * Assertions for {@link Future}.
+ * <p>
+ * Waiting for the future does not use {@link Future#await()}: the result is received through an
+ * {@link Future#onComplete(java.util.function.Consumer) onComplete} callback, so no additional thread is held while
+ * the assertion waits.
+ *
+ * @param <SELF>  the "self" type of this assertion class.
+ * @param <VALUE> type of the value of the {@link Future}.
+ */
+abstract class AbstractFutureAssert<SELF extends AbstractFutureAssert<SELF, VALUE>, VALUE> extends
+        AbstractValueAssert<SELF, Future<VALUE>> {
+
+    AbstractFutureAssert(Future<VALUE> actual, Class<?> selfType) {
+        super(actual, selfType);
+    }
+
+    /**
+     * Verifies that the actual {@link Future} succeeds within the given timeout. Assertions chained afterwards are
+     * performed on the {@link Try} result of the future.
+     * <p>
+     * Example:
+     * <pre><code class='java'> Future&lt;String&gt; future = Future.of(() -&gt; "ring");
+     *
+     * // assertion will pass
+     * assertThat(future).succeedsWithin(Duration.ofSeconds(1))
+     *                   .contains("ring");
+     *
+     * // assertion will fail
+     * assertThat(Future.failed(new IllegalStateException())).succeedsWithin(Duration.ofSeconds(1));</code></pre>
+     *
+     * @param timeout the maximum time to wait for the completion.
+     * @return a new {@link TryAssert} for assertions chaining on the result of the future.
+     * @throws NullPointerException if the given timeout is {@code null}.
+     * @throws AssertionError if the actual {@link Future} is {@code null}, does not complete within the timeout or fails.
+     */
+    public TryAssert<VALUE> succeedsWithin(Duration timeout) {
+        isNotNull();
+        final Option<Try<VALUE>> result = awaitCompletion(actual, timeout);
+        if (result.isEmpty()) throwAssertionError(shouldSucceedWithin(actual, timeout));
+        if (result.get().isFailure()) throwAssertionError(shouldSucceedWithin(actual, timeout, result.get().getCause()));
+        return VavrAssertions.assertThat(result.get());
+    }
+
+    /**
+     * Verifies that the actual {@link Future} fails within the given timeout. Assertions chained afterwards are
+     * performed on the {@link Try} result of the future, which allows checking the cause of the failure.
+     * <p>
+     * Example:
+     * <pre><code class='java'> Future&lt;String&gt; future = Future.failed(new IllegalStateException("lost"));
+     *
+     * // assertion will pass
+     * assertThat(future).failsWithin(Duration.ofSeconds(1))
+     *                   .failBecauseOf(IllegalStateException.class);
+     *
+     * // assertion will fail
+     * assertThat(Future.successful("ring")).failsWithin(Duration.ofSeconds(1));</code></pre>
+     *
+     * @param timeout the maximum time to wait for the completion.
+     * @return a new {@link TryAssert} for assertions chaining on the result of the future.
+     * @throws NullPointerException if the given timeout is {@code null}.
+     * @throws AssertionError if the actual {@link Future} is {@code null}, does not complete within the timeout or succeeds.
+     */
+    public TryAssert<VALUE> failsWithin(Duration timeout) {
+        isNotNull();
+        final Option<Try<VALUE>> result = awaitCompletion(actual, timeout);
+        if (result.isEmpty()) throwAssertionError(shouldFailWithin(actual, timeout));
+        if (result.get().isSuccess()) throwAssertionError(shouldFailWithin(actual, timeout, result.get().get()));
+        return VavrAssertions.assertThat(result.get());
+    }
+
+    /**
+     * Verifies that the actual {@link Future} is still not completed once the given time has elapsed. The assertion
+     * returns as soon as the future completes, without waiting for the rest of the given time.
+     * <p>
+     * Example:
+     * <pre><code class='java'> // assertion will pass
+     * assertThat(Promise.make().future()).isNotCompletedAfter(Duration.ofMillis(100));
+     *
+     * // assertion will fail
+     * assertThat(Future.successful("ring")).isNotCompletedAfter(Duration.ofMillis(100));</code></pre>
+     *
+     * @param duration the time during which the future should stay pending.
+     * @return this assertion object.
+     * @throws NullPointerException if the given duration is {@code null}.
+     * @throws AssertionError if the actual {@link Future} is {@code null} or completes within the given time.
+     */
+    public SELF isNotCompletedAfter(Duration duration) {
+        isNotNull();
+        final Option<Try<VALUE>> result = awaitCompletion(actual, duration);
+        if (result.isDefined()) throwAssertionError(shouldNotBeCompletedAfter(actual, duration, result.get()));
+        return myself;
+    }
+}
@@ -0,0 +1,128 @@
+/*
+ * Copyright 2017-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.vavr.api;
+
+import io.vavr.collection.Iterator;
+import org.assertj.core.internal.StandardComparisonStrategy;
+
+import java.util.function.Consumer;
+
+/**
+ * Assertions for {@link Iterator}.
+ * <p>
+ * An {@link Iterator} can be traversed only once, so all assertions consume it and pull only as many elements as
+ * needed to reach a verdict. Their failure messages report how many elements were consumed.
+ *
+ * @param <SELF>    the "self" type of this assertion class.
+ * @param <ELEMENT> type of elements returned by the {@link Iterator}.
+ */
+abstract class AbstractIteratorAssert<SELF extends AbstractIteratorAssert<SELF, ELEMENT>, ELEMENT> extends
+        AbstractValueAssert<SELF, Iterator<ELEMENT>> {
+
+    AbstractIteratorAssert(Iterator<ELEMENT> actual, Class<?> selfType) {
+        super(actual, selfType);
+    }
+
+    /**
+     * Verifies that the actual {@link Iterator} starts with the given sequence of objects, consuming at most as many
+     * elements as there are objects in the sequence.
+     * <p>
+     * Example:
+     * <pre><code class='java'> // assertion will pass
+     * assertThat(Iterator.from(1)).startsWith(1, 2, 3);
+     *
+     * // assertion will fail
+     * assertThat(Iterator.from(1)).startsWith(2, 3);</code></pre>
+     *
+     * @param sequence the sequence of objects to look for.
+     * @return this assertion object.
+     * @throws NullPointerException if the given sequence is {@code null}.
+     * @throws IllegalArgumentException if the given sequence is empty.
+     * @throws AssertionError if the actual {@link Iterator} does not start with the given sequence.
+     */
+    @SafeVarargs
+    public final SELF startsWith(ELEMENT... sequence) {
+        return startsWithForProxy(sequence);
+    }
+
+    // This method is protected in order to be proxied for SoftAssertions / Assumptions.
+    // The public method for it (the one not ending with "ForProxy") is marked as final and annotated with @SafeVarargs
+    // in order to avoid compiler warning in user code
+    protected SELF startsWithForProxy(ELEMENT[] sequence) {
+        isNotNull();
+        BoundedTraversal.startsWith(actual, actual, sequence, StandardComparisonStrategy.instance())
+                .forEach(this::throwAssertionError);
+        return myself;
+    }
+
+    /**
+     * Verifies that all given values are returned within the first {@code limit} elements of the actual
+     * {@link Iterator}. Elements are consumed only until all values are found, and never beyond {@code limit}.
+     * <p>
+     * Example:
+     * <pre><code class='java'> // assertion will pass
+     * assertThat(Iterator.from(1).map(i -&gt; i * i)).containsWithinFirst(10, 4, 81);
+     *
+     * // assertion will fail
+     * assertThat(Iterator.from(1).map(i -&gt; i * i)).containsWithinFirst(5, 4, 81);</code></pre>
+     *
+     * @param limit  the number of leading elements to search.
+     * @param values the values to look for.
+     * @return this assertion object.
+     * @throws IllegalArgumentException if the given limit is negative.
+     * @throws NullPointerException if the given values are {@code null}.
+     * @throws AssertionError if any of the given values is not among the first {@code limit} elements.
+     */
+    @SafeVarargs
+    public final SELF containsWithinFirst(int limit, ELEMENT... values) {
+        return containsWithinFirstForProxy(limit, values);
+    }
+
+    // This method is protected in order to be proxied for SoftAssertions / Assumptions.
+    // The public method for it (the one not ending with "ForProxy") is marked as final and annotated with @SafeVarargs
+    // in order to avoid compiler warning in user code
+    protected SELF containsWithinFirstForProxy(int limit, ELEMENT[] values) {
+        isNotNull();
+        BoundedTraversal.containsWithinFirst(actual, actual, limit, values, StandardComparisonStrategy.instance())
+                .forEach(this::throwAssertionError);
+        return myself;
+    }
+
+    /**
+     * Verifies that each of the first {@code limit} elements of the actual {@link Iterator} satisfies the given
+     * requirements. Elements are consumed up to the first failing one and never beyond {@code limit}.
+     * <p>
+     * Example:
+     * <pre><code class='java'> // assertion will pass
+     * assertThat(Iterator.from(0, 2)).allSatisfyInFirst(1_000, even -&gt; assertThat(even % 2).isZero());
+     *
+     * // assertion will fail
+     * assertThat(Iterator.from(0, 2)).allSatisfyInFirst(1_000, even -&gt; assertThat(even).isLessThan(100));</code></pre>
+     *
+     * @param limit        the number of leading elements to check.
+     * @param requirements the requirements to be met by each element.
+     * @return this assertion object.
+     * @throws IllegalArgumentException if the given limit is negative.
+     * @throws NullPointerException if the given requirements are {@code null}.
+     * @throws AssertionError if one of the first {@code limit} elements does not satisfy the requirements.
+     */
+    public SELF allSatisfyInFirst(int limit, Consumer<? super ELEMENT> requirements) {
+        isNotNull();
+        BoundedTraversal.allSatisfyInFirst(actual, actual, limit, requirements)
+                .forEach(this::throwAssertionError);
+        return myself;
+    }
+}
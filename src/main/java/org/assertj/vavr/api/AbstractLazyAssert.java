@@ -16,9 +16,15 @@
 package org.assertj.vavr.api;
 
 import io.vavr.Lazy;
+import io.vavr.control.Try;
 
+import java.time.Duration;
+import java.util.function.LongSupplier;
+
+import static java.util.Objects.requireNonNull;
 import static org.assertj.vavr.api.LazyShouldBeEvaluated.shouldBeEvaluated;
 import static org.assertj.vavr.api.LazyShouldBeNotEvaluated.shouldBeNotEvaluated;
+import static org.assertj.vavr.api.LazyShouldEvaluateWithin.shouldEvaluateWithin;
 
 /**
  * Assertions for {@link Lazy}.
@@ -29,8 +35,19 @@ import static org.assertj.vavr.api.LazyShouldBeNotEvaluated.shouldBeNotEvaluated
 abstract class AbstractLazyAssert<SELF extends AbstractLazyAssert<SELF, VALUE>, VALUE> extends
         AbstractValueAssert<SELF, Lazy<VALUE>> {
 
+    private final LongSupplier ticker;
+
     AbstractLazyAssert(Lazy<VALUE> actual, Class<?> selfType) {
+        this(actual, selfType, System::nanoTime);
+    }
+
+    /**
+     * Creates an assertion timing the evaluation with the given source of nanosecond timestamps instead of
+     * {@link System#nanoTime()}.
+     */
+    AbstractLazyAssert(Lazy<VALUE> actual, Class<?> selfType, LongSupplier ticker) {
         super(actual, selfType);
+        this.ticker = ticker;
     }
 
     /**
@@ -54,5 +71,26 @@ abstract class AbstractLazyAssert<SELF extends AbstractLazyAssert<SELF, VALUE>,
         if (actual.isEvaluated()) throwAssertionError(shouldBeNotEvaluated(actual));
         return myself;
     }
-}
 
+    /**
+     * Verifies that the evaluation of the actual {@link Lazy} takes at most the given time. The value is evaluated by
+     * this assertion, so the actual {@link Lazy} must not be evaluated yet. As a {@link Lazy} is only evaluated once,
+     * use {@link VavrAssertions#assertThatComputation(io.vavr.CheckedFunction0)} for repeated measurements.
+     *
+     * @param budget the maximum time the evaluation may take.
+     * @return a new {@link TryAssert} for assertions chaining on the result of the evaluation.
+     * @throws NullPointerException if the given budget is {@code null}.
+     * @throws AssertionError       if the actual {@link Lazy} is {@code null}, is already evaluated or takes longer than
+     *                              the budget to evaluate.
+     */
+    public TryAssert<VALUE> evaluatesWithin(Duration budget) {
+        isNotNull();
+        requireNonNull(budget, "The budget should not be null");
+        if (actual.isEvaluated()) throwAssertionError(shouldBeNotEvaluated(actual));
+        final long start = ticker.getAsLong();
+        final Try<VALUE> result = Try.of(actual::get);
+        final Duration elapsed = Duration.ofNanos(ticker.getAsLong() - start);
+        if (elapsed.compareTo(budget) > 0) throwAssertionError(shouldEvaluateWithin(budget, elapsed));
+        return VavrAssertions.assertThat(result);
+    }
+}
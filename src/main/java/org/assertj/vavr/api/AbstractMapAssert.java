@@ -18,6 +18,8 @@ package org.assertj.vavr.api;
 import io.vavr.Tuple;
 import io.vavr.Tuple2;
 import io.vavr.collection.Map;
+import io.vavr.collection.SortedMap;
+import io.vavr.control.Option;
 import org.assertj.core.api.Condition;
 import org.assertj.core.api.EnumerableAssert;
 import org.assertj.core.internal.ComparatorBasedComparisonStrategy;
@@ -26,11 +28,15 @@ import org.assertj.core.internal.StandardComparisonStrategy;
 import org.assertj.vavr.internal.Maps;
 
 import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.Executor;
 import java.util.function.BiConsumer;
 import java.util.stream.StreamSupport;
 
+import static java.util.Arrays.asList;
 import static java.util.Objects.requireNonNull;
 import static org.assertj.core.error.ShouldBeEmpty.shouldBeEmpty;
+import static org.assertj.core.error.ShouldBeInstance.shouldBeInstance;
 import static org.assertj.core.error.ShouldBeNullOrEmpty.shouldBeNullOrEmpty;
 import static org.assertj.core.error.ShouldHaveSameSizeAs.shouldHaveSameSizeAs;
 import static org.assertj.core.error.ShouldHaveSize.shouldHaveSize;
@@ -42,6 +48,15 @@ import static org.assertj.core.error.ShouldHaveSizeLessThanOrEqualTo.shouldHaveS
 import static org.assertj.core.error.ShouldNotBeEmpty.shouldNotBeEmpty;
 import static org.assertj.core.util.Arrays.array;
 import static org.assertj.core.util.IterableUtil.sizeOf;
+import static org.assertj.vavr.api.FieldByFieldValueComparator.fieldByFieldEntryComparator;
+import static org.assertj.vavr.api.SortedMapShouldHaveFloorEntry.shouldHaveFloorEntry;
+import static org.assertj.vavr.api.SortedMapShouldHaveFloorEntry.shouldHaveFloorEntryButNoneFound;
+import static org.assertj.vavr.api.SortedShouldHaveBoundary.shouldHaveMaxKey;
+import static org.assertj.vavr.api.SortedShouldHaveBoundary.shouldHaveMinKey;
+import static org.assertj.vavr.api.SortedShouldHaveInRange.shouldContainRange;
+import static org.assertj.vavr.api.SortedShouldHaveInRange.shouldHaveAllBetween;
+import static org.assertj.vavr.api.SortedShouldHaveInRange.shouldHaveNoneBetween;
+import static org.assertj.vavr.api.TraversableShouldAllSatisfy.shouldAllSatisfy;
 
 /**
  * Assertions for {@link Map}.
@@ -77,6 +92,50 @@ abstract class AbstractMapAssert<SELF extends AbstractMapAssert<SELF, ACTUAL, KE
         return myself;
     }
 
+    /**
+     * Verifies that all the actual map entries satisfy the given {@code entryRequirements}, checking them in parallel
+     * on the common {@link java.util.concurrent.ForkJoinPool}.
+     * <p>
+     * Unlike {@link #allSatisfy(BiConsumer)}, all entries are checked and every failing entry is reported, in the
+     * iteration order of the actual map. The requirements must be safe to run concurrently.
+     * Any exception other than an {@link AssertionError} thrown by the requirements stops the remaining checks and
+     * is rethrown.
+     *
+     * @param entryRequirements the given requirements that each entry must satisfy.
+     * @return {@code this} assertion object.
+     * @throws NullPointerException if the given entryRequirements {@link BiConsumer} is {@code null}.
+     * @throws AssertionError       if the actual map is {@code null}.
+     * @throws AssertionError       if one or more entries don't satisfy the given requirements.
+     */
+    public SELF allSatisfyInParallel(BiConsumer<? super KEY, ? super VALUE> entryRequirements) {
+        return allSatisfyInParallel(entryRequirements, ParallelRequirements.defaultExecutor());
+    }
+
+    /**
+     * Verifies that all the actual map entries satisfy the given {@code entryRequirements}, checking them in parallel
+     * on the given {@link Executor}.
+     * <p>
+     * All entries are checked and every failing entry is reported, in the iteration order of the actual map.
+     * The requirements must be safe to run concurrently.
+     * Any exception other than an {@link AssertionError} thrown by the requirements stops the remaining checks and
+     * is rethrown.
+     *
+     * @param entryRequirements the given requirements that each entry must satisfy.
+     * @param executor          the executor running the checks.
+     * @return {@code this} assertion object.
+     * @throws NullPointerException if the given entryRequirements {@link BiConsumer} or executor is {@code null}.
+     * @throws AssertionError       if the actual map is {@code null}.
+     * @throws AssertionError       if one or more entries don't satisfy the given requirements.
+     */
+    public SELF allSatisfyInParallel(BiConsumer<? super KEY, ? super VALUE> entryRequirements, Executor executor) {
+        requireNonNull(entryRequirements, "The BiConsumer<K, V> expressing the assertions requirements must not be null");
+        isNotNull();
+        final List<UnsatisfiedRequirement> failures =
+                ParallelRequirements.check(actual, entry -> entryRequirements.accept(entry._1, entry._2), executor);
+        if (!failures.isEmpty()) throwAssertionError(shouldAllSatisfy(actual.size(), failures));
+        return myself;
+    }
+
     /**
      * Verifies that the actual map contains a value for the given {@code key} that satisfies the given {@code valueCondition}.
      *
@@ -124,7 +183,7 @@ abstract class AbstractMapAssert<SELF extends AbstractMapAssert<SELF, ACTUAL, KE
      * @throws AssertionError       if the actual map does not contain the given entries.
      */
     public SELF contains(@SuppressWarnings("unchecked") Tuple2<KEY, VALUE>... entries) {
-        maps.assertContains(info, actual, entries);
+        maps.assertContains(info, actual, entries, elementComparisonStrategy);
         return myself;
     }
 
@@ -158,7 +217,7 @@ abstract class AbstractMapAssert<SELF extends AbstractMapAssert<SELF, ACTUAL, KE
     @SuppressWarnings("unchecked")
     public SELF containsAllEntriesOf(Iterable<Tuple2<KEY, VALUE>> other) {
         final Tuple2<KEY, VALUE>[] entries = StreamSupport.stream(other.spliterator(), false).toArray(Tuple2[]::new);
-        maps.assertContains(info, actual, entries);
+        maps.assertContains(info, actual, entries, elementComparisonStrategy);
         return myself;
     }
 
@@ -172,7 +231,7 @@ abstract class AbstractMapAssert<SELF extends AbstractMapAssert<SELF, ACTUAL, KE
      * @throws AssertionError           if the actual map does not contain the given entries.
      */
     public SELF containsEntry(KEY key, VALUE value) {
-        maps.assertContains(info, actual, array(Tuple.of(key, value)));
+        maps.assertContains(info, actual, array(Tuple.of(key, value)), elementComparisonStrategy);
         return myself;
     }
 
@@ -209,7 +268,7 @@ abstract class AbstractMapAssert<SELF extends AbstractMapAssert<SELF, ACTUAL, KE
 
     public SELF containsOnly(Iterable<Tuple2<KEY, VALUE>> entries) {
         isNotNull();
-        maps.assertContainsOnly(info, actual, entries);
+        maps.assertContainsOnly(info, actual, entries, elementComparisonStrategy);
         return myself;
     }
 
@@ -228,7 +287,7 @@ abstract class AbstractMapAssert<SELF extends AbstractMapAssert<SELF, ACTUAL, KE
      *                                  or entries are the same but the order is not.
      */
     public SELF containsExactly(@SuppressWarnings("unchecked") Tuple2<? extends KEY, ? extends VALUE>... entries) {
-        maps.assertContainsExactly(info, actual, entries);
+        maps.assertContainsExactly(info, actual, elementComparisonStrategy, entries);
         return myself;
     }
 
@@ -356,6 +415,134 @@ abstract class AbstractMapAssert<SELF extends AbstractMapAssert<SELF, ACTUAL, KE
         return myself;
     }
 
+    /**
+     * Verifies that the smallest key of the actual sorted map is the given one, according to the map's comparator.
+     * <p>
+     * The smallest key is read from the underlying tree in O(log n), without scanning the map.
+     *
+     * @param key the expected smallest key.
+     * @return {@code this} assertions object.
+     * @throws AssertionError if the actual map is {@code null} or is not a {@link SortedMap}.
+     * @throws AssertionError if the actual map is empty.
+     * @throws AssertionError if the smallest key of the actual map is not the given one.
+     */
+    public SELF hasMinKey(KEY key) {
+        final SortedMap<KEY, VALUE> sorted = actualAsSortedMap();
+        if (sorted.isEmpty()) throwAssertionError(shouldNotBeEmpty());
+        final KEY minKey = sorted.head()._1;
+        if (sorted.comparator().compare(minKey, key) != 0) throwAssertionError(shouldHaveMinKey(actual, key, minKey));
+        return myself;
+    }
+
+    /**
+     * Verifies that the greatest key of the actual sorted map is the given one, according to the map's comparator.
+     * <p>
+     * The greatest key is read from the underlying tree in O(log n), without scanning the map.
+     *
+     * @param key the expected greatest key.
+     * @return {@code this} assertions object.
+     * @throws AssertionError if the actual map is {@code null} or is not a {@link SortedMap}.
+     * @throws AssertionError if the actual map is empty.
+     * @throws AssertionError if the greatest key of the actual map is not the given one.
+     */
+    public SELF hasMaxKey(KEY key) {
+        final SortedMap<KEY, VALUE> sorted = actualAsSortedMap();
+        if (sorted.isEmpty()) throwAssertionError(shouldNotBeEmpty());
+        final KEY maxKey = sorted.last()._1;
+        if (sorted.comparator().compare(maxKey, key) != 0) throwAssertionError(shouldHaveMaxKey(actual, key, maxKey));
+        return myself;
+    }
+
+    /**
+     * Verifies that all the keys of the actual sorted map are between the given bounds (inclusive), according to the
+     * map's comparator. This assertion succeeds if the actual map is empty.
+     * <p>
+     * Only the smallest and the greatest keys are checked, in O(log n).
+     *
+     * @param from the lower bound.
+     * @param to   the upper bound.
+     * @return {@code this} assertions object.
+     * @throws IllegalArgumentException if {@code from} is greater than {@code to}.
+     * @throws AssertionError           if the actual map is {@code null} or is not a {@link SortedMap}.
+     * @throws AssertionError           if some keys of the actual map are not between the given bounds.
+     */
+    public SELF hasAllKeysBetween(KEY from, KEY to) {
+        final SortedMap<KEY, VALUE> sorted = actualAsSortedMap();
+        SortedRange.checkBounds(sorted.comparator(), from, to);
+        final List<Tuple2<KEY, VALUE>> outside = SortedRange.outside(sorted, Tuple2::_1, sorted.comparator(), from, to);
+        if (!outside.isEmpty()) throwAssertionError(shouldHaveAllBetween(actual, "keys", from, to, outside));
+        return myself;
+    }
+
+    /**
+     * Verifies that the actual sorted map has no key between the given bounds (inclusive), according to the map's
+     * comparator.
+     * <p>
+     * The map is read in ascending order up to the upper bound only, after checking in O(log n) whether its smallest and
+     * greatest keys leave room for a key in the range.
+     *
+     * @param from the lower bound.
+     * @param to   the upper bound.
+     * @return {@code this} assertions object.
+     * @throws IllegalArgumentException if {@code from} is greater than {@code to}.
+     * @throws AssertionError           if the actual map is {@code null} or is not a {@link SortedMap}.
+     * @throws AssertionError           if the actual map has keys between the given bounds.
+     */
+    public SELF hasNoKeysBetween(KEY from, KEY to) {
+        final SortedMap<KEY, VALUE> sorted = actualAsSortedMap();
+        SortedRange.checkBounds(sorted.comparator(), from, to);
+        final List<Tuple2<KEY, VALUE>> found = SortedRange.between(sorted, Tuple2::_1, sorted.comparator(), from, to);
+        if (!found.isEmpty()) throwAssertionError(shouldHaveNoneBetween(actual, "keys", from, to, found));
+        return myself;
+    }
+
+    /**
+     * Verifies that the entries of the actual sorted map whose keys are between the given bounds (inclusive) are exactly
+     * the given entries, in order. Keys are compared with the map's comparator, entries with {@code equals}.
+     * <p>
+     * The map is read in ascending order up to the upper bound only, after checking in O(log n) whether its smallest and
+     * greatest keys leave room for a key in the range.
+     *
+     * @param from    the lower bound.
+     * @param to      the upper bound.
+     * @param entries the expected entries between the bounds, in ascending key order.
+     * @return {@code this} assertions object.
+     * @throws NullPointerException     if the given entries array is {@code null}.
+     * @throws IllegalArgumentException if {@code from} is greater than {@code to}.
+     * @throws AssertionError           if the actual map is {@code null} or is not a {@link SortedMap}.
+     * @throws AssertionError           if the entries between the given bounds are not exactly the given ones.
+     */
+    public SELF containsRange(KEY from, KEY to, @SuppressWarnings("unchecked") Tuple2<KEY, VALUE>... entries) {
+        requireNonNull(entries, "The array of entries to look for should not be null");
+        final SortedMap<KEY, VALUE> sorted = actualAsSortedMap();
+        SortedRange.checkBounds(sorted.comparator(), from, to);
+        final List<Tuple2<KEY, VALUE>> found = SortedRange.between(sorted, Tuple2::_1, sorted.comparator(), from, to);
+        if (!found.equals(asList(entries))) throwAssertionError(shouldContainRange(actual, from, to, entries, found));
+        return myself;
+    }
+
+    /**
+     * Verifies that the entry of the actual sorted map with the greatest key less than or equal to the given key is the
+     * given entry. Keys are compared with the map's comparator, entries with {@code equals}.
+     * <p>
+     * When the given key is not below the greatest key of the map, the floor entry is read in O(log n); otherwise the map
+     * is read in ascending order up to the given key.
+     *
+     * @param key   the given key.
+     * @param entry the expected floor entry.
+     * @return {@code this} assertions object.
+     * @throws AssertionError if the actual map is {@code null} or is not a {@link SortedMap}.
+     * @throws AssertionError if all the keys of the actual map are greater than the given key.
+     * @throws AssertionError if the floor entry of the given key is not the given entry.
+     */
+    public SELF hasFloorEntry(KEY key, Tuple2<KEY, VALUE> entry) {
+        final SortedMap<KEY, VALUE> sorted = actualAsSortedMap();
+        final Option<Tuple2<KEY, VALUE>> floor = SortedRange.floor(sorted, Tuple2::_1, sorted.comparator(), key);
+        if (floor.isEmpty()) throwAssertionError(shouldHaveFloorEntryButNoneFound(actual, key, entry));
+        if (!floor.get().equals(entry)) throwAssertionError(shouldHaveFloorEntry(actual, key, entry, floor.get()));
+        return myself;
+    }
+
     @Override
     public SELF hasSize(int expectedSize) {
         isNotNull();
@@ -421,16 +608,48 @@ abstract class AbstractMapAssert<SELF extends AbstractMapAssert<SELF, ACTUAL, KE
         return myself;
     }
 
+    /**
+     * Use the given custom comparator instead of relying on entries <code>equals</code> method in {@link #contains},
+     * {@link #containsEntry}, {@link #containsAllEntriesOf}, {@link #containsOnly} and {@link #containsExactly}.
+     * <p>
+     * The entries of the actual map and the given ones are sorted with the comparator and merged, so it should define
+     * a consistent order (e.g. compare keys first, then values with a tolerance).
+     *
+     * @param customComparator the comparator to use for incoming assertion checks.
+     * @return {@code this} assertion object.
+     */
     @Override
     public SELF usingElementComparator(Comparator<? super Tuple2<? extends KEY, ? extends VALUE>> customComparator) {
         elementComparisonStrategy = new ComparatorBasedComparisonStrategy(customComparator);
         return myself;
     }
 
+    /**
+     * Use field/property by field/property comparison (including inherited fields/properties) of the entry values, and
+     * <code>equals</code> of the keys, in {@link #contains}, {@link #containsEntry}, {@link #containsAllEntriesOf},
+     * {@link #containsOnly} and {@link #containsExactly}. Private fields are included but this can be disabled using
+     * {@link org.assertj.core.api.Assertions#setAllowExtractingPrivateFields(boolean)}.
+     * <p>
+     * The fields of each value class and their accessors are looked up once and cached, so comparing many entries does
+     * not pay for the introspection again.
+     *
+     * @return {@code this} assertion object.
+     */
+    public SELF usingFieldByFieldValueComparator() {
+        return usingElementComparator(fieldByFieldEntryComparator());
+    }
+
     @Override
     public SELF usingDefaultElementComparator() {
         elementComparisonStrategy = StandardComparisonStrategy.instance();
         return myself;
     }
 
+    @SuppressWarnings("unchecked")
+    private SortedMap<KEY, VALUE> actualAsSortedMap() {
+        isNotNull();
+        if (!(actual instanceof SortedMap)) throwAssertionError(shouldBeInstance(actual, SortedMap.class));
+        return (SortedMap<KEY, VALUE>) actual;
+    }
+
 }
@@ -26,6 +26,8 @@ import org.assertj.core.internal.StandardComparisonStrategy;
 import org.assertj.vavr.internal.Multimaps;
 
 import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.Executor;
 import java.util.function.BiConsumer;
 import java.util.stream.StreamSupport;
 
@@ -42,6 +44,7 @@ import static org.assertj.core.error.ShouldHaveSizeLessThanOrEqualTo.shouldHaveS
 import static org.assertj.core.error.ShouldNotBeEmpty.shouldNotBeEmpty;
 import static org.assertj.core.util.Arrays.array;
 import static org.assertj.core.util.IterableUtil.sizeOf;
+import static org.assertj.vavr.api.TraversableShouldAllSatisfy.shouldAllSatisfy;
 
 abstract class AbstractMultimapAssert<SELF extends AbstractMultimapAssert<SELF, ACTUAL, KEY, VALUE>, ACTUAL extends Multimap<KEY, VALUE>, KEY, VALUE>
         extends AbstractValueAssert<SELF, ACTUAL> implements EnumerableAssert<SELF, Tuple2<? extends KEY, ? extends VALUE>> {
@@ -67,7 +70,7 @@ abstract class AbstractMultimapAssert<SELF extends AbstractMultimapAssert<SELF,
      * @throws AssertionError       if the actual multimap does not contain the given entries.
      */
     public SELF contains(@SuppressWarnings("unchecked") Tuple2<KEY, VALUE>... entries) {
-        multimaps.assertContains(info, actual, entries);
+        multimaps.assertContains(info, actual, entries, elementComparisonStrategy);
         return myself;
     }
 
@@ -101,13 +104,13 @@ abstract class AbstractMultimapAssert<SELF extends AbstractMultimapAssert<SELF,
     @SuppressWarnings("unchecked")
     public SELF containsAllEntriesOf(Iterable<Tuple2<KEY, VALUE>> other) {
         final Tuple2<KEY, VALUE>[] entries = StreamSupport.stream(other.spliterator(), false).toArray(Tuple2[]::new);
-        multimaps.assertContains(info, actual, entries);
+        multimaps.assertContains(info, actual, entries, elementComparisonStrategy);
         return myself;
     }
 
     public SELF containsOnly(Iterable<Tuple2<KEY, VALUE>> entries) {
         isNotNull();
-        multimaps.assertContainsOnly(info, actual, entries);
+        multimaps.assertContainsOnly(info, actual, entries, elementComparisonStrategy);
         return myself;
     }
 
@@ -126,7 +129,7 @@ abstract class AbstractMultimapAssert<SELF extends AbstractMultimapAssert<SELF,
      *                                  or entries are the same but the order is not.
      */
     public SELF containsExactly(@SuppressWarnings("unchecked") Tuple2<? extends KEY, ? extends VALUE>... entries) {
-        multimaps.assertContainsExactly(info, actual, entries);
+        multimaps.assertContainsExactly(info, actual, elementComparisonStrategy, entries);
         return myself;
     }
 
@@ -147,6 +150,50 @@ abstract class AbstractMultimapAssert<SELF extends AbstractMultimapAssert<SELF,
         return myself;
     }
 
+    /**
+     * Verifies that all the actual multimap entries satisfy the given {@code entryRequirements}, checking them in parallel
+     * on the common {@link java.util.concurrent.ForkJoinPool}.
+     * <p>
+     * Unlike {@link #allSatisfy(BiConsumer)}, all entries are checked and every failing entry is reported, in the
+     * iteration order of the actual multimap. The requirements must be safe to run concurrently.
+     * Any exception other than an {@link AssertionError} thrown by the requirements stops the remaining checks and
+     * is rethrown.
+     *
+     * @param entryRequirements the given requirements that each entry must satisfy.
+     * @return {@code this} assertion object.
+     * @throws NullPointerException if the given entryRequirements {@link BiConsumer} is {@code null}.
+     * @throws AssertionError       if the actual multimap is {@code null}.
+     * @throws AssertionError       if one or more entries don't satisfy the given requirements.
+     */
+    public SELF allSatisfyInParallel(BiConsumer<? super KEY, ? super VALUE> entryRequirements) {
+        return allSatisfyInParallel(entryRequirements, ParallelRequirements.defaultExecutor());
+    }
+
+    /**
+     * Verifies that all the actual multimap entries satisfy the given {@code entryRequirements}, checking them in parallel
+     * on the given {@link Executor}.
+     * <p>
+     * All entries are checked and every failing entry is reported, in the iteration order of the actual multimap.
+     * The requirements must be safe to run concurrently.
+     * Any exception other than an {@link AssertionError} thrown by the requirements stops the remaining checks and
+     * is rethrown.
+     *
+     * @param entryRequirements the given requirements that each entry must satisfy.
+     * @param executor          the executor running the checks.
+     * @return {@code this} assertion object.
+     * @throws NullPointerException if the given entryRequirements {@link BiConsumer} or executor is {@code null}.
+     * @throws AssertionError       if the actual multimap is {@code null}.
+     * @throws AssertionError       if one or more entries don't satisfy the given requirements.
+     */
+    public SELF allSatisfyInParallel(BiConsumer<? super KEY, ? super VALUE> entryRequirements, Executor executor) {
+        requireNonNull(entryRequirements, "The BiConsumer<K, V> expressing the assertions requirements must not be null");
+        isNotNull();
+        final List<UnsatisfiedRequirement> failures =
+                ParallelRequirements.check(actual, entry -> entryRequirements.accept(entry._1, entry._2), executor);
+        if (!failures.isEmpty()) throwAssertionError(shouldAllSatisfy(actual.size(), failures));
+        return myself;
+    }
+
     /**
      * Verifies that the actual multimap contains a value for the given {@code key} that satisfies the given {@code valueCondition}.
      *
@@ -173,7 +220,7 @@ abstract class AbstractMultimapAssert<SELF extends AbstractMultimapAssert<SELF,
      * @throws AssertionError if the actual multimap does not contain the given entries.
      */
     public SELF containsEntry(KEY key, VALUE value) {
-        multimaps.assertContains(info, actual, array(Tuple.of(key, value)));
+        multimaps.assertContains(info, actual, array(Tuple.of(key, value)), elementComparisonStrategy);
         return myself;
     }
 
@@ -415,6 +462,16 @@ abstract class AbstractMultimapAssert<SELF extends AbstractMultimapAssert<SELF,
         return myself;
     }
 
+    /**
+     * Use the given custom comparator instead of relying on entries <code>equals</code> method in {@link #contains},
+     * {@link #containsEntry}, {@link #containsAllEntriesOf}, {@link #containsOnly} and {@link #containsExactly}.
+     * <p>
+     * The entries of the actual multimap and the given ones are sorted with the comparator and merged, so it should define
+     * a consistent order (e.g. compare keys first, then values with a tolerance).
+     *
+     * @param customComparator the comparator to use for incoming assertion checks.
+     * @return {@code this} assertion object.
+     */
     @Override
     public SELF usingElementComparator(Comparator<? super Tuple2<? extends KEY, ? extends VALUE>> customComparator) {
         elementComparisonStrategy = new ComparatorBasedComparisonStrategy(customComparator);
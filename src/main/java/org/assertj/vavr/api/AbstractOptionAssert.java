@@ -26,6 +26,7 @@ import java.util.function.Consumer;
 import java.util.function.Function;
 
 import static org.assertj.core.util.Preconditions.checkArgument;
+import static org.assertj.vavr.api.FieldByFieldValueComparator.fieldByFieldValueComparator;
 import static org.assertj.vavr.api.OptionShouldBeEmpty.shouldBeEmpty;
 import static org.assertj.vavr.api.OptionShouldBePresent.shouldBePresent;
 import static org.assertj.vavr.api.OptionShouldContain.shouldContain;
@@ -132,12 +133,15 @@ abstract class AbstractOptionAssert<SELF extends AbstractOptionAssert<SELF, VALU
      * actual type A <code>equals</code> method to compare the {@link Option} value's object for incoming assertion
      * checks. Private fields are included but this can be disabled using
      * {@link Assertions#setAllowExtractingPrivateFields(boolean)}.
+     * <p>
+     * The fields of each value class and their accessors are looked up once and cached, so comparing many values of
+     * the same class does not pay for the introspection again.
      *
      * @return {@code this} assertion object.
      */
     @CheckReturnValue
     public SELF usingFieldByFieldValueComparator() {
-        return usingValueComparator(new FieldByFieldComparator());
+        return usingValueComparator(fieldByFieldValueComparator());
     }
 
     /**
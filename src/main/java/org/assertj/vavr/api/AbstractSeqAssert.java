@@ -15,17 +15,29 @@
  */
 package org.assertj.vavr.api;
 
+import io.vavr.Tuple2;
+import io.vavr.collection.IndexedSeq;
+import io.vavr.collection.Map;
 import io.vavr.collection.Seq;
+import io.vavr.collection.Vector;
 import org.assertj.core.api.AbstractAssert;
 import org.assertj.core.api.Condition;
 import org.assertj.core.api.IndexedObjectEnumerableAssert;
 import org.assertj.core.data.Index;
+import org.assertj.core.error.ErrorMessageFactory;
 import org.assertj.core.internal.ComparatorBasedComparisonStrategy;
 import org.assertj.core.internal.ComparisonStrategy;
 import org.assertj.core.internal.StandardComparisonStrategy;
 import org.assertj.core.util.CheckReturnValue;
+import org.assertj.vavr.internal.Traversables;
 
+import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.SortedMap;
+import java.util.SortedSet;
+import java.util.TreeMap;
 import java.util.function.Consumer;
 
 import static java.lang.String.format;
@@ -34,9 +46,12 @@ import static org.assertj.core.error.ShouldBeSorted.shouldHaveComparableElements
 import static org.assertj.core.error.ShouldContainAtIndex.shouldContainAtIndex;
 import static org.assertj.core.error.ShouldNotBeEmpty.shouldNotBeEmpty;
 import static org.assertj.core.error.ShouldNotContainAtIndex.shouldNotContainAtIndex;
+import static org.assertj.vavr.api.FieldByFieldValueComparator.fieldByFieldValueComparator;
 import static org.assertj.vavr.api.SeqShouldBeAtIndex.shouldBeAtIndex;
 import static org.assertj.vavr.api.SeqShouldBeSorted.*;
+import static org.assertj.vavr.api.SeqShouldContainAtIndices.shouldContainAtIndices;
 import static org.assertj.vavr.api.SeqShouldHaveAtIndex.shouldHaveAtIndex;
+import static org.assertj.vavr.api.SeqShouldSatisfyAtIndices.shouldSatisfyAtIndices;
 
 /**
  * Assertions for {@link Seq}.
@@ -52,6 +67,11 @@ abstract class AbstractSeqAssert<SELF extends AbstractSeqAssert<SELF, ACTUAL, EL
         extends AbstractTraversableAssert<SELF, ACTUAL, ELEMENT, ELEMENT_ASSERT>
         implements IndexedObjectEnumerableAssert<SELF, ELEMENT> {
 
+    @SuppressWarnings("unchecked")
+    private static final Comparator<Object> NATURAL_ORDER = (first, second) -> ((Comparable<Object>) first).compareTo(second);
+
+    private final Traversables traversables = Traversables.instance();
+    private final SortedMap<String, Comparator<?>> comparatorsForElementFieldNames = new TreeMap<>();
     private ComparisonStrategy seqElementComparisonStrategy;
 
     AbstractSeqAssert(ACTUAL elements, Class<?> selfType) {
@@ -73,6 +93,42 @@ abstract class AbstractSeqAssert<SELF extends AbstractSeqAssert<SELF, ACTUAL, EL
         return myself;
     }
 
+    /**
+     * Use field/property by field/property comparison (including inherited fields/properties) instead of relying on
+     * actual type A <code>equals</code> method to compare the {@link Seq} element's object for incoming assertion checks.
+     * Private fields are included but this can be disabled using
+     * {@link org.assertj.core.api.Assertions#setAllowExtractingPrivateFields(boolean)}.
+     * <p>
+     * The comparators registered with {@link #usingComparatorForElementFieldsWithNames(Comparator, String...)} and
+     * {@link #usingComparatorForElementFieldsWithType(Comparator, Class)} are used for the matching fields.
+     * <p>
+     * The fields of each element class and their accessors are looked up once and cached, so comparing many elements
+     * of the same class does not pay for the introspection again.
+     *
+     * @return {@code this} assertion object.
+     */
+    @Override
+    @CheckReturnValue
+    public SELF usingFieldByFieldElementComparator() {
+        return usingElementComparator(fieldByFieldValueComparator(comparatorsForElementFieldNames,
+                                                                  getComparatorsForElementPropertyOrFieldTypes()));
+    }
+
+    @Override
+    @Deprecated
+    @CheckReturnValue
+    public <T> SELF usingComparatorForElementFieldsWithNames(Comparator<T> comparator, String... elementPropertyOrFieldNames) {
+        // kept here too, core does not expose the comparators registered by name
+        for (String elementPropertyOrFieldName : elementPropertyOrFieldNames) {
+            comparatorsForElementFieldNames.put(elementPropertyOrFieldName, comparator);
+        }
+        return super.usingComparatorForElementFieldsWithNames(comparator, elementPropertyOrFieldNames);
+    }
+
+    ComparisonStrategy elementComparisonStrategy() {
+        return seqElementComparisonStrategy;
+    }
+
     /**
      * Verifies that the actual {@link Seq} contains the given object at the given index.
      * <p>
@@ -102,11 +158,10 @@ abstract class AbstractSeqAssert<SELF extends AbstractSeqAssert<SELF, ACTUAL, EL
         isNotNull();
 
         assertNotEmpty();
-        assertIndexIsValid(index);
 
-        Object actualElement = actual.get(index.value);
+        Object actualElement = elementAt(index);
         if (!seqElementComparisonStrategy.areEqual(actualElement, value)) {
-            throwAssertionError(shouldContainAtIndex(actual, value, index, actual.get(index.value)));
+            throwAssertionError(shouldContainAtIndex(actual, value, index, actualElement, seqElementComparisonStrategy));
         }
 
         return myself;
@@ -139,9 +194,8 @@ abstract class AbstractSeqAssert<SELF extends AbstractSeqAssert<SELF, ACTUAL, EL
         isNotNull();
 
         assertNotEmpty();
-        assertIndexIsValid(index);
 
-        Object actualElement = actual.get(index.value);
+        Object actualElement = elementAt(index);
         if (seqElementComparisonStrategy.areEqual(actualElement, value)) {
             throwAssertionError(shouldNotContainAtIndex(actual, value, index));
         }
@@ -167,7 +221,7 @@ abstract class AbstractSeqAssert<SELF extends AbstractSeqAssert<SELF, ACTUAL, EL
         assertConditionIsMetAtIndex(
                 condition,
                 index,
-                () -> throwAssertionError(shouldHaveAtIndex(actual, condition, index, actual.get(index.value)))
+                element -> throwAssertionError(shouldHaveAtIndex(actual, condition, index, element))
         );
 
         return myself;
@@ -191,7 +245,7 @@ abstract class AbstractSeqAssert<SELF extends AbstractSeqAssert<SELF, ACTUAL, EL
         assertConditionIsMetAtIndex(
                 condition,
                 index,
-                () -> throwAssertionError(shouldBeAtIndex(actual, condition, index, actual.get(index.value)))
+                element -> throwAssertionError(shouldBeAtIndex(actual, condition, index, element))
         );
 
         return myself;
@@ -227,14 +281,8 @@ abstract class AbstractSeqAssert<SELF extends AbstractSeqAssert<SELF, ACTUAL, EL
 
         try {
             // sorted assertion is only relevant if elements are Comparable, we assume they are
-            Seq<Comparable<Object>> comparableSequence = actual.map(e -> (Comparable<Object>) e);
-            // array with 0 or 1 element are considered sorted.
-            if (comparableSequence.size() <= 1) return myself;
-            for (int i = 0; i < comparableSequence.size() - 1; i++) {
-                // array is sorted in ascending order iif element i is less or equal than element i+1
-                if (comparableSequence.get(i).compareTo(comparableSequence.get(i + 1)) > 0)
-                    throwAssertionError(shouldBeSorted(i, actual));
-            }
+            assertIsSortedAccordingTo(NATURAL_ORDER, (index, element, nextElement) ->
+                    shouldBeSorted(index, element, nextElement, actual));
         } catch (ClassCastException e) {
             // elements are either not Comparable or not mutually Comparable (e.g. Seq<Object> containing String and Integer)
             throwAssertionError(shouldHaveMutuallyComparableElements(actual));
@@ -296,54 +344,259 @@ abstract class AbstractSeqAssert<SELF extends AbstractSeqAssert<SELF, ACTUAL, EL
     public SELF satisfies(Consumer<? super ELEMENT> requirements, Index index) {
         isNotNull();
         requireNonNull(requirements, "The Consumer expressing the assertions requirements must not be null");
-        assertIndexIsValid(index);
-        requirements.accept(actual.get(index.value));
+        requirements.accept(elementAt(index));
+        return myself;
+    }
+
+    /**
+     * Verifies that the actual {@link Seq} contains the given elements at the given indices.
+     * <p>
+     * All the indices are checked in a single traversal of the sequence, in index order, and every mismatching index is
+     * reported. This assertion succeeds if no element is given.
+     * <p>
+     * Example:
+     * <pre><code class='java'> Seq&lt;Ring&gt; elvesRings = List.of(vilya, nenya, narya);
+     *
+     * // assertion will pass
+     * assertThat(elvesRings).containsAtIndices(HashMap.of(atIndex(0), vilya, atIndex(2), narya));
+     *
+     * // assertion will fail
+     * assertThat(elvesRings).containsAtIndices(HashMap.of(atIndex(0), nenya, atIndex(2), narya));</code></pre>
+     *
+     * @param expected the elements to look for, by index.
+     * @return this assertion object.
+     * @throws AssertionError            if the actual sequence is {@code null}, or is empty while elements are given.
+     * @throws NullPointerException      if the given map or one of its indices is {@code null}.
+     * @throws IndexOutOfBoundsException if one of the given indices is equal to or greater than the size of the actual
+     *                                   sequence.
+     * @throws AssertionError            if the actual sequence does not contain the given elements at the given indices.
+     */
+    public SELF containsAtIndices(Map<Index, ? extends ELEMENT> expected) {
+        isNotNull();
+        requireNonNull(expected, "The elements to look for by index should not be null");
+        if (expected.isEmpty()) return myself;
+        assertNotEmpty();
+
+        final SortedMap<Integer, ELEMENT> expectedByPosition = byPosition(expected);
+        final SortedMap<Integer, ELEMENT> found = elementsAt(expectedByPosition.keySet());
+        final SortedMap<Integer, ELEMENT> mismatches = new TreeMap<>();
+        found.forEach((position, element) -> {
+            if (!seqElementComparisonStrategy.areEqual(element, expectedByPosition.get(position))) {
+                mismatches.put(position, element);
+            }
+        });
+        if (!mismatches.isEmpty()) throwAssertionError(shouldContainAtIndices(actual, expectedByPosition, mismatches));
+        return myself;
+    }
+
+    /**
+     * Verifies that the elements of the actual {@link Seq} at the given indices satisfy the requirements given for
+     * their index.
+     * <p>
+     * All the indices are checked in a single traversal of the sequence, in index order; every requirement is evaluated
+     * and every failing element is reported. This assertion succeeds if no requirement is given.
+     *
+     * @param requirements the requirements for the elements to meet, by index.
+     * @return {@code this} assertion object.
+     * @throws AssertionError            if the actual sequence is {@code null}.
+     * @throws NullPointerException      if the given map, one of its indices or one of its requirements is {@code null}.
+     * @throws IndexOutOfBoundsException if one of the given indices is equal to or greater than the size of the actual
+     *                                   sequence.
+     * @throws AssertionError            if some elements do not satisfy the requirements given for their index.
+     */
+    public SELF satisfiesAtIndices(Map<Index, ? extends Consumer<? super ELEMENT>> requirements) {
+        isNotNull();
+        requireNonNull(requirements, "The requirements by index should not be null");
+        if (requirements.isEmpty()) return myself;
+
+        final SortedMap<Integer, Consumer<? super ELEMENT>> requirementsByPosition = byPosition(requirements);
+        requirementsByPosition.values().forEach(requirement ->
+                requireNonNull(requirement, "The Consumer expressing the assertions requirements must not be null"));
+        final List<UnsatisfiedRequirement> failures = new ArrayList<>();
+        elementsAt(requirementsByPosition.keySet()).forEach((position, element) -> {
+            try {
+                requirementsByPosition.get(position).accept(element);
+            } catch (AssertionError error) {
+                failures.add(new UnsatisfiedRequirement(position, element, error.getMessage()));
+            }
+        });
+        if (!failures.isEmpty()) throwAssertionError(shouldSatisfyAtIndices(actual, failures));
+        return myself;
+    }
+
+    /**
+     * Verifies that the actual {@link Seq} contains the given sequence in the correct order and without extra values
+     * between the sequence values.
+     * <p>
+     * Unless a custom element comparator is used, the sequence is searched with the Knuth-Morris-Pratt algorithm in a
+     * single pass over the actual {@link Seq}, stopping at the first occurrence: the actual {@link Seq} is not copied,
+     * and a lazy {@link io.vavr.collection.Stream} is only evaluated up to the end of the occurrence.
+     *
+     * @param sequence the sequence of objects to look for.
+     * @return {@code this} assertion object.
+     * @throws NullPointerException if the given sequence is {@code null}.
+     * @throws AssertionError       if the actual {@link Seq} is {@code null}.
+     * @throws AssertionError       if the actual {@link Seq} does not contain the given sequence.
+     */
+    @Override
+    public SELF containsSequence(Iterable<? extends ELEMENT> sequence) {
+        if (sequence == null) return super.containsSequence(sequence);
+        traversables.assertContainsSequence(info, actual, Vector.ofAll(sequence).toJavaArray(), iterables);
+        return myself;
+    }
+
+    @Override
+    protected SELF containsSequenceForProxy(ELEMENT[] sequence) {
+        traversables.assertContainsSequence(info, actual, sequence, iterables);
+        return myself;
+    }
+
+    /**
+     * Verifies that the actual {@link Seq} does not contain the given sequence, a sequence being defined as the given
+     * values in the same order and without extra values between them.
+     * <p>
+     * Unless a custom element comparator is used, the sequence is searched in a single pass over the actual
+     * {@link Seq}, stopping at the first occurrence.
+     *
+     * @param sequence the sequence of objects to look for.
+     * @return {@code this} assertion object.
+     * @throws NullPointerException if the given sequence is {@code null}.
+     * @throws AssertionError       if the actual {@link Seq} is {@code null}.
+     * @throws AssertionError       if the actual {@link Seq} contains the given sequence.
+     */
+    @Override
+    public SELF doesNotContainSequence(Iterable<? extends ELEMENT> sequence) {
+        if (sequence == null) return super.doesNotContainSequence(sequence);
+        traversables.assertDoesNotContainSequence(info, actual, Vector.ofAll(sequence).toJavaArray(), iterables);
+        return myself;
+    }
+
+    @Override
+    protected SELF doesNotContainSequenceForProxy(ELEMENT[] sequence) {
+        traversables.assertDoesNotContainSequence(info, actual, sequence, iterables);
         return myself;
     }
 
     private void assertIsSortedAccordingToComparator(Comparator<?> comparator) {
         requireNonNull(comparator, "The given comparator should not be null");
         try {
-            // Empty collections are considered sorted even if comparator can't be applied to their element type
-            // We can't verify that point because of erasure type at runtime.
-            if (actual.isEmpty()) return;
-            Comparator rawComparator = comparator;
-            if (actual.size() == 1) {
-                // Compare unique element with itself to verify that it is compatible with comparator (a ClassCastException is
-                // thrown if not). We have to use a raw comparator to compare the unique element of actual ... :(
-                rawComparator.compare(actual.get(0), actual.get(0));
-                return;
-            }
-            for (int i = 0; i < actual.size() - 1; i++) {
-                // Seq is sorted in comparator defined order if current element is less or equal than next element
-                if (rawComparator.compare(actual.get(i), actual.get(i + 1)) > 0)
-                    throwAssertionError(shouldBeSortedAccordingToGivenComparator(i, actual, comparator));
-            }
+            @SuppressWarnings("unchecked")
+            Comparator<Object> rawComparator = (Comparator<Object>) comparator;
+            assertIsSortedAccordingTo(rawComparator, (index, element, nextElement) ->
+                    shouldBeSortedAccordingToGivenComparator(index, element, nextElement, actual, comparator));
         } catch (ClassCastException e) {
             throwAssertionError(
                     shouldHaveComparableElementsAccordingToGivenComparator(actual, comparator));
         }
     }
 
-    private void assertConditionIsMetAtIndex(Condition<? super ELEMENT> condition, Index index, Runnable errorProvider) {
+    /**
+     * Walks the actual sequence once with its iterator, comparing each element with its successor. Indexed access is
+     * deliberately avoided as {@code get(i)} is linear on {@link io.vavr.collection.List}, {@link io.vavr.collection.Queue}
+     * and {@link io.vavr.collection.Stream}.
+     */
+    private void assertIsSortedAccordingTo(Comparator<Object> comparator, UnsortedElementsErrorFactory errorFactory) {
+        Iterator<? extends ELEMENT> elements = actual.iterator();
+        // Empty sequences are considered sorted even if comparator can't be applied to their element type
+        // We can't verify that point because of erasure type at runtime.
+        if (!elements.hasNext()) return;
+        Object previous = elements.next();
+        if (!elements.hasNext()) {
+            // Compare unique element with itself to verify that it is compatible with comparator (a ClassCastException is
+            // thrown if not).
+            comparator.compare(previous, previous);
+            return;
+        }
+        int index = 0;
+        while (elements.hasNext()) {
+            Object current = elements.next();
+            // Seq is sorted in comparator defined order if current element is less or equal than next element
+            if (comparator.compare(previous, current) > 0) {
+                throwAssertionError(errorFactory.create(index, previous, current));
+            }
+            previous = current;
+            index++;
+        }
+    }
+
+    private void assertConditionIsMetAtIndex(Condition<? super ELEMENT> condition, Index index, Consumer<ELEMENT> errorProvider) {
         isNotNull();
         requireNonNull(condition, "The condition to evaluate should not be null");
 
         assertNotEmpty();
-        assertIndexIsValid(index);
 
-        if (!condition.matches(actual.get(index.value))) {
-            errorProvider.run();
+        final ELEMENT element = elementAt(index);
+        if (!condition.matches(element)) {
+            errorProvider.accept(element);
         }
     }
 
-    private void assertIndexIsValid(Index index) {
+    /**
+     * Returns the element at the given index: linear sequences are walked with their iterator up to the index, so that
+     * their size is only computed when the index is past their end (and an infinite {@link io.vavr.collection.Stream}
+     * is not evaluated beyond the index).
+     */
+    private ELEMENT elementAt(Index index) {
         requireNonNull(index, "Index should not be null");
-        final int maximum = actual.size() - 1;
-        if (index.value > maximum) {
-            String errorMessage = "Index should be between <0> and <%d> (inclusive) but was:%n <%d>";
-            throw new IndexOutOfBoundsException(format(errorMessage, maximum, index.value));
+        if (actual instanceof IndexedSeq) return indexedElementAt(index.value);
+        final Iterator<? extends ELEMENT> iterator = actual.iterator();
+        int position = 0;
+        while (iterator.hasNext()) {
+            final ELEMENT element = iterator.next();
+            if (position == index.value) return element;
+            position++;
         }
+        // the sequence ended before the index, position is now its size
+        throw indexOutOfBounds(index.value, position);
+    }
+
+    /**
+     * Returns the elements at the given positions, visiting the actual sequence at most once in ascending position order:
+     * linear sequences are walked once with their iterator up to the last position, as both {@code size()} and
+     * {@code get(i)} are linear on {@link io.vavr.collection.List}, {@link io.vavr.collection.Queue} and
+     * {@link io.vavr.collection.Stream}.
+     */
+    private SortedMap<Integer, ELEMENT> elementsAt(SortedSet<Integer> positions) {
+        final SortedMap<Integer, ELEMENT> elements = new TreeMap<>();
+        if (actual instanceof IndexedSeq) {
+            indexedElementAt(positions.last());
+            positions.forEach(position -> elements.put(position, actual.get(position)));
+            return elements;
+        }
+        final Iterator<? extends ELEMENT> iterator = actual.iterator();
+        final Iterator<Integer> requested = positions.iterator();
+        int next = requested.next();
+        int position = 0;
+        while (iterator.hasNext()) {
+            final ELEMENT element = iterator.next();
+            if (position == next) {
+                elements.put(position, element);
+                if (!requested.hasNext()) return elements;
+                next = requested.next();
+            }
+            position++;
+        }
+        // the sequence ended before the requested position, position is now its size
+        throw indexOutOfBounds(positions.last(), position);
+    }
+
+    // size() and get(i) take effectively constant time on an IndexedSeq, so the bounds are checked upfront
+    private ELEMENT indexedElementAt(int position) {
+        if (position >= actual.size()) throw indexOutOfBounds(position, actual.size());
+        return actual.get(position);
+    }
+
+    private static IndexOutOfBoundsException indexOutOfBounds(int index, int size) {
+        String errorMessage = "Index should be between <0> and <%d> (inclusive) but was:%n <%d>";
+        return new IndexOutOfBoundsException(format(errorMessage, size - 1, index));
+    }
+
+    private static <T> SortedMap<Integer, T> byPosition(Map<Index, ? extends T> valuesByIndex) {
+        final SortedMap<Integer, T> byPosition = new TreeMap<>();
+        for (Tuple2<Index, ? extends T> entry : valuesByIndex) {
+            byPosition.put(requireNonNull(entry._1, "Index should not be null").value, entry._2);
+        }
+        return byPosition;
     }
 
     private void assertNotEmpty() {
@@ -352,4 +605,9 @@ abstract class AbstractSeqAssert<SELF extends AbstractSeqAssert<SELF, ACTUAL, EL
         }
     }
 
+    @FunctionalInterface
+    private interface UnsortedElementsErrorFactory {
+        ErrorMessageFactory create(int index, Object element, Object nextElement);
+    }
+
 }
@@ -16,9 +16,46 @@
 package org.assertj.vavr.api;
 
 import io.vavr.collection.Set;
+import io.vavr.collection.SortedSet;
 import org.assertj.core.api.AbstractAssert;
 import org.assertj.core.api.EnumerableAssert;
+import org.assertj.core.internal.ComparatorBasedComparisonStrategy;
+import org.assertj.core.internal.ComparisonStrategy;
+import org.assertj.core.internal.StandardComparisonStrategy;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.TreeSet;
+
+import static java.util.Arrays.asList;
+import static java.util.Objects.requireNonNull;
+import static java.util.function.Function.identity;
+import static org.assertj.core.error.ShouldBeInstance.shouldBeInstance;
+import static org.assertj.core.error.ShouldContain.shouldContain;
+import static org.assertj.core.error.ShouldContainOnly.shouldContainOnly;
+import static org.assertj.core.error.ShouldNotBeEmpty.shouldNotBeEmpty;
+import static org.assertj.core.error.ShouldNotContain.shouldNotContain;
+import static org.assertj.vavr.api.SortedShouldHaveBoundary.shouldHaveMaxElement;
+import static org.assertj.vavr.api.SortedShouldHaveBoundary.shouldHaveMinElement;
+import static org.assertj.vavr.api.SortedShouldHaveInRange.shouldContainRange;
+import static org.assertj.vavr.api.SortedShouldHaveInRange.shouldHaveAllBetween;
+import static org.assertj.vavr.api.SortedShouldHaveInRange.shouldHaveNoneBetween;
+
+/**
+ * Assertions for {@link Set}.
+ * <p>
+ * {@link #contains}, {@link #containsOnly} and {@link #doesNotContain} rely on the membership test of the actual set
+ * (hash lookup, or tree lookup for a {@link SortedSet} compared with its own comparator) instead of scanning the set
+ * for each value, whenever that test agrees with the comparison strategy of the assertion.
+ * <p>
+ * Range assertions such as {@link #hasMinElement} or {@link #containsRange} require a {@link SortedSet} and use its
+ * comparator.
+ */
 abstract class AbstractSetAssert<SELF extends AbstractSetAssert<SELF, ACTUAL, ELEMENT, ELEMENT_ASSERT>,
         ACTUAL extends Set<? extends ELEMENT>,
         ELEMENT,
@@ -29,4 +66,202 @@ abstract class AbstractSetAssert<SELF extends AbstractSetAssert<SELF, ACTUAL, EL
     AbstractSetAssert(ACTUAL actual, Class<?> selfType) {
         super(actual, selfType);
     }
+
+    @Override
+    protected SELF containsForProxy(ELEMENT[] values) {
+        if (!usesSetMembership(values)) return super.containsForProxy(values);
+        final LinkedHashSet<Object> notFound = new LinkedHashSet<>();
+        for (ELEMENT value : values) {
+            if (!actualContains(value)) notFound.add(value);
+        }
+        if (!notFound.isEmpty()) throwAssertionError(shouldContain(actual, values, notFound, comparisonStrategy()));
+        return myself;
+    }
+
+    @Override
+    protected SELF containsOnlyForProxy(ELEMENT[] values) {
+        if (!usesSetMembership(values)) return super.containsOnlyForProxy(values);
+        final List<Object> notFound = new ArrayList<>();
+        for (Object value : new LinkedHashSet<>(asList(values))) {
+            if (!actualContains(value)) notFound.add(value);
+        }
+        final Collection<Object> expected = lookupOf(values);
+        final List<Object> notExpected = new ArrayList<>();
+        for (Object element : actual) {
+            if (!expected.contains(element)) notExpected.add(element);
+        }
+        if (!notFound.isEmpty() || !notExpected.isEmpty()) {
+            throwAssertionError(shouldContainOnly(actual, values, notFound, notExpected, comparisonStrategy()));
+        }
+        return myself;
+    }
+
+    @Override
+    protected SELF doesNotContainForProxy(ELEMENT[] values) {
+        if (!usesSetMembership(values)) return super.doesNotContainForProxy(values);
+        final LinkedHashSet<Object> found = new LinkedHashSet<>();
+        for (ELEMENT value : values) {
+            if (actualContains(value)) found.add(value);
+        }
+        if (!found.isEmpty()) throwAssertionError(shouldNotContain(actual, values, found, comparisonStrategy()));
+        return myself;
+    }
+
+    /**
+     * Verifies that the smallest element of the actual sorted set is the given one, according to the set's comparator.
+     * <p>
+     * The smallest element is read from the underlying tree in O(log n), without scanning the set.
+     *
+     * @param element the expected smallest element.
+     * @return {@code this} assertion object.
+     * @throws AssertionError if the actual set is {@code null} or is not a {@link SortedSet}.
+     * @throws AssertionError if the actual set is empty.
+     * @throws AssertionError if the smallest element of the actual set is not the given one.
+     */
+    public SELF hasMinElement(ELEMENT element) {
+        final SortedSet<ELEMENT> sorted = actualAsSortedSet();
+        if (sorted.isEmpty()) throwAssertionError(shouldNotBeEmpty());
+        final ELEMENT min = sorted.head();
+        if (sorted.comparator().compare(min, element) != 0) throwAssertionError(shouldHaveMinElement(actual, element, min));
+        return myself;
+    }
+
+    /**
+     * Verifies that the greatest element of the actual sorted set is the given one, according to the set's comparator.
+     * <p>
+     * The greatest element is read from the underlying tree in O(log n), without scanning the set.
+     *
+     * @param element the expected greatest element.
+     * @return {@code this} assertion object.
+     * @throws AssertionError if the actual set is {@code null} or is not a {@link SortedSet}.
+     * @throws AssertionError if the actual set is empty.
+     * @throws AssertionError if the greatest element of the actual set is not the given one.
+     */
+    public SELF hasMaxElement(ELEMENT element) {
+        final SortedSet<ELEMENT> sorted = actualAsSortedSet();
+        if (sorted.isEmpty()) throwAssertionError(shouldNotBeEmpty());
+        final ELEMENT max = sorted.last();
+        if (sorted.comparator().compare(max, element) != 0) throwAssertionError(shouldHaveMaxElement(actual, element, max));
+        return myself;
+    }
+
+    /**
+     * Verifies that all the elements of the actual sorted set are between the given bounds (inclusive), according to the
+     * set's comparator. This assertion succeeds if the actual set is empty.
+     * <p>
+     * Only the smallest and the greatest elements are checked, in O(log n).
+     *
+     * @param from the lower bound.
+     * @param to   the upper bound.
+     * @return {@code this} assertion object.
+     * @throws IllegalArgumentException if {@code from} is greater than {@code to}.
+     * @throws AssertionError           if the actual set is {@code null} or is not a {@link SortedSet}.
+     * @throws AssertionError           if some elements of the actual set are not between the given bounds.
+     */
+    public SELF hasAllElementsBetween(ELEMENT from, ELEMENT to) {
+        final SortedSet<ELEMENT> sorted = actualAsSortedSet();
+        SortedRange.checkBounds(sorted.comparator(), from, to);
+        final List<ELEMENT> outside = SortedRange.outside(sorted, identity(), sorted.comparator(), from, to);
+        if (!outside.isEmpty()) throwAssertionError(shouldHaveAllBetween(actual, "elements", from, to, outside));
+        return myself;
+    }
+
+    /**
+     * Verifies that the actual sorted set has no element between the given bounds (inclusive), according to the set's
+     * comparator.
+     * <p>
+     * The set is read in ascending order up to the upper bound only, after checking in O(log n) whether its smallest and
+     * greatest elements leave room for an element in the range.
+     *
+     * @param from the lower bound.
+     * @param to   the upper bound.
+     * @return {@code this} assertion object.
+     * @throws IllegalArgumentException if {@code from} is greater than {@code to}.
+     * @throws AssertionError           if the actual set is {@code null} or is not a {@link SortedSet}.
+     * @throws AssertionError           if the actual set has elements between the given bounds.
+     */
+    public SELF hasNoElementsBetween(ELEMENT from, ELEMENT to) {
+        final SortedSet<ELEMENT> sorted = actualAsSortedSet();
+        SortedRange.checkBounds(sorted.comparator(), from, to);
+        final List<ELEMENT> found = SortedRange.between(sorted, identity(), sorted.comparator(), from, to);
+        if (!found.isEmpty()) throwAssertionError(shouldHaveNoneBetween(actual, "elements", from, to, found));
+        return myself;
+    }
+
+    /**
+     * Verifies that the elements of the actual sorted set between the given bounds (inclusive) are exactly the given
+     * values, in order, according to the set's comparator.
+     * <p>
+     * The set is read in ascending order up to the upper bound only, after checking in O(log n) whether its smallest and
+     * greatest elements leave room for an element in the range.
+     *
+     * @param from   the lower bound.
+     * @param to     the upper bound.
+     * @param values the expected elements between the bounds, in ascending order.
+     * @return {@code this} assertion object.
+     * @throws NullPointerException     if the given values array is {@code null}.
+     * @throws IllegalArgumentException if {@code from} is greater than {@code to}.
+     * @throws AssertionError           if the actual set is {@code null} or is not a {@link SortedSet}.
+     * @throws AssertionError           if the elements between the given bounds are not exactly the given values.
+     */
+    public SELF containsRange(ELEMENT from, ELEMENT to, @SuppressWarnings("unchecked") ELEMENT... values) {
+        requireNonNull(values, "The array of values to look for should not be null");
+        final SortedSet<ELEMENT> sorted = actualAsSortedSet();
+        final Comparator<? super ELEMENT> comparator = sorted.comparator();
+        SortedRange.checkBounds(comparator, from, to);
+        final List<ELEMENT> found = SortedRange.between(sorted, identity(), comparator, from, to);
+        if (!sameElements(found, values, comparator)) throwAssertionError(shouldContainRange(actual, from, to, values, found));
+        return myself;
+    }
+
+    /**
+     * The membership test of the actual set can replace a scan when it compares elements the same way as the assertion:
+     * with {@code equals} for unsorted sets under the standard strategy, or with the set's own comparator for sorted
+     * sets. Null and empty arguments, as well as array values (compared by content), are left to the default checks.
+     */
+    private boolean usesSetMembership(ELEMENT[] values) {
+        if (actual == null || values == null || values.length == 0) return false;
+        for (ELEMENT value : values) {
+            if (value != null && value.getClass().isArray()) return false;
+        }
+        final ComparisonStrategy comparisonStrategy = comparisonStrategy();
+        if (actual instanceof SortedSet) {
+            return comparisonStrategy instanceof ComparatorBasedComparisonStrategy
+                    && ((ComparatorBasedComparisonStrategy) comparisonStrategy).getComparator() == ((SortedSet<?>) actual).comparator();
+        }
+        return comparisonStrategy instanceof StandardComparisonStrategy;
+    }
+
+    @SuppressWarnings("unchecked")
+    private boolean actualContains(Object value) {
+        return ((Set<Object>) actual).contains(value);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Collection<Object> lookupOf(ELEMENT[] values) {
+        final Collection<Object> lookup = actual instanceof SortedSet
+                ? new TreeSet<>((Comparator<Object>) ((SortedSet<?>) actual).comparator())
+                : new HashSet<>();
+        Collections.addAll(lookup, values);
+        return lookup;
+    }
+
+    private static <T> boolean sameElements(List<T> found, T[] values, Comparator<? super T> comparator) {
+        if (found.size() != values.length) return false;
+        for (int i = 0; i < values.length; i++) {
+            if (comparator.compare(found.get(i), values[i]) != 0) return false;
+        }
+        return true;
+    }
+
+    @SuppressWarnings("unchecked")
+    private SortedSet<ELEMENT> actualAsSortedSet() {
+        isNotNull();
+        if (!(actual instanceof SortedSet)) throwAssertionError(shouldBeInstance(actual, SortedSet.class));
+        return (SortedSet<ELEMENT>) actual;
+    }
+
+    private ComparisonStrategy comparisonStrategy() {
+        return iterables.getComparisonStrategy();
+    }
 }
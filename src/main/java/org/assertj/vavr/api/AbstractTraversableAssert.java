@@ -20,6 +20,14 @@ import org.assertj.core.api.AbstractAssert;
 import org.assertj.core.api.AbstractIterableAssert;
 import org.assertj.core.api.WritableAssertionInfo;
 import org.assertj.core.internal.Objects;
+import org.assertj.vavr.internal.Traversables;
+
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+
+import static java.util.Objects.requireNonNull;
+import static org.assertj.vavr.api.TraversableShouldAllSatisfy.shouldAllSatisfy;
 
 abstract class AbstractTraversableAssert<SELF extends AbstractTraversableAssert<SELF, ACTUAL, ELEMENT, ELEMENT_ASSERT>,
         ACTUAL extends Traversable<? extends ELEMENT>,
@@ -28,14 +36,74 @@ abstract class AbstractTraversableAssert<SELF extends AbstractTraversableAssert<
         extends AbstractIterableAssert<SELF, ACTUAL, ELEMENT, ELEMENT_ASSERT>
         implements AbstractVavrAssert<SELF, ACTUAL> {
 
+    private final Traversables traversables = Traversables.instance();
     private Objects objects = Objects.instance();
 
     AbstractTraversableAssert(ACTUAL actual, Class<?> selfType) {
         super(actual, selfType);
+        VavrRepresentation.useByDefault(info);
     }
 
+    /**
+     * Verifies that the actual collection contains exactly the given values and nothing else, in any order.
+     * <p>
+     * Unless a custom element comparator is used, occurrences are counted by hash, so the check runs in linear time
+     * even for large collections. Missing and unexpected values are reported as many times as they are missing or
+     * unexpected.
+     *
+     * @param values the given values.
+     * @return {@code this} assertion object.
+     * @throws NullPointerException if the given values are {@code null}.
+     * @throws AssertionError       if the actual collection is {@code null}.
+     * @throws AssertionError       if the actual collection does not contain exactly the given values.
+     */
     public SELF containsExactlyInAnyOrder(Traversable<ELEMENT> values) {
-        this.iterables.assertContainsExactlyInAnyOrder(this.info, this.actual, values.toJavaArray());
+        requireNonNull(values, "The values to look for should not be null");
+        traversables.assertContainsExactlyInAnyOrder(info, actual, values.toJavaArray(), iterables);
+        return myself;
+    }
+
+    /**
+     * Verifies that all the elements of the actual collection satisfy the given requirements, checking them in
+     * parallel on the common {@link java.util.concurrent.ForkJoinPool}.
+     * <p>
+     * Unlike {@link #allSatisfy(Consumer)}, all elements are checked and every failing element is reported with its
+     * index, in the iteration order of the actual collection. The requirements must be safe to run concurrently.
+     * Any exception other than an {@link AssertionError} thrown by the requirements stops the remaining checks and
+     * is rethrown.
+     *
+     * @param requirements the given requirements that each element must satisfy.
+     * @return {@code this} assertion object.
+     * @throws NullPointerException if the given requirements are {@code null}.
+     * @throws AssertionError       if the actual collection is {@code null}.
+     * @throws AssertionError       if one or more elements don't satisfy the given requirements.
+     */
+    public SELF allSatisfyInParallel(Consumer<? super ELEMENT> requirements) {
+        return allSatisfyInParallel(requirements, ParallelRequirements.defaultExecutor());
+    }
+
+    /**
+     * Verifies that all the elements of the actual collection satisfy the given requirements, checking them in
+     * parallel on the given {@link Executor}.
+     * <p>
+     * All elements are checked and every failing element is reported with its index, in the iteration order of the
+     * actual collection. The requirements must be safe to run concurrently.
+     * Any exception other than an {@link AssertionError} thrown by the requirements stops the remaining checks and
+     * is rethrown.
+     *
+     * @param requirements the given requirements that each element must satisfy.
+     * @param executor     the executor running the checks.
+     * @return {@code this} assertion object.
+     * @throws NullPointerException if the given requirements or executor are {@code null}.
+     * @throws AssertionError       if the actual collection is {@code null}.
+     * @throws AssertionError       if one or more elements don't satisfy the given requirements.
+     */
+    public SELF allSatisfyInParallel(Consumer<? super ELEMENT> requirements, Executor executor) {
+        requireNonNull(requirements, "The Consumer<T> expressing the assertions requirements must not be null");
+        isNotNull();
+        final List<UnsatisfiedRequirement> failures =
+                ParallelRequirements.check(actual, requirements, executor);
+        if (!failures.isEmpty()) throwAssertionError(shouldAllSatisfy(actual.size(), failures));
         return myself;
     }
 
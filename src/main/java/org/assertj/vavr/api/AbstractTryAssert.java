@@ -16,7 +16,9 @@
 package org.assertj.vavr.api;
 
 import io.vavr.control.Try;
+import org.assertj.core.api.AbstractAssert;
 import org.assertj.core.api.Condition;
+import org.assertj.core.api.InstanceOfAssertFactory;
 import org.assertj.core.internal.*;
 import org.assertj.core.util.CheckReturnValue;
 
@@ -26,6 +28,7 @@ import java.util.function.Function;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.util.Preconditions.checkArgument;
+import static org.assertj.vavr.api.FieldByFieldValueComparator.fieldByFieldValueComparator;
 import static org.assertj.vavr.api.TryShouldBeFailure.shouldBeFailure;
 import static org.assertj.vavr.api.TryShouldBeSuccess.shouldBeSuccess;
 import static org.assertj.vavr.api.TryShouldContain.shouldContain;
@@ -134,12 +137,15 @@ abstract class AbstractTryAssert<SELF extends AbstractTryAssert<SELF, VALUE>, VA
      * actual type A <code>equals</code> method to compare the {@link io.vavr.control.Try} value's object for incoming assertion
      * checks. Private fields are included but this can be disabled using
      * {@link org.assertj.core.api.Assertions#setAllowExtractingPrivateFields(boolean)}.
+     * <p>
+     * The fields of each value class and their accessors are looked up once and cached, so comparing many values of
+     * the same class does not pay for the introspection again.
      *
      * @return {@code this} assertion object.
      */
     @CheckReturnValue
     public SELF usingFieldByFieldValueComparator() {
-        return usingValueComparator(new FieldByFieldComparator());
+        return usingValueComparator(fieldByFieldValueComparator());
     }
 
     /**
@@ -214,6 +220,27 @@ abstract class AbstractTryAssert<SELF extends AbstractTryAssert<SELF, VALUE>, VA
         return VavrAssertions.assertThat(actual.map(mapper));
     }
 
+    /**
+     * Verifies that the actual {@link io.vavr.control.Try} is a succeeded {@code Try} and returns a new assertion for
+     * its value, narrowed by the given {@link InstanceOfAssertFactory}.
+     * <p>
+     * Example:
+     * <pre><code class='java'> assertThat(Try.of(() -&gt; List.of("frodo", "sam")))
+     *     .get(VavrInstanceOfAssertFactories.seq(String.class))
+     *     .containsExactly("frodo", "sam");</code></pre>
+     *
+     * @param <ASSERT>      the type of the resulting {@code Assert}.
+     * @param assertFactory the factory which verifies the type of the value and creates the new {@code Assert}.
+     * @return a new narrowed {@link org.assertj.core.api.Assert Assert} instance for assertions chaining on the value.
+     * @throws NullPointerException if the given factory is {@code null}.
+     * @throws AssertionError       if the actual {@link io.vavr.control.Try} is null or a failed {@code Try}.
+     */
+    @CheckReturnValue
+    public <ASSERT extends AbstractAssert<?, ?>> ASSERT get(InstanceOfAssertFactory<?, ASSERT> assertFactory) {
+        assertIsSuccess();
+        return assertThat((Object) actual.get()).asInstanceOf(assertFactory);
+    }
+
     /**
      * Verifies that the actual {@link io.vavr.control.Try} fails because of specific {@link java.lang.Throwable}.
      *
@@ -20,7 +20,6 @@ import org.assertj.core.api.Condition;
 import org.assertj.core.internal.ComparatorBasedComparisonStrategy;
 import org.assertj.core.internal.ComparisonStrategy;
 import org.assertj.core.internal.Conditions;
-import org.assertj.core.internal.FieldByFieldComparator;
 import org.assertj.core.internal.StandardComparisonStrategy;
 import org.assertj.core.util.CheckReturnValue;
 
@@ -28,6 +27,7 @@ import java.util.Comparator;
 import java.util.function.Consumer;
 
 import static org.assertj.core.util.Preconditions.checkArgument;
+import static org.assertj.vavr.api.FieldByFieldValueComparator.fieldByFieldValueComparator;
 import static org.assertj.vavr.api.ValidationShouldBeInvalid.shouldBeInvalid;
 import static org.assertj.vavr.api.ValidationShouldBeValid.shouldBeValid;
 import static org.assertj.vavr.api.ValidationShouldContain.*;
@@ -240,12 +240,15 @@ abstract class AbstractValidationAssert<SELF extends AbstractValidationAssert<SE
      * actual type A <code>equals</code> method to compare the {@link io.vavr.control.Validation} value's object for incoming assertion
      * checks. Private fields are included but this can be disabled using
      * {@link org.assertj.core.api.Assertions#setAllowExtractingPrivateFields(boolean)}.
+     * <p>
+     * The fields of each value class and their accessors are looked up once and cached, so comparing many values of
+     * the same class does not pay for the introspection again.
      *
      * @return {@code this} assertion object.
      */
     @CheckReturnValue
     public SELF usingFieldByFieldValueComparator() {
-        return usingValueComparator(new FieldByFieldComparator());
+        return usingValueComparator(fieldByFieldValueComparator());
     }
 
     /**
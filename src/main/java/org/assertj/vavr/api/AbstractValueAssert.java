@@ -27,6 +27,7 @@ class AbstractValueAssert<SELF extends AbstractValueAssert<SELF, ACTUAL>, ACTUAL
 
     AbstractValueAssert(ACTUAL actual, Class<?> selfType) {
         super(actual, selfType);
+        VavrRepresentation.useByDefault(info);
     }
 
     public ACTUAL actual() {
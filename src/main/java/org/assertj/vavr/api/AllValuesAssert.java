@@ -0,0 +1,206 @@
+/*
+ * Copyright 2017-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.vavr.api;
+
+import io.vavr.Lazy;
+import io.vavr.Value;
+import io.vavr.collection.Traversable;
+import io.vavr.concurrent.Future;
+import io.vavr.control.Either;
+import io.vavr.control.Try;
+import io.vavr.control.Validation;
+import org.assertj.core.api.AbstractAssert;
+import org.assertj.core.api.WritableAssertionInfo;
+import org.assertj.core.internal.Objects;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+
+import static java.util.Objects.requireNonNull;
+import static org.assertj.vavr.api.AllValuesShouldBe.shouldAllBe;
+
+/**
+ * Bulk assertions for a collection of Vavr values such as {@link io.vavr.control.Option}, {@link Try},
+ * {@link Either} or {@link Validation}.
+ * <p>
+ * Each assertion scans the collection once and checks the elements directly, without creating an assertion object
+ * per element, which makes it suitable for collections of millions of values. The failing elements are reported with
+ * their index, the first 100 of them in full.
+ *
+ * @param <VALUE> type of the values held by the elements, e.g. the success type of a {@link Try} or the right type
+ *                of an {@link Either}.
+ */
+public class AllValuesAssert<VALUE> extends AbstractAssert<AllValuesAssert<VALUE>, Traversable<? extends Value<VALUE>>>
+        implements AbstractVavrAssert<AllValuesAssert<VALUE>, Traversable<? extends Value<VALUE>>> {
+
+    private Objects objects = Objects.instance();
+
+    AllValuesAssert(Traversable<? extends Value<VALUE>> actual) {
+        super(actual, AllValuesAssert.class);
+        VavrRepresentation.useByDefault(info);
+    }
+
+    /**
+     * Verifies that all the elements hold a value: defined {@code Option}s, successful {@code Try}s, right
+     * {@code Either}s, valid {@code Validation}s, evaluated {@code Lazy}s or successfully completed {@code Future}s.
+     * Neither {@code Lazy}s are evaluated nor {@code Future}s awaited.
+     *
+     * @return this assertion object.
+     * @throws AssertionError if the actual collection is {@code null} or if some elements do not hold a value.
+     */
+    public AllValuesAssert<VALUE> allDefined() {
+        return allMatch(AllValuesAssert::holdsValue, "defined");
+    }
+
+    /**
+     * Verifies that all the elements are successful {@link Try}s.
+     *
+     * @return this assertion object.
+     * @throws AssertionError if the actual collection is {@code null} or if some elements are not successful {@link Try}s.
+     */
+    public AllValuesAssert<VALUE> allSuccess() {
+        return allMatch(value -> value instanceof Try && ((Try<?>) value).isSuccess(), "successful Try");
+    }
+
+    /**
+     * Verifies that all the elements are right {@link Either}s.
+     *
+     * @return this assertion object.
+     * @throws AssertionError if the actual collection is {@code null} or if some elements are not right {@link Either}s.
+     */
+    public AllValuesAssert<VALUE> allRight() {
+        return allMatch(value -> value instanceof Either && ((Either<?, ?>) value).isRight(), "right Either");
+    }
+
+    /**
+     * Verifies that all the elements are valid {@link Validation}s.
+     *
+     * @return this assertion object.
+     * @throws AssertionError if the actual collection is {@code null} or if some elements are not valid
+     *                        {@link Validation}s.
+     */
+    public AllValuesAssert<VALUE> allValid() {
+        return allMatch(value -> value instanceof Validation && ((Validation<?, ?>) value).isValid(), "valid Validation");
+    }
+
+    /**
+     * Verifies that none of the elements is a {@link Try} that failed with an exception of the given type or one of
+     * its subtypes.
+     *
+     * @param exceptionType the type of the failures to look for.
+     * @return this assertion object.
+     * @throws NullPointerException if the given type is {@code null}.
+     * @throws AssertionError       if the actual collection is {@code null} or if some elements failed with the given
+     *                              type.
+     */
+    public AllValuesAssert<VALUE> noneFailedWith(Class<? extends Throwable> exceptionType) {
+        requireNonNull(exceptionType, "The expected exception type should not be null");
+        return allMatch(value -> !(value instanceof Try) || ((Try<?>) value).isSuccess()
+                                 || !exceptionType.isInstance(((Try<?>) value).getCause()),
+                        "not failed with " + exceptionType.getName());
+    }
+
+    /**
+     * Verifies that all the elements hold a value matching the given predicate. Elements that do not hold a value,
+     * as defined by {@link #allDefined()}, do not match.
+     *
+     * @param predicate the predicate the values must match.
+     * @return this assertion object.
+     * @throws NullPointerException if the given predicate is {@code null}.
+     * @throws AssertionError       if the actual collection is {@code null} or if some elements do not hold a value
+     *                              matching the given predicate.
+     */
+    public AllValuesAssert<VALUE> allValuesMatch(Predicate<? super VALUE> predicate) {
+        return allValuesMatch(predicate, "holding a value matching given predicate");
+    }
+
+    /**
+     * Verifies that all the elements hold a value matching the given predicate, the description of which is used in
+     * the error message.
+     *
+     * @param predicate   the predicate the values must match.
+     * @param description the description of the predicate.
+     * @return this assertion object.
+     * @throws NullPointerException if the given predicate or description is {@code null}.
+     * @throws AssertionError       if the actual collection is {@code null} or if some elements do not hold a value
+     *                              matching the given predicate.
+     */
+    public AllValuesAssert<VALUE> allValuesMatch(Predicate<? super VALUE> predicate, String description) {
+        requireNonNull(predicate, "The predicate should not be null");
+        requireNonNull(description, "The predicate description should not be null");
+        return allMatch(value -> holdsValue(value) && predicate.test(value.get()), description);
+    }
+
+    @Override
+    public Traversable<? extends Value<VALUE>> actual() {
+        return actual;
+    }
+
+    @Override
+    public AllValuesAssert<VALUE> withAssertionState(@SuppressWarnings("rawtypes") AbstractVavrAssert assertInstance) {
+        this.objects = assertInstance.objects();
+        propagateAssertionInfoFrom(assertInstance);
+        return myself;
+    }
+
+    @Override
+    public Objects objects() {
+        return objects;
+    }
+
+    @Override
+    public WritableAssertionInfo info() {
+        return info;
+    }
+
+    private void propagateAssertionInfoFrom(AbstractVavrAssert<?, ?> assertInstance) {
+        this.info.useRepresentation(assertInstance.info().representation());
+        this.info.description(assertInstance.info().description());
+        this.info.overridingErrorMessage(assertInstance.info().overridingErrorMessage());
+    }
+
+    /**
+     * Tells whether the given element holds a value without computing it: {@link Value#isEmpty()} is always
+     * {@code false} for a {@link Lazy}, and blocks until a {@link Future} completes.
+     */
+    private static boolean holdsValue(Value<?> value) {
+        if (value == null) return false;
+        if (value instanceof Lazy) return ((Lazy<?>) value).isEvaluated();
+        if (value instanceof Future) return ((Future<?>) value).isSuccess();
+        return !value.isEmpty();
+    }
+
+    private AllValuesAssert<VALUE> allMatch(Predicate<? super Value<VALUE>> condition, String expectation) {
+        isNotNull();
+        final List<Integer> reportedIndices = new ArrayList<>();
+        final List<Object> reportedElements = new ArrayList<>();
+        int failures = 0;
+        int index = 0;
+        for (Value<VALUE> element : actual) {
+            if (!condition.test(element)) {
+                if (failures < AllValuesShouldBe.MAX_REPORTED_ELEMENTS) {
+                    reportedIndices.add(index);
+                    reportedElements.add(element);
+                }
+                failures++;
+            }
+            index++;
+        }
+        if (failures > 0) throwAssertionError(shouldAllBe(index, expectation, reportedIndices, reportedElements, failures));
+        return myself;
+    }
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright 2017-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.vavr.api;
+
+import org.assertj.core.error.BasicErrorMessageFactory;
+import org.assertj.core.error.ErrorMessageFactory;
+
+import java.util.List;
+
+import static org.assertj.core.util.Strings.escapePercent;
+
+/**
+ * Builds error message when some elements of a collection of values do not meet an expectation. The failing elements
+ * are listed with their index, up to {@link #MAX_REPORTED_ELEMENTS}, followed by the number of the other ones. The
+ * collection itself is only described by its size, so that the message stays bounded whatever its length.
+ */
+class AllValuesShouldBe extends BasicErrorMessageFactory {
+
+    /**
+     * Maximum number of failing elements listed in the error message.
+     */
+    static final int MAX_REPORTED_ELEMENTS = 100;
+
+    private AllValuesShouldBe(int size, String expectation, List<Integer> indices, List<Object> elements,
+                              int failures) {
+        super(template(size, expectation, indices, failures), elements.toArray());
+    }
+
+    private static String template(int size, String expectation, List<Integer> indices, int failures) {
+        final StringBuilder template = new StringBuilder("%nExpecting all elements of a collection of size ")
+                .append(size).append("%n")
+                .append("to be ").append(escapePercent(expectation)).append(", but these ").append(failures)
+                .append(" element(s) were not:%n");
+        for (Integer index : indices) {
+            template.append("%n  [").append(index).append("] %s");
+        }
+        if (failures > indices.size()) template.append("%n  ... and ").append(failures - indices.size()).append(" more");
+        return template.toString();
+    }
+
+    /**
+     * Indicates that some elements of a collection do not meet an expectation.
+     *
+     * @param size        the number of elements of the actual collection.
+     * @param expectation the description of what the elements should be.
+     * @param indices     the indices of the reported failing elements.
+     * @param elements    the reported failing elements.
+     * @param failures    the total number of failing elements.
+     * @return an error message factory.
+     */
+    static ErrorMessageFactory shouldAllBe(int size, String expectation, List<Integer> indices, List<Object> elements,
+                                           int failures) {
+        return new AllValuesShouldBe(size, expectation, indices, elements, failures);
+    }
+}
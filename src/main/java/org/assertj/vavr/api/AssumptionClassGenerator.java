@@ -0,0 +1,48 @@
+/*
+ * Copyright 2017-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.vavr.api;
+
+import java.io.File;
+import java.io.IOException;
+
+/**
+ * Generates the assumption classes of {@link VavrAssumptions} into a class directory, so that they are shipped with
+ * the library instead of being generated the first time an assumption is used.
+ * <p>
+ * Launched by the build in a separate JVM after compilation, with the output directory as the only argument. Not part
+ * of the API, hence package-private.
+ */
+final class AssumptionClassGenerator {
+
+    private AssumptionClassGenerator() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 1) {
+            throw new IllegalArgumentException("Expected the output directory as the only argument");
+        }
+        generateInto(new File(args[0]));
+    }
+
+    static void generateInto(File outputDirectory) throws IOException {
+        for (Class<?> assertionType : VavrAssumptions.PRE_GENERATED_TYPES) {
+            VavrAssumptions.assumptionClassBuilder(assertionType)
+                    .name(VavrAssumptions.preGeneratedName(assertionType))
+                    .make()
+                    .saveIn(outputDirectory);
+        }
+    }
+}
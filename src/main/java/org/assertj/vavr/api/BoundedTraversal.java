@@ -0,0 +1,98 @@
+/*
+ * Copyright 2017-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.vavr.api;
+
+import io.vavr.control.Option;
+import org.assertj.core.error.ErrorMessageFactory;
+import org.assertj.core.internal.ComparisonStrategy;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static java.util.Objects.requireNonNull;
+import static org.assertj.core.util.Preconditions.checkArgument;
+import static org.assertj.vavr.api.StreamShouldContainWithinFirst.shouldContainWithinFirst;
+import static org.assertj.vavr.api.StreamShouldSatisfyInFirst.shouldSatisfyInFirst;
+import static org.assertj.vavr.api.StreamShouldStartWith.shouldStartWith;
+import static org.assertj.vavr.api.StreamShouldStartWith.shouldStartWithButEnded;
+
+/**
+ * Checks over the leading elements of a lazily evaluated sequence that pull no more elements from the given iterator
+ * than required to reach a verdict.
+ * <p>
+ * The bound is always checked before {@link Iterator#hasNext()}, since for lazy sequences asking for the next element
+ * is what forces it.
+ */
+final class BoundedTraversal {
+
+    private BoundedTraversal() {
+    }
+
+    static <T> Option<ErrorMessageFactory> startsWith(Object actual, Iterator<? extends T> elements, T[] sequence,
+                                                      ComparisonStrategy comparisonStrategy) {
+        requireNonNull(sequence, "The sequence to look for should not be null");
+        checkArgument(sequence.length > 0, "The sequence to look for should not be empty");
+        int index = 0;
+        while (index < sequence.length && elements.hasNext()) {
+            final T element = elements.next();
+            if (!comparisonStrategy.areEqual(element, sequence[index])) {
+                return Option.some(shouldStartWith(actual, sequence, index, element, index + 1));
+            }
+            index++;
+        }
+        return index < sequence.length ? Option.some(shouldStartWithButEnded(actual, sequence, index)) : Option.none();
+    }
+
+    static <T> Option<ErrorMessageFactory> containsWithinFirst(Object actual, Iterator<? extends T> elements, int limit,
+                                                               T[] values, ComparisonStrategy comparisonStrategy) {
+        checkLimit(limit);
+        requireNonNull(values, "The array of values to look for should not be null");
+        final List<T> notFound = new ArrayList<>(Arrays.asList(values));
+        int evaluated = 0;
+        while (!notFound.isEmpty() && evaluated < limit && elements.hasNext()) {
+            final T element = elements.next();
+            evaluated++;
+            notFound.removeIf(value -> comparisonStrategy.areEqual(element, value));
+        }
+        return notFound.isEmpty()
+                ? Option.none()
+                : Option.some(shouldContainWithinFirst(actual, limit, values, notFound, evaluated));
+    }
+
+    static <T> Option<ErrorMessageFactory> allSatisfyInFirst(Object actual, Iterator<? extends T> elements, int limit,
+                                                             Consumer<? super T> requirements) {
+        checkLimit(limit);
+        requireNonNull(requirements, "The Consumer<T> expressing the assertions requirements must not be null");
+        int index = 0;
+        while (index < limit && elements.hasNext()) {
+            final T element = elements.next();
+            try {
+                requirements.accept(element);
+            } catch (AssertionError error) {
+                return Option.some(shouldSatisfyInFirst(actual, limit, index, element, error.getMessage(), index + 1));
+            }
+            index++;
+        }
+        return Option.none();
+    }
+
+    private static void checkLimit(int limit) {
+        checkArgument(limit >= 0, "The number of elements to evaluate should not be negative but was: %s", limit);
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright 2017-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.vavr.api;
+
+/**
+ * Complexity classes of an operation, from the slowest-growing to the fastest-growing, used by
+ * {@link ComplexityAssert#scalesAtMost(Complexity)}.
+ */
+public enum Complexity {
+
+    /**
+     * O(1).
+     */
+    CONSTANT("O(1)") {
+        @Override
+        double growth(int size) {
+            return 1;
+        }
+    },
+    /**
+     * O(log n).
+     */
+    LOGARITHMIC("O(log n)") {
+        @Override
+        double growth(int size) {
+            return log2(size);
+        }
+    },
+    /**
+     * O(n).
+     */
+    LINEAR("O(n)") {
+        @Override
+        double growth(int size) {
+            return size;
+        }
+    },
+    /**
+     * O(n log n).
+     */
+    LINEARITHMIC("O(n log n)") {
+        @Override
+        double growth(int size) {
+            return size * log2(size);
+        }
+    },
+    /**
+     * O(n^2).
+     */
+    QUADRATIC("O(n^2)") {
+        @Override
+        double growth(int size) {
+            return (double) size * size;
+        }
+    };
+
+    private final String notation;
+
+    Complexity(String notation) {
+        this.notation = notation;
+    }
+
+    /**
+     * Returns how the cost of an operation of this complexity grows with the size of its input, up to a constant
+     * factor.
+     */
+    abstract double growth(int size);
+
+    private static double log2(int size) {
+        return Math.log(Math.max(size, 2)) / Math.log(2);
+    }
+
+    @Override
+    public String toString() {
+        return notation;
+    }
+}
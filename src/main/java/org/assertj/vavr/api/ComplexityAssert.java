@@ -0,0 +1,158 @@
+/*
+ * Copyright 2017-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.vavr.api;
+
+import org.assertj.core.api.AbstractAssert;
+
+import java.util.function.Function;
+import java.util.function.IntFunction;
+
+import static java.util.Objects.requireNonNull;
+import static org.assertj.core.util.Preconditions.checkArgument;
+import static org.assertj.vavr.api.OperationShouldScaleAtMost.shouldScaleAtMost;
+
+/**
+ * Empirical complexity assertions for an operation.
+ * <p>
+ * The operation is timed on inputs of growing sizes built by the given input generator, and the timings are fitted
+ * against the {@link Complexity} classes, with a constant term for the fixed costs of a measurement. To limit the
+ * effect of JIT compilation and garbage collection, the whole measurement is first run to warm up, each timing is the
+ * minimum over several repetitions, and each repetition runs the operation enough times to last at least a
+ * millisecond. The assertion fails only when a worse complexity than the declared one fits the timings clearly better,
+ * i.e. with less than half of its relative error.
+ * <p>
+ * Example:
+ * <pre><code class='java'> // assertion will pass
+ * assertThatComplexity(size -&gt; Vector.range(0, size), vector -&gt; vector.map(i -&gt; i * 2))
+ *     .scalesAtMost(Complexity.LINEAR);
+ *
+ * // assertion will fail
+ * assertThatComplexity(size -&gt; List.range(0, size), list -&gt; list.foldLeft(List.empty(), List::append))
+ *     .scalesAtMost(Complexity.LINEARITHMIC);</code></pre>
+ *
+ * @param <INPUT> type of the inputs of the operation.
+ */
+public class ComplexityAssert<INPUT> extends AbstractAssert<ComplexityAssert<INPUT>, Function<? super INPUT, ?>> {
+
+    private static final long MIN_REPETITION_NANOS = 1_000_000;
+
+    // keeps the results of the operation reachable so that the JIT cannot elide it
+    @SuppressWarnings("unused")
+    private static volatile Object sink;
+
+    private final IntFunction<? extends INPUT> inputOfSize;
+    private int[] sizes = {512, 1_024, 2_048, 4_096, 8_192, 16_384};
+    private int warmUpRounds = 1;
+    private int repetitions = 5;
+
+    ComplexityAssert(IntFunction<? extends INPUT> inputOfSize, Function<? super INPUT, ?> operation) {
+        super(operation, ComplexityAssert.class);
+        this.inputOfSize = requireNonNull(inputOfSize, "The input generator should not be null");
+    }
+
+    /**
+     * Times the operation on inputs of the given sizes; by default, sizes from 512 to 16384 are used.
+     *
+     * @param sizes at least three strictly increasing input sizes.
+     * @return this assertion object.
+     */
+    public ComplexityAssert<INPUT> overSizes(int... sizes) {
+        requireNonNull(sizes, "The sizes should not be null");
+        checkArgument(sizes.length >= 3, "At least 3 sizes are needed but got: %s", sizes.length);
+        checkArgument(sizes[0] >= 1, "The sizes should be positive but got: %s", sizes[0]);
+        for (int i = 1; i < sizes.length; i++) {
+            checkArgument(sizes[i] > sizes[i - 1], "The sizes should be strictly increasing but got %s after %s",
+                          sizes[i], sizes[i - 1]);
+        }
+        this.sizes = sizes.clone();
+        return myself;
+    }
+
+    /**
+     * Runs the whole measurement the given number of times, without keeping the timings, before measuring; one round
+     * is run by default.
+     *
+     * @param rounds the number of warm-up rounds, at least 0.
+     * @return this assertion object.
+     */
+    public ComplexityAssert<INPUT> withWarmUp(int rounds) {
+        checkArgument(rounds >= 0, "The number of warm-up rounds should not be negative but was: %s", rounds);
+        this.warmUpRounds = rounds;
+        return myself;
+    }
+
+    /**
+     * Times the operation the given number of times for each size and keeps the fastest timing; five repetitions are
+     * made by default.
+     *
+     * @param repetitions the number of repetitions per size, at least 1.
+     * @return this assertion object.
+     */
+    public ComplexityAssert<INPUT> withRepetitions(int repetitions) {
+        checkArgument(repetitions >= 1, "The number of repetitions should be at least 1 but was: %s", repetitions);
+        this.repetitions = repetitions;
+        return myself;
+    }
+
+    /**
+     * Verifies that the timings of the operation do not grow clearly faster than the given complexity.
+     *
+     * @param complexity the worst expected complexity.
+     * @return this assertion object.
+     * @throws NullPointerException if the given complexity is {@code null}.
+     * @throws AssertionError       if the operation is {@code null} or if a worse complexity fits its timings clearly
+     *                              better.
+     */
+    public ComplexityAssert<INPUT> scalesAtMost(Complexity complexity) {
+        isNotNull();
+        requireNonNull(complexity, "The complexity should not be null");
+        for (int round = 0; round < warmUpRounds; round++) {
+            measure();
+        }
+        final double[] nanos = measure();
+        final ComplexityFit fit = new ComplexityFit(sizes, nanos);
+        if (fit.scalesClearlyWorseThan(complexity)) {
+            throwAssertionError(shouldScaleAtMost(complexity, fit.bestFit(), sizes, nanos));
+        }
+        return myself;
+    }
+
+    private double[] measure() {
+        final double[] nanos = new double[sizes.length];
+        for (int i = 0; i < sizes.length; i++) {
+            final INPUT input = inputOfSize.apply(sizes[i]);
+            nanos[i] = Double.MAX_VALUE;
+            for (int repetition = 0; repetition < repetitions; repetition++) {
+                nanos[i] = Math.min(nanos[i], timeOf(input));
+            }
+        }
+        return nanos;
+    }
+
+    /**
+     * Returns the mean time of the operation on the given input, over enough runs to outweigh the timer resolution.
+     */
+    private double timeOf(INPUT input) {
+        for (int runs = 1; ; runs *= 2) {
+            final long start = System.nanoTime();
+            for (int run = 0; run < runs; run++) {
+                sink = actual.apply(input);
+            }
+            final long elapsed = System.nanoTime() - start;
+            if (elapsed >= MIN_REPETITION_NANOS || runs >= 1 << 20) return (double) elapsed / runs;
+        }
+    }
+}
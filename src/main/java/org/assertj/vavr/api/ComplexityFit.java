@@ -0,0 +1,80 @@
+/*
+ * Copyright 2017-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.vavr.api;
+
+/**
+ * Fits timings measured over growing input sizes against the {@link Complexity} classes.
+ * <p>
+ * For each class, the timings are fitted by least squares to {@code c + k * growth(n)}, where the constant term
+ * {@code c} absorbs the fixed costs of a measurement (call overhead, timer resolution) that would otherwise dominate
+ * the timings of the smallest sizes. The factor {@code k} is not allowed to be negative, so decreasing timings are
+ * fitted as constant. The quality of the fit is the root mean square of the residuals relative to the mean timing, and
+ * the best-fitting class is the one with the smallest relative error.
+ */
+final class ComplexityFit {
+
+    private static final double CLEARLY_BETTER_FIT = 2;
+
+    private final int[] sizes;
+    private final double[] nanos;
+
+    ComplexityFit(int[] sizes, double[] nanos) {
+        this.sizes = sizes;
+        this.nanos = nanos;
+    }
+
+    Complexity bestFit() {
+        Complexity best = Complexity.CONSTANT;
+        for (Complexity complexity : Complexity.values()) {
+            if (relativeError(complexity) < relativeError(best)) best = complexity;
+        }
+        return best;
+    }
+
+    /**
+     * Returns whether the best-fitting class is worse than the given one and fits the timings clearly better, i.e.
+     * with less than half of its relative error.
+     */
+    boolean scalesClearlyWorseThan(Complexity complexity) {
+        final Complexity observed = bestFit();
+        return observed.compareTo(complexity) > 0
+               && relativeError(observed) * CLEARLY_BETTER_FIT < relativeError(complexity);
+    }
+
+    double relativeError(Complexity complexity) {
+        double meanGrowth = 0;
+        double meanTiming = 0;
+        for (int i = 0; i < sizes.length; i++) {
+            meanGrowth += complexity.growth(sizes[i]) / sizes.length;
+            meanTiming += nanos[i] / sizes.length;
+        }
+        double covariance = 0;
+        double variance = 0;
+        for (int i = 0; i < sizes.length; i++) {
+            final double growthDeviation = complexity.growth(sizes[i]) - meanGrowth;
+            covariance += growthDeviation * (nanos[i] - meanTiming);
+            variance += growthDeviation * growthDeviation;
+        }
+        final double factor = variance == 0 ? 0 : Math.max(0, covariance / variance);
+        final double constant = meanTiming - factor * meanGrowth;
+        double squaredResiduals = 0;
+        for (int i = 0; i < sizes.length; i++) {
+            final double residual = nanos[i] - constant - factor * complexity.growth(sizes[i]);
+            squaredResiduals += residual * residual;
+        }
+        return Math.sqrt(squaredResiduals / sizes.length) / meanTiming;
+    }
+}
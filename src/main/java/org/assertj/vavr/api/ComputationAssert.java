@@ -0,0 +1,230 @@
+/*
+ * Copyright 2017-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.vavr.api;
+
+import io.vavr.CheckedFunction0;
+import io.vavr.collection.Traversable;
+import io.vavr.control.Try;
+import org.assertj.core.api.AbstractAssert;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.function.LongSupplier;
+
+import static java.util.Objects.requireNonNull;
+import static org.assertj.core.api.Assumptions.assumeThat;
+import static org.assertj.core.error.ShouldBeInstance.shouldBeInstance;
+import static org.assertj.core.util.Preconditions.checkArgument;
+import static org.assertj.vavr.api.ComputationShouldAllocateLessThan.shouldAllocateLessThan;
+import static org.assertj.vavr.api.ComputationShouldAllocateLessThan.shouldAllocatePerElementLessThan;
+import static org.assertj.vavr.api.ComputationShouldCompleteWithin.shouldCompleteWithin;
+
+/**
+ * Latency and allocation assertions for a computation.
+ * <p>
+ * The computation is run a number of times to warm up, then run and measured the configured number of times; the
+ * measured latencies or allocations are compared with the given budget. The result of the last measured run is
+ * returned as a {@link TryAssert}, so the produced value can be checked as well.
+ * <p>
+ * Example:
+ * <pre><code class='java'> assertThatComputation(() -&gt; service.lookup("frodo"))
+ *     .withWarmUp(1_000)
+ *     .measuredOver(10_000)
+ *     .hasPercentileWithin(99, Duration.ofMillis(2))
+ *     .contains(frodo);
+ *
+ * assertThatComputation(() -&gt; List.range(0, 1_000).map(i -&gt; i * 2))
+ *     .withWarmUp(100)
+ *     .allocatesPerElementLessThan(64)
+ *     .get(VavrInstanceOfAssertFactories.seq(Integer.class))
+ *     .hasSize(1_000);</code></pre>
+ *
+ * @param <VALUE> type of the value produced by the computation.
+ */
+public class ComputationAssert<VALUE> extends AbstractAssert<ComputationAssert<VALUE>, CheckedFunction0<VALUE>> {
+
+    private final LongSupplier ticker;
+    private int warmUpIterations = 0;
+    private int measuredIterations = 1;
+
+    ComputationAssert(CheckedFunction0<VALUE> actual) {
+        this(actual, System::nanoTime);
+    }
+
+    /**
+     * Creates an assertion measuring latencies with the given source of nanosecond timestamps instead of
+     * {@link System#nanoTime()}.
+     */
+    ComputationAssert(CheckedFunction0<VALUE> actual, LongSupplier ticker) {
+        super(actual, ComputationAssert.class);
+        this.ticker = ticker;
+    }
+
+    /**
+     * Runs the computation the given number of times, without timing it, before the measured runs.
+     *
+     * @param iterations the number of warm-up runs, at least 0.
+     * @return this assertion object.
+     */
+    public ComputationAssert<VALUE> withWarmUp(int iterations) {
+        checkArgument(iterations >= 0, "The number of warm-up iterations should not be negative but was: %s", iterations);
+        this.warmUpIterations = iterations;
+        return myself;
+    }
+
+    /**
+     * Times the computation over the given number of runs; a single run is timed by default.
+     *
+     * @param iterations the number of measured runs, at least 1.
+     * @return this assertion object.
+     */
+    public ComputationAssert<VALUE> measuredOver(int iterations) {
+        checkArgument(iterations >= 1, "The number of measured iterations should be at least 1 but was: %s", iterations);
+        this.measuredIterations = iterations;
+        return myself;
+    }
+
+    /**
+     * Verifies that every measured run of the computation completes within the given budget.
+     *
+     * @param budget the maximum latency of a run.
+     * @return a new {@link TryAssert} for assertions chaining on the result of the last measured run.
+     * @throws NullPointerException if the given budget is {@code null}.
+     * @throws AssertionError       if the computation is {@code null} or if a run exceeds the budget.
+     */
+    public TryAssert<VALUE> completesWithin(Duration budget) {
+        return hasPercentileWithin(100, budget);
+    }
+
+    /**
+     * Verifies that the given percentile of the latencies of the measured runs is within the given budget, e.g.
+     * {@code hasPercentileWithin(99, Duration.ofMillis(2))} for a p99 under 2 milliseconds. Percentiles are computed
+     * with the nearest-rank method.
+     *
+     * @param percentile the percentile to check, in ]0, 100].
+     * @param budget     the maximum latency at the given percentile.
+     * @return a new {@link TryAssert} for assertions chaining on the result of the last measured run.
+     * @throws NullPointerException     if the given budget is {@code null}.
+     * @throws IllegalArgumentException if the given percentile is not in ]0, 100].
+     * @throws AssertionError           if the computation is {@code null} or if the percentile exceeds the budget.
+     */
+    public TryAssert<VALUE> hasPercentileWithin(double percentile, Duration budget) {
+        isNotNull();
+        requireNonNull(budget, "The budget should not be null");
+        LatencySamples.checkPercentile(percentile);
+        for (int i = 0; i < warmUpIterations; i++) {
+            Try.of(actual);
+        }
+        final long[] nanos = new long[measuredIterations];
+        Try<VALUE> result = null;
+        for (int i = 0; i < measuredIterations; i++) {
+            final long start = ticker.getAsLong();
+            result = Try.of(actual);
+            nanos[i] = ticker.getAsLong() - start;
+        }
+        final LatencySamples latencies = new LatencySamples(nanos);
+        if (latencies.percentile(percentile).compareTo(budget) > 0) {
+            throwAssertionError(shouldCompleteWithin(percentile, budget, latencies));
+        }
+        return VavrAssertions.assertThat(result);
+    }
+
+    /**
+     * Verifies that a measured run of the computation allocates less than the given number of bytes on the current
+     * thread, on average over the measured runs.
+     * <p>
+     * Allocations are counted with {@link com.sun.management.ThreadMXBean#getThreadAllocatedBytes(long)}; on JVMs not
+     * supporting it, the assertion is skipped as a failed assumption.
+     *
+     * @param bytes the allocation budget of a run, in bytes.
+     * @return a new {@link TryAssert} for assertions chaining on the result of the last measured run.
+     * @throws AssertionError if the computation is {@code null} or if it allocates more than the budget.
+     */
+    public TryAssert<VALUE> allocatesLessThan(long bytes) {
+        isNotNull();
+        final long[] allocated = new long[1];
+        final Try<VALUE> result = measureAllocations(allocated);
+        if (allocated[0] >= bytes) throwAssertionError(shouldAllocateLessThan(bytes, allocated[0], measuredIterations));
+        return VavrAssertions.assertThat(result);
+    }
+
+    /**
+     * Verifies that a measured run of the computation allocates less than the given number of bytes per element of the
+     * collection it produces, on average over the measured runs. The computation must succeed and produce a Vavr
+     * {@link Traversable}, a {@link Collection} or a {@link Map}.
+     * <p>
+     * Allocations are counted with {@link com.sun.management.ThreadMXBean#getThreadAllocatedBytes(long)}; on JVMs not
+     * supporting it, the assertion is skipped as a failed assumption.
+     *
+     * @param bytes the allocation budget of an element, in bytes.
+     * @return a new {@link TryAssert} for assertions chaining on the result of the last measured run.
+     * @throws AssertionError if the computation is {@code null}, fails, does not produce a collection or allocates
+     *                        more than the budget.
+     */
+    public TryAssert<VALUE> allocatesPerElementLessThan(long bytes) {
+        isNotNull();
+        final long[] allocated = new long[1];
+        final Try<VALUE> result = measureAllocations(allocated);
+        VavrAssertions.assertThat(result).isSuccess();
+        final int elements = sizeOf(result.get());
+        final long allocatedPerElement = allocated[0] / Math.max(elements, 1);
+        if (allocatedPerElement >= bytes) {
+            throwAssertionError(shouldAllocatePerElementLessThan(bytes, allocatedPerElement, measuredIterations, elements));
+        }
+        return VavrAssertions.assertThat(result);
+    }
+
+    /**
+     * Runs the computation, stores the average number of bytes allocated per measured run in the given holder, and
+     * returns the result of the last measured run.
+     */
+    private Try<VALUE> measureAllocations(long[] averageAllocatedBytes) {
+        assumeThat(ThreadAllocation.isSupported())
+                .as("counting the bytes allocated by a thread is supported by this JVM")
+                .isTrue();
+        for (int i = 0; i < warmUpIterations; i++) {
+            Try.of(actual);
+        }
+        // the cost of reading the counter itself
+        final long calibration = ThreadAllocation.allocatedBytes();
+        final long overhead = ThreadAllocation.allocatedBytes() - calibration;
+        long allocated = 0;
+        Try<VALUE> result = null;
+        for (int i = 0; i < measuredIterations; i++) {
+            VALUE value = null;
+            Throwable failure = null;
+            final long before = ThreadAllocation.allocatedBytes();
+            try {
+                value = actual.apply();
+            } catch (Throwable t) {
+                failure = t;
+            }
+            allocated += ThreadAllocation.allocatedBytes() - before - overhead;
+            result = failure == null ? Try.success(value) : Try.failure(failure);
+        }
+        averageAllocatedBytes[0] = Math.max(allocated / measuredIterations, 0);
+        return result;
+    }
+
+    private int sizeOf(Object result) {
+        if (result instanceof Traversable) return ((Traversable<?>) result).size();
+        if (result instanceof Collection) return ((Collection<?>) result).size();
+        if (result instanceof Map) return ((Map<?, ?>) result).size();
+        throwAssertionError(shouldBeInstance(result, Traversable.class));
+        return 0;
+    }
+}
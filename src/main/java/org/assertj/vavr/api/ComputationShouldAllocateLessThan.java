@@ -0,0 +1,61 @@
+/*
+ * Copyright 2017-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.vavr.api;
+
+import org.assertj.core.error.BasicErrorMessageFactory;
+
+/**
+ * Build error message when a computation should allocate less than a given number of bytes.
+ */
+class ComputationShouldAllocateLessThan extends BasicErrorMessageFactory {
+
+    private ComputationShouldAllocateLessThan(long budget, long allocated, int runs) {
+        super("%nExpecting computation to allocate less than %s bytes per run but it allocated %s bytes per run over %s run(s)",
+              budget, allocated, runs);
+    }
+
+    private ComputationShouldAllocateLessThan(long budget, long allocated, int runs, int elements) {
+        super("%nExpecting computation to allocate less than %s bytes per element but it allocated %s bytes per element " +
+              "over %s run(s) producing %s element(s)",
+              budget, allocated, runs, elements);
+    }
+
+    /**
+     * Indicates that a computation allocated more than its budget.
+     *
+     * @param budget    the allocation budget of a run, in bytes.
+     * @param allocated the bytes allocated per run.
+     * @param runs      the number of measured runs.
+     * @return a error message factory.
+     */
+    static ComputationShouldAllocateLessThan shouldAllocateLessThan(long budget, long allocated, int runs) {
+        return new ComputationShouldAllocateLessThan(budget, allocated, runs);
+    }
+
+    /**
+     * Indicates that a computation allocated more than its budget per element of its result.
+     *
+     * @param budget    the allocation budget of an element, in bytes.
+     * @param allocated the bytes allocated per element.
+     * @param runs      the number of measured runs.
+     * @param elements  the number of elements of the result.
+     * @return a error message factory.
+     */
+    static ComputationShouldAllocateLessThan shouldAllocatePerElementLessThan(long budget, long allocated, int runs,
+                                                                              int elements) {
+        return new ComputationShouldAllocateLessThan(budget, allocated, runs, elements);
+    }
+}
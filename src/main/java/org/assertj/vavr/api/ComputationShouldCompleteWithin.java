@@ -0,0 +1,45 @@
+/*
+ * Copyright 2017-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.vavr.api;
+
+import org.assertj.core.error.BasicErrorMessageFactory;
+
+import java.time.Duration;
+
+/**
+ * Build error message when a computation should complete within a latency budget.
+ */
+class ComputationShouldCompleteWithin extends BasicErrorMessageFactory {
+
+    private ComputationShouldCompleteWithin(double percentile, Duration budget, Duration observed, LatencySamples latencies) {
+        super("%nExpecting computation to complete within %s at " + LatencySamples.describe(percentile)
+              + " but it took %s over %s run(s)%n(min: %s, median: %s, max: %s)",
+              budget, observed, latencies.runs(), latencies.min(), latencies.percentile(50), latencies.max());
+    }
+
+    /**
+     * Indicates that the given percentile of the latencies of a computation exceeds its budget.
+     *
+     * @param percentile the checked percentile.
+     * @param budget     the latency budget.
+     * @param latencies  the measured latencies.
+     * @return a error message factory.
+     */
+    static ComputationShouldCompleteWithin shouldCompleteWithin(double percentile, Duration budget,
+                                                                LatencySamples latencies) {
+        return new ComputationShouldCompleteWithin(percentile, budget, latencies.percentile(percentile), latencies);
+    }
+}
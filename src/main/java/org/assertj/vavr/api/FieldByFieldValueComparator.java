@@ -0,0 +1,258 @@
+/*
+ * Copyright 2017-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.vavr.api;
+
+import io.vavr.Tuple2;
+import io.vavr.collection.Array;
+import io.vavr.control.Option;
+import io.vavr.control.Try;
+import org.assertj.core.internal.TypeComparators;
+import org.assertj.core.util.introspection.FieldSupport;
+import org.assertj.core.util.introspection.IntrospectionError;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static java.lang.String.format;
+import static java.util.stream.Collectors.joining;
+import static org.assertj.core.internal.TypeComparators.defaultTypeComparators;
+
+/**
+ * Compares objects field/property by field/property, including inherited ones. Field values are compared with the
+ * comparator registered for the field name, else with the one registered for the value type, else with their
+ * <code>equals</code> method.
+ * <p>
+ * The fields of a class and the handles reading them are looked up once, the first time an instance of that class is
+ * compared, and kept in a {@link ClassValue} so that they do not prevent the class from being unloaded. A public
+ * <code>getX()</code> or <code>isX()</code> getter is preferred to the field itself, private fields are read only if
+ * {@link org.assertj.core.api.Assertions#setAllowExtractingPrivateFields(boolean)} allows it when the comparator is
+ * created. JDK classes, and classes with a field that cannot be read, are compared as a whole, with the comparator
+ * registered for their type or their own <code>equals</code>.
+ * <p>
+ * Objects of different classes are never equal. Unequal objects are ordered consistently (by field, then by natural
+ * order or hash code of the first differing field value) so that the comparator can also sort entries.
+ */
+final class FieldByFieldValueComparator implements Comparator<Object> {
+
+    private static final ClassValue<Option<Array<Accessor>>> PLANS_WITH_PRIVATE_FIELDS = plans(true);
+
+    private static final ClassValue<Option<Array<Accessor>>> PLANS_WITHOUT_PRIVATE_FIELDS = plans(false);
+
+    private final ClassValue<Option<Array<Accessor>>> plans;
+
+    private final Map<String, Comparator<?>> comparatorsByFieldName;
+
+    private final TypeComparators comparatorsByType;
+
+    /**
+     * Comparators of {@link #comparatorsByType} resolved for the runtime classes of the compared field values.
+     */
+    private final Map<Class<?>, Option<Comparator<Object>>> comparatorsByValueType = new ConcurrentHashMap<>();
+
+    private FieldByFieldValueComparator(ClassValue<Option<Array<Accessor>>> plans,
+                                        Map<String, Comparator<?>> comparatorsByFieldName,
+                                        TypeComparators comparatorsByType) {
+        this.plans = plans;
+        this.comparatorsByFieldName = comparatorsByFieldName;
+        this.comparatorsByType = comparatorsByType;
+    }
+
+    /**
+     * @return a comparator following the current private fields extraction setting, comparing field values with the
+     * default type comparators of AssertJ.
+     */
+    static FieldByFieldValueComparator fieldByFieldValueComparator() {
+        return fieldByFieldValueComparator(new TreeMap<>(), defaultTypeComparators());
+    }
+
+    /**
+     * @param comparatorsByFieldName the comparators to use for the fields with the given names.
+     * @param comparatorsByType      the comparators to use for the field values of the given types.
+     * @return a comparator following the current private fields extraction setting, comparing field values with the
+     * given comparators.
+     */
+    static FieldByFieldValueComparator fieldByFieldValueComparator(Map<String, Comparator<?>> comparatorsByFieldName,
+                                                                   TypeComparators comparatorsByType) {
+        return new FieldByFieldValueComparator(FieldSupport.extraction().isAllowedToUsePrivateFields()
+                ? PLANS_WITH_PRIVATE_FIELDS
+                : PLANS_WITHOUT_PRIVATE_FIELDS, new TreeMap<>(comparatorsByFieldName), comparatorsByType);
+    }
+
+    /**
+     * @return a comparator of map entries comparing keys with <code>equals</code> and values field by field.
+     */
+    static Comparator<Tuple2<?, ?>> fieldByFieldEntryComparator() {
+        return new EntryComparator(fieldByFieldValueComparator());
+    }
+
+    @Override
+    public int compare(Object actual, Object other) {
+        if (actual == other) return 0;
+        if (actual == null) return -1;
+        if (other == null) return 1;
+        if (actual.getClass() != other.getClass()) return actual.getClass().getName().compareTo(other.getClass().getName());
+        final Option<Array<Accessor>> plan = plans.get(actual.getClass());
+        if (plan.isEmpty()) return compareValues(actual, other, comparatorForType(actual.getClass()));
+        for (Accessor accessor : plan.get()) {
+            final Object value = accessor.read(actual);
+            final Object otherValue = accessor.read(other);
+            final int comparison = compareValues(value, otherValue, comparatorFor(accessor.name, value, otherValue));
+            if (comparison != 0) return comparison;
+        }
+        return 0;
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder description = new StringBuilder("field/property by field/property comparator on all fields/properties");
+        if (!comparatorsByFieldName.isEmpty() || !comparatorsByType.isEmpty()) description.append(format("%nComparators used:"));
+        if (!comparatorsByFieldName.isEmpty()) {
+            description.append(format("%n- for elements fields (by name): %s", comparatorsByFieldName.entrySet().stream()
+                    .map(comparatorByFieldName -> comparatorByFieldName.getKey() + " -> " + comparatorByFieldName.getValue())
+                    .collect(joining(", ", "{", "}"))));
+        }
+        if (!comparatorsByType.isEmpty()) {
+            description.append(format("%n- for elements fields (by type): %s", comparatorsByType));
+        }
+        return description.toString();
+    }
+
+    @SuppressWarnings("unchecked")
+    private Comparator<Object> comparatorFor(String fieldName, Object value, Object other) {
+        final Comparator<Object> byName = (Comparator<Object>) comparatorsByFieldName.get(fieldName);
+        if (byName != null) return byName;
+        return value != null && other != null ? comparatorForType(value.getClass()) : null;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Comparator<Object> comparatorForType(Class<?> type) {
+        return comparatorsByValueType.computeIfAbsent(type,
+                key -> Option.of((Comparator<Object>) comparatorsByType.getComparatorForType(key))).getOrNull();
+    }
+
+    private static int compareValues(Object value, Object other, Comparator<Object> comparator) {
+        return comparator != null ? comparator.compare(value, other) : compareValues(value, other);
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static int compareValues(Object value, Object other) {
+        if (Objects.deepEquals(value, other)) return 0;
+        if (value == null) return -1;
+        if (other == null) return 1;
+        if (value.getClass() != other.getClass()) return value.getClass().getName().compareTo(other.getClass().getName());
+        if (value instanceof Comparable) {
+            final int comparison = ((Comparable) value).compareTo(other);
+            if (comparison != 0) return comparison;
+        }
+        final int hashComparison = Integer.compare(Objects.hashCode(value), Objects.hashCode(other));
+        return hashComparison != 0
+                ? hashComparison
+                : Integer.compare(System.identityHashCode(value), System.identityHashCode(other));
+    }
+
+    private static ClassValue<Option<Array<Accessor>>> plans(boolean allowPrivateFields) {
+        return new ClassValue<Option<Array<Accessor>>>() {
+            @Override
+            protected Option<Array<Accessor>> computeValue(Class<?> type) {
+                if (type.getClassLoader() == null) return Option.none();
+                final Array<Option<Accessor>> accessors = declaredFieldsIncludingInherited(type)
+                        .map(field -> accessorOf(type, field, allowPrivateFields));
+                // a class with a field that cannot be read is compared with its own equals, as a whole
+                return accessors.forAll(Option::isDefined) ? Option.some(accessors.map(Option::get)) : Option.none();
+            }
+        };
+    }
+
+    private static Array<Field> declaredFieldsIncludingInherited(Class<?> type) {
+        Array<Field> fields = Array.empty();
+        for (Class<?> current = type; current != null && current != Object.class; current = current.getSuperclass()) {
+            fields = fields.appendAll(Array.of(current.getDeclaredFields())
+                    .filter(field -> !field.isSynthetic() && !Modifier.isStatic(field.getModifiers())));
+        }
+        return fields;
+    }
+
+    private static Option<Accessor> accessorOf(Class<?> type, Field field, boolean allowPrivateFields) {
+        final String capitalized = Character.toUpperCase(field.getName().charAt(0)) + field.getName().substring(1);
+        return getter(type, "get" + capitalized)
+                .orElse(() -> getter(type, "is" + capitalized))
+                .orElse(() -> allowPrivateFields || Modifier.isPublic(field.getModifiers())
+                        ? Try.of(() -> {
+                            field.setAccessible(true);
+                            return MethodHandles.lookup().unreflectGetter(field);
+                        }).toOption()
+                        : Option.none())
+                .map(handle -> new Accessor(field.getName(), handle.asType(MethodType.methodType(Object.class, Object.class))));
+    }
+
+    private static Option<MethodHandle> getter(Class<?> type, String name) {
+        return Try.of(() -> type.getMethod(name))
+                .filter(method -> method.getReturnType() != void.class && !Modifier.isStatic(method.getModifiers()))
+                .mapTry(method -> {
+                    method.setAccessible(true);
+                    return MethodHandles.lookup().unreflect(method);
+                })
+                .toOption();
+    }
+
+    private static final class EntryComparator implements Comparator<Tuple2<?, ?>> {
+
+        private final FieldByFieldValueComparator valueComparator;
+
+        private EntryComparator(FieldByFieldValueComparator valueComparator) {
+            this.valueComparator = valueComparator;
+        }
+
+        @Override
+        public int compare(Tuple2<?, ?> entry, Tuple2<?, ?> other) {
+            final int keyComparison = compareValues(entry._1, other._1);
+            return keyComparison != 0 ? keyComparison : valueComparator.compare(entry._2, other._2);
+        }
+
+        @Override
+        public String toString() {
+            return "key equals and value " + valueComparator;
+        }
+    }
+
+    private static final class Accessor {
+
+        private final String name;
+
+        private final MethodHandle handle;
+
+        private Accessor(String name, MethodHandle handle) {
+            this.name = name;
+            this.handle = handle;
+        }
+
+        private Object read(Object target) {
+            try {
+                return (Object) handle.invokeExact(target);
+            } catch (Throwable e) {
+                throw new IntrospectionError(format("Unable to read %s of %s", name, target.getClass().getName()), e);
+            }
+        }
+    }
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright 2017-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.vavr.api;
+
+import io.vavr.concurrent.Future;
+import io.vavr.control.Option;
+import io.vavr.control.Try;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeoutException;
+
+import static java.util.Objects.requireNonNull;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+/**
+ * Waits for the completion of a {@link Future} without relying on {@link Future#await()}.
+ * <p>
+ * The result is handed over by an {@link Future#onComplete(java.util.function.Consumer) onComplete} callback to a
+ * {@link CompletableFuture}, on which the asserting thread parks with a deadline. No thread other than the asserting
+ * one is held while waiting, and no monitor is entered, so many pending futures can be asserted concurrently,
+ * including from virtual threads.
+ */
+final class FutureCompletion {
+
+    private FutureCompletion() {
+    }
+
+    /**
+     * Returns the result of the given future, or {@link Option#none()} if it does not complete within the timeout.
+     * If the waiting thread is interrupted, its interrupted status is restored and an {@link IllegalStateException} is
+     * thrown, as whether the future completes within the timeout is then unknown.
+     */
+    static <T> Option<Try<T>> awaitCompletion(Future<T> future, Duration timeout) {
+        requireNonNull(timeout, "The timeout should not be null");
+        if (future.isCompleted()) return future.getValue();
+        final CompletableFuture<Try<T>> completion = new CompletableFuture<>();
+        future.onComplete(completion::complete);
+        try {
+            return Option.some(completion.get(timeout.toNanos(), NANOSECONDS));
+        } catch (TimeoutException e) {
+            return Option.none();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for the completion of " + future, e);
+        } catch (ExecutionException e) {
+            // the callback only ever completes normally
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+}
@@ -0,0 +1,58 @@
+/*
+ * Copyright 2017-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.vavr.api;
+
+import io.vavr.concurrent.Future;
+import org.assertj.core.error.BasicErrorMessageFactory;
+
+import java.time.Duration;
+
+/**
+ * Build error message when a {@link Future} should fail within a given time.
+ */
+class FutureShouldFailWithin extends BasicErrorMessageFactory {
+
+    private FutureShouldFailWithin(Future<?> actual, Duration timeout) {
+        super("%nExpecting%n  %s%nto fail within %s but it was not completed", actual, timeout);
+    }
+
+    private FutureShouldFailWithin(Future<?> actual, Duration timeout, Object value) {
+        super("%nExpecting%n  %s%nto fail within %s but it succeeded with:%n  %s", actual, timeout, value);
+    }
+
+    /**
+     * Indicates that a {@link Future} did not complete within the given time.
+     *
+     * @param actual  the actual future.
+     * @param timeout the time given to the future.
+     * @return a error message factory.
+     */
+    static FutureShouldFailWithin shouldFailWithin(Future<?> actual, Duration timeout) {
+        return new FutureShouldFailWithin(actual, timeout);
+    }
+
+    /**
+     * Indicates that a {@link Future} succeeded instead of failing.
+     *
+     * @param actual  the actual future.
+     * @param timeout the time given to the future.
+     * @param value   the value of the future.
+     * @return a error message factory.
+     */
+    static FutureShouldFailWithin shouldFailWithin(Future<?> actual, Duration timeout, Object value) {
+        return new FutureShouldFailWithin(actual, timeout, value);
+    }
+}
@@ -0,0 +1,44 @@
+/*
+ * Copyright 2017-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.vavr.api;
+
+import io.vavr.concurrent.Future;
+import io.vavr.control.Try;
+import org.assertj.core.error.BasicErrorMessageFactory;
+
+import java.time.Duration;
+
+/**
+ * Build error message when a {@link Future} should not be completed after a given time.
+ */
+class FutureShouldNotBeCompletedAfter extends BasicErrorMessageFactory {
+
+    private FutureShouldNotBeCompletedAfter(Future<?> actual, Duration duration, Try<?> result) {
+        super("%nExpecting%n  %s%nnot to be completed after %s but it completed with:%n  %s", actual, duration, result);
+    }
+
+    /**
+     * Indicates that a {@link Future} completed before the given time elapsed.
+     *
+     * @param actual   the actual future.
+     * @param duration the time the future should have stayed pending.
+     * @param result   the result of the future.
+     * @return a error message factory.
+     */
+    static FutureShouldNotBeCompletedAfter shouldNotBeCompletedAfter(Future<?> actual, Duration duration, Try<?> result) {
+        return new FutureShouldNotBeCompletedAfter(actual, duration, result);
+    }
+}
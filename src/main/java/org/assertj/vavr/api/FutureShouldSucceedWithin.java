@@ -0,0 +1,58 @@
+/*
+ * Copyright 2017-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.vavr.api;
+
+import io.vavr.concurrent.Future;
+import org.assertj.core.error.BasicErrorMessageFactory;
+
+import java.time.Duration;
+
+/**
+ * Build error message when a {@link Future} should succeed within a given time.
+ */
+class FutureShouldSucceedWithin extends BasicErrorMessageFactory {
+
+    private FutureShouldSucceedWithin(Future<?> actual, Duration timeout) {
+        super("%nExpecting%n  %s%nto succeed within %s but it was not completed", actual, timeout);
+    }
+
+    private FutureShouldSucceedWithin(Future<?> actual, Duration timeout, Throwable cause) {
+        super("%nExpecting%n  %s%nto succeed within %s but it failed with:%n  %s", actual, timeout, cause);
+    }
+
+    /**
+     * Indicates that a {@link Future} did not complete within the given time.
+     *
+     * @param actual  the actual future.
+     * @param timeout the time given to the future.
+     * @return a error message factory.
+     */
+    static FutureShouldSucceedWithin shouldSucceedWithin(Future<?> actual, Duration timeout) {
+        return new FutureShouldSucceedWithin(actual, timeout);
+    }
+
+    /**
+     * Indicates that a {@link Future} failed instead of succeeding.
+     *
+     * @param actual  the actual future.
+     * @param timeout the time given to the future.
+     * @param cause   the cause of the failure.
+     * @return a error message factory.
+     */
+    static FutureShouldSucceedWithin shouldSucceedWithin(Future<?> actual, Duration timeout, Throwable cause) {
+        return new FutureShouldSucceedWithin(actual, timeout, cause);
+    }
+}
@@ -0,0 +1,63 @@
+/*
+ * Copyright 2017-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.vavr.api;
+
+import java.time.Duration;
+import java.util.Arrays;
+
+import static org.assertj.core.util.Preconditions.checkArgument;
+
+/**
+ * Latencies measured over repeated runs of a computation, in nanoseconds.
+ */
+final class LatencySamples {
+
+    private final long[] sortedNanos;
+
+    LatencySamples(long[] nanos) {
+        this.sortedNanos = nanos.clone();
+        Arrays.sort(sortedNanos);
+    }
+
+    static void checkPercentile(double percentile) {
+        checkArgument(percentile > 0 && percentile <= 100, "The percentile should be in ]0, 100] but was: %s", percentile);
+    }
+
+    /**
+     * Returns the given percentile of the latencies, using the nearest-rank method: {@code percentile(100)} is the
+     * slowest run and {@code percentile(50)} the median.
+     */
+    Duration percentile(double percentile) {
+        final int rank = (int) Math.ceil(percentile * sortedNanos.length / 100);
+        return Duration.ofNanos(sortedNanos[Math.max(rank, 1) - 1]);
+    }
+
+    int runs() {
+        return sortedNanos.length;
+    }
+
+    Duration min() {
+        return Duration.ofNanos(sortedNanos[0]);
+    }
+
+    Duration max() {
+        return Duration.ofNanos(sortedNanos[sortedNanos.length - 1]);
+    }
+
+    static String describe(double percentile) {
+        return percentile == Math.rint(percentile) ? "p" + (long) percentile : "p" + percentile;
+    }
+}
@@ -17,6 +17,8 @@ package org.assertj.vavr.api;
 
 import io.vavr.Lazy;
 
+import java.util.function.LongSupplier;
+
 /**
  * Assertions for {@link Lazy}.
  *
@@ -26,4 +28,8 @@ public class LazyAssert<VALUE> extends AbstractLazyAssert<LazyAssert<VALUE>, VAL
     LazyAssert(Lazy<VALUE> actual) {
         super(actual, LazyAssert.class);
     }
+
+    LazyAssert(Lazy<VALUE> actual, LongSupplier ticker) {
+        super(actual, LazyAssert.class, ticker);
+    }
 }
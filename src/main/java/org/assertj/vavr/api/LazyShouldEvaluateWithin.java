@@ -0,0 +1,42 @@
+/*
+ * Copyright 2017-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.vavr.api;
+
+import io.vavr.Lazy;
+import org.assertj.core.error.BasicErrorMessageFactory;
+
+import java.time.Duration;
+
+/**
+ * Build error message when a {@link Lazy} value should be evaluated within a given time.
+ */
+class LazyShouldEvaluateWithin extends BasicErrorMessageFactory {
+
+    private LazyShouldEvaluateWithin(Duration budget, Duration elapsed) {
+        super("%nExpecting Lazy to be evaluated within %s but it took %s", budget, elapsed);
+    }
+
+    /**
+     * Indicates that the evaluation of a {@link Lazy} value exceeded its budget.
+     *
+     * @param budget  the time given to the evaluation.
+     * @param elapsed the time the evaluation took.
+     * @return a error message factory.
+     */
+    static LazyShouldEvaluateWithin shouldEvaluateWithin(Duration budget, Duration elapsed) {
+        return new LazyShouldEvaluateWithin(budget, elapsed);
+    }
+}
@@ -0,0 +1,53 @@
+/*
+ * Copyright 2017-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.vavr.api;
+
+import org.assertj.core.error.BasicErrorMessageFactory;
+
+import java.time.Duration;
+
+/**
+ * Build error message when an operation should scale at most as a given complexity.
+ */
+class OperationShouldScaleAtMost extends BasicErrorMessageFactory {
+
+    private OperationShouldScaleAtMost(Complexity expected, Complexity observed, int[] sizes, double[] nanos) {
+        super("%nExpecting operation to scale at most as %s but it scales as %s, with timings:" + timings(sizes, nanos),
+              expected, observed);
+    }
+
+    private static String timings(int[] sizes, double[] nanos) {
+        final StringBuilder timings = new StringBuilder();
+        for (int i = 0; i < sizes.length; i++) {
+            timings.append("%n  n = ").append(sizes[i]).append(": ").append(Duration.ofNanos((long) nanos[i]));
+        }
+        return timings.toString();
+    }
+
+    /**
+     * Indicates that an operation scales worse than expected.
+     *
+     * @param expected the expected complexity.
+     * @param observed the complexity fitting the timings best.
+     * @param sizes    the input sizes.
+     * @param nanos    the timings of the operation for each input size, in nanoseconds.
+     * @return a error message factory.
+     */
+    static OperationShouldScaleAtMost shouldScaleAtMost(Complexity expected, Complexity observed, int[] sizes,
+                                                        double[] nanos) {
+        return new OperationShouldScaleAtMost(expected, observed, sizes, nanos);
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright 2017-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.vavr.api;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Checks requirements over all elements of a collection on an {@link Executor}.
+ * <p>
+ * The elements are copied to an array once and split into contiguous chunks, each checked by one task. Every failing
+ * element is collected, and failures are reported in iteration order regardless of which task found them. When the
+ * requirements throw anything else than an {@link AssertionError}, the other tasks stop at their next element, those
+ * not started yet are cancelled, and the exception is rethrown.
+ */
+final class ParallelRequirements {
+
+    private static final int CHUNKS_PER_THREAD = 4;
+
+    private ParallelRequirements() {
+    }
+
+    static Executor defaultExecutor() {
+        return ForkJoinPool.commonPool();
+    }
+
+    static <T> List<UnsatisfiedRequirement> check(Iterable<? extends T> elements, Consumer<? super T> requirements,
+                                                  Executor executor) {
+        requireNonNull(executor, "The executor should not be null");
+        final List<T> snapshot = new ArrayList<>();
+        elements.forEach(snapshot::add);
+        final int chunks = Math.max(1, Math.min(snapshot.size(), parallelismOf(executor) * CHUNKS_PER_THREAD));
+        final int chunkSize = (snapshot.size() + chunks - 1) / chunks;
+        final AtomicBoolean aborted = new AtomicBoolean();
+        final List<CompletableFuture<List<UnsatisfiedRequirement>>> tasks = new ArrayList<>(chunks);
+        for (int from = 0; from < snapshot.size(); from += chunkSize) {
+            final int start = from;
+            final int end = Math.min(from + chunkSize, snapshot.size());
+            tasks.add(CompletableFuture.supplyAsync(() -> checkRange(snapshot, start, end, requirements, aborted),
+                                                    executor));
+        }
+        final List<UnsatisfiedRequirement> failures = new ArrayList<>();
+        for (CompletableFuture<List<UnsatisfiedRequirement>> task : tasks) {
+            failures.addAll(join(task, tasks));
+        }
+        return failures;
+    }
+
+    private static <T> List<UnsatisfiedRequirement> checkRange(List<T> elements, int from, int to,
+                                                               Consumer<? super T> requirements,
+                                                               AtomicBoolean aborted) {
+        final List<UnsatisfiedRequirement> failures = new ArrayList<>();
+        for (int index = from; index < to && !aborted.get(); index++) {
+            final T element = elements.get(index);
+            try {
+                requirements.accept(element);
+            } catch (AssertionError error) {
+                failures.add(new UnsatisfiedRequirement(index, element, error.getMessage()));
+            } catch (RuntimeException | Error e) {
+                aborted.set(true);
+                throw e;
+            }
+        }
+        return failures;
+    }
+
+    private static <T> T join(CompletableFuture<T> task, List<? extends CompletableFuture<?>> allTasks) {
+        try {
+            return task.join();
+        } catch (CompletionException e) {
+            allTasks.forEach(other -> other.cancel(false));
+            final Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) throw (RuntimeException) cause;
+            if (cause instanceof Error) throw (Error) cause;
+            throw e;
+        }
+    }
+
+    private static int parallelismOf(Executor executor) {
+        return executor instanceof ForkJoinPool
+                ? ((ForkJoinPool) executor).getParallelism()
+                : Runtime.getRuntime().availableProcessors();
+    }
+}
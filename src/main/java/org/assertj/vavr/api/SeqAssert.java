@@ -28,7 +28,11 @@ public class SeqAssert<ELEMENT>
 	private final AssertFactory<ELEMENT, ObjectAssert<ELEMENT>> assertFactory;
 
 	SeqAssert(Seq<ELEMENT> actual) {
-		super(actual, SeqAssert.class);
+		this(actual, SeqAssert.class);
+	}
+
+	SeqAssert(Seq<ELEMENT> actual, Class<?> selfType) {
+		super(actual, selfType);
 		this.assertFactory = new ObjectAssertFactory<>();
 	}
 
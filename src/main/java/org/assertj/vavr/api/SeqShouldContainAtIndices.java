@@ -0,0 +1,44 @@
+/*
+ * Copyright 2017-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.vavr.api;
+
+import org.assertj.core.error.BasicErrorMessageFactory;
+import org.assertj.core.error.ErrorMessageFactory;
+
+import java.util.Map;
+
+/**
+ * Builds error message when the actual {@link io.vavr.collection.Seq} does not contain the expected elements at some of
+ * the given indices. Only the mismatching indices are listed with the elements found there.
+ */
+class SeqShouldContainAtIndices extends BasicErrorMessageFactory {
+
+    private SeqShouldContainAtIndices(Object actual, Map<Integer, ?> expected, Map<Integer, ?> found) {
+        super("%nExpecting actual:%n  %s%nto contain at indices:%n  %s%nbut found:%n  %s", actual, expected, found);
+    }
+
+    /**
+     * Indicates that some elements differ from the expected ones at their index.
+     *
+     * @param actual   the actual sequence.
+     * @param expected the expected elements by index.
+     * @param found    the elements found at the mismatching indices.
+     * @return an error message factory.
+     */
+    static ErrorMessageFactory shouldContainAtIndices(Object actual, Map<Integer, ?> expected, Map<Integer, ?> found) {
+        return new SeqShouldContainAtIndices(actual, expected, found);
+    }
+}
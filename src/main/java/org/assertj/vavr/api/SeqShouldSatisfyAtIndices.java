@@ -0,0 +1,65 @@
+/*
+ * Copyright 2017-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.vavr.api;
+
+import org.assertj.core.error.BasicErrorMessageFactory;
+import org.assertj.core.error.ErrorMessageFactory;
+
+import java.util.List;
+
+import static org.assertj.core.util.Strings.escapePercent;
+
+/**
+ * Builds error message when some elements of the actual {@link io.vavr.collection.Seq} do not satisfy the requirements
+ * given for their index. Every failing element is listed, in index order, with the reason of the failure.
+ */
+class SeqShouldSatisfyAtIndices extends BasicErrorMessageFactory {
+
+    private SeqShouldSatisfyAtIndices(Object actual, List<UnsatisfiedRequirement> failures) {
+        super(template(failures), arguments(actual, failures));
+    }
+
+    private static String template(List<UnsatisfiedRequirement> failures) {
+        final StringBuilder template = new StringBuilder("%nExpecting elements of:%n  %s%n")
+                .append("to satisfy the requirements given for their index, but these ").append(failures.size())
+                .append(" element(s) did not:%n");
+        for (UnsatisfiedRequirement failure : failures) {
+            template.append("%n  [").append(failure.index).append("] %s%n  error: ")
+                    .append(escapePercent(failure.errorMessage)).append("%n");
+        }
+        return template.toString();
+    }
+
+    private static Object[] arguments(Object actual, List<UnsatisfiedRequirement> failures) {
+        final Object[] arguments = new Object[failures.size() + 1];
+        arguments[0] = actual;
+        for (int i = 0; i < failures.size(); i++) {
+            arguments[i + 1] = failures.get(i).element;
+        }
+        return arguments;
+    }
+
+    /**
+     * Indicates that some elements do not satisfy the requirements given for their index.
+     *
+     * @param actual   the actual sequence.
+     * @param failures the elements not satisfying their requirements, in index order.
+     * @return an error message factory.
+     */
+    static ErrorMessageFactory shouldSatisfyAtIndices(Object actual, List<UnsatisfiedRequirement> failures) {
+        return new SeqShouldSatisfyAtIndices(actual, failures);
+    }
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright 2017-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.vavr.api;
+
+import org.assertj.core.error.BasicErrorMessageFactory;
+import org.assertj.core.error.ErrorMessageFactory;
+
+/**
+ * Builds error message when the entry with the greatest key less than or equal to a given key in a sorted map is not the
+ * expected one.
+ */
+class SortedMapShouldHaveFloorEntry extends BasicErrorMessageFactory {
+
+    private SortedMapShouldHaveFloorEntry(Object actual, Object key, Object expected, Object found) {
+        super("%nExpecting sorted actual:%n  %s%nto have floor entry of key:%n  %s%nequal to:%n  %s%nbut was:%n  %s",
+              actual, key, expected, found);
+    }
+
+    private SortedMapShouldHaveFloorEntry(Object actual, Object key, Object expected) {
+        super("%nExpecting sorted actual:%n  %s%nto have floor entry of key:%n  %s%nequal to:%n  %s%n" +
+              "but all keys were greater than the given key", actual, key, expected);
+    }
+
+    /**
+     * Indicates that the floor entry of the given key is not the expected one.
+     *
+     * @param actual   the actual sorted map.
+     * @param key      the given key.
+     * @param expected the expected floor entry.
+     * @param found    the actual floor entry.
+     * @return an error message factory.
+     */
+    static ErrorMessageFactory shouldHaveFloorEntry(Object actual, Object key, Object expected, Object found) {
+        return new SortedMapShouldHaveFloorEntry(actual, key, expected, found);
+    }
+
+    /**
+     * Indicates that the given key has no floor entry.
+     *
+     * @param actual   the actual sorted map.
+     * @param key      the given key.
+     * @param expected the expected floor entry.
+     * @return an error message factory.
+     */
+    static ErrorMessageFactory shouldHaveFloorEntryButNoneFound(Object actual, Object key, Object expected) {
+        return new SortedMapShouldHaveFloorEntry(actual, key, expected);
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright 2017-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.vavr.api;
+
+import io.vavr.collection.Traversable;
+import io.vavr.control.Option;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Function;
+
+import static org.assertj.core.util.Preconditions.checkArgument;
+
+/**
+ * Range lookups on a sorted collection, by key. The smallest and greatest elements are reached through
+ * {@link Traversable#head()} and {@link Traversable#last()} in O(log n); a range is read by iterating in ascending order
+ * and stopping right after its upper bound, once the bounds have ruled out an empty intersection.
+ */
+final class SortedRange {
+
+    private SortedRange() {
+    }
+
+    static <K> void checkBounds(Comparator<? super K> comparator, K from, K to) {
+        checkArgument(comparator.compare(from, to) <= 0, "The lower bound %s should not be greater than the upper bound %s",
+                      from, to);
+    }
+
+    /**
+     * @return the elements of {@code sorted} whose key is between {@code from} and {@code to} inclusive, in ascending order.
+     */
+    static <K, E> List<E> between(Traversable<E> sorted, Function<? super E, ? extends K> key, Comparator<? super K> comparator,
+                                  K from, K to) {
+        final List<E> found = new ArrayList<>();
+        if (sorted.isEmpty()
+            || comparator.compare(key.apply(sorted.last()), from) < 0
+            || comparator.compare(key.apply(sorted.head()), to) > 0) {
+            return found;
+        }
+        for (E element : sorted) {
+            final K elementKey = key.apply(element);
+            if (comparator.compare(elementKey, to) > 0) break;
+            if (comparator.compare(elementKey, from) >= 0) found.add(element);
+        }
+        return found;
+    }
+
+    /**
+     * @return the smallest and/or greatest elements of {@code sorted} whose key is outside of {@code from} and {@code to}.
+     */
+    static <K, E> List<E> outside(Traversable<E> sorted, Function<? super E, ? extends K> key, Comparator<? super K> comparator,
+                                  K from, K to) {
+        final List<E> outside = new ArrayList<>();
+        if (sorted.isEmpty()) return outside;
+        final E min = sorted.head();
+        final E max = sorted.last();
+        if (comparator.compare(key.apply(min), from) < 0) outside.add(min);
+        if (comparator.compare(key.apply(max), to) > 0) outside.add(max);
+        return outside;
+    }
+
+    /**
+     * @return the element of {@code sorted} with the greatest key less than or equal to {@code bound}, if any.
+     */
+    static <K, E> Option<E> floor(Traversable<E> sorted, Function<? super E, ? extends K> key, Comparator<? super K> comparator,
+                                  K bound) {
+        if (sorted.isEmpty() || comparator.compare(key.apply(sorted.head()), bound) > 0) return Option.none();
+        final E max = sorted.last();
+        if (comparator.compare(key.apply(max), bound) <= 0) return Option.some(max);
+        E floor = null;
+        for (E element : sorted) {
+            if (comparator.compare(key.apply(element), bound) > 0) break;
+            floor = element;
+        }
+        return Option.some(floor);
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright 2017-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.vavr.api;
+
+import org.assertj.core.error.BasicErrorMessageFactory;
+import org.assertj.core.error.ErrorMessageFactory;
+
+/**
+ * Builds error message when the smallest or the greatest key or element of a sorted collection is not the expected one.
+ */
+class SortedShouldHaveBoundary extends BasicErrorMessageFactory {
+
+    private SortedShouldHaveBoundary(String boundary, Object actual, Object expected, Object found) {
+        super("%nExpecting sorted actual:%n  %s%nto have " + boundary + ":%n  %s%nbut had:%n  %s", actual, expected, found);
+    }
+
+    /**
+     * Indicates that the smallest key of a sorted map is not the expected one.
+     *
+     * @param actual   the actual sorted map.
+     * @param expected the expected smallest key.
+     * @param found    the actual smallest key.
+     * @return an error message factory.
+     */
+    static ErrorMessageFactory shouldHaveMinKey(Object actual, Object expected, Object found) {
+        return new SortedShouldHaveBoundary("min key", actual, expected, found);
+    }
+
+    /**
+     * Indicates that the greatest key of a sorted map is not the expected one.
+     *
+     * @param actual   the actual sorted map.
+     * @param expected the expected greatest key.
+     * @param found    the actual greatest key.
+     * @return an error message factory.
+     */
+    static ErrorMessageFactory shouldHaveMaxKey(Object actual, Object expected, Object found) {
+        return new SortedShouldHaveBoundary("max key", actual, expected, found);
+    }
+
+    /**
+     * Indicates that the smallest element of a sorted set is not the expected one.
+     *
+     * @param actual   the actual sorted set.
+     * @param expected the expected smallest element.
+     * @param found    the actual smallest element.
+     * @return an error message factory.
+     */
+    static ErrorMessageFactory shouldHaveMinElement(Object actual, Object expected, Object found) {
+        return new SortedShouldHaveBoundary("min element", actual, expected, found);
+    }
+
+    /**
+     * Indicates that the greatest element of a sorted set is not the expected one.
+     *
+     * @param actual   the actual sorted set.
+     * @param expected the expected greatest element.
+     * @param found    the actual greatest element.
+     * @return an error message factory.
+     */
+    static ErrorMessageFactory shouldHaveMaxElement(Object actual, Object expected, Object found) {
+        return new SortedShouldHaveBoundary("max element", actual, expected, found);
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright 2017-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.vavr.api;
+
+import org.assertj.core.error.BasicErrorMessageFactory;
+import org.assertj.core.error.ErrorMessageFactory;
+
+/**
+ * Builds error message when the keys or elements of a sorted collection within, or outside of, a range of values are
+ * not the expected ones. Range bounds are inclusive.
+ */
+class SortedShouldHaveInRange extends BasicErrorMessageFactory {
+
+    private SortedShouldHaveInRange(String template, Object... arguments) {
+        super(template, arguments);
+    }
+
+    /**
+     * Indicates that some keys or elements of a sorted collection are outside of the given range.
+     *
+     * @param actual  the actual sorted collection.
+     * @param items   what is checked, {@code "keys"} or {@code "elements"}.
+     * @param from    the lower bound of the range.
+     * @param to      the upper bound of the range.
+     * @param outside the smallest and/or greatest keys or elements outside of the range.
+     * @return an error message factory.
+     */
+    static ErrorMessageFactory shouldHaveAllBetween(Object actual, String items, Object from, Object to, Object outside) {
+        return new SortedShouldHaveInRange("%nExpecting all " + items + " of sorted actual:%n  %s%nto be between:%n  %s and %s%n" +
+                                           "but these were not:%n  %s", actual, from, to, outside);
+    }
+
+    /**
+     * Indicates that some keys or elements of a sorted collection are within the given range.
+     *
+     * @param actual the actual sorted collection.
+     * @param items  what is checked, {@code "keys"} or {@code "elements"}.
+     * @param from   the lower bound of the range.
+     * @param to     the upper bound of the range.
+     * @param found  the keys or elements found within the range.
+     * @return an error message factory.
+     */
+    static ErrorMessageFactory shouldHaveNoneBetween(Object actual, String items, Object from, Object to, Object found) {
+        return new SortedShouldHaveInRange("%nExpecting sorted actual:%n  %s%nnot to have any " + items + " between:%n  %s and %s%n" +
+                                           "but found:%n  %s", actual, from, to, found);
+    }
+
+    /**
+     * Indicates that the entries or elements of a sorted collection within the given range are not the expected ones.
+     *
+     * @param actual   the actual sorted collection.
+     * @param from     the lower bound of the range.
+     * @param to       the upper bound of the range.
+     * @param expected the expected entries or elements within the range, in order.
+     * @param found    the entries or elements found within the range, in order.
+     * @return an error message factory.
+     */
+    static ErrorMessageFactory shouldContainRange(Object actual, Object from, Object to, Object expected, Object found) {
+        return new SortedShouldHaveInRange("%nExpecting sorted actual:%n  %s%nto contain exactly between %s and %s:%n  %s%n" +
+                                           "but found:%n  %s", actual, from, to, expected, found);
+    }
+}
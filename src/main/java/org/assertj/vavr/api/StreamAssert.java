@@ -0,0 +1,208 @@
+/*
+ * Copyright 2017-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.vavr.api;
+
+import io.vavr.collection.Seq;
+import io.vavr.collection.Stream;
+import org.assertj.core.util.CheckReturnValue;
+
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.function.Consumer;
+
+import static org.assertj.core.util.Preconditions.checkArgument;
+import static org.assertj.vavr.api.StreamShouldNotBeEvaluatedBeyond.shouldNotBeEvaluatedBeyond;
+
+/**
+ * Assertions for {@link Stream}.
+ * <p>
+ * Besides the {@link Seq} assertions, which may evaluate the whole stream, it offers assertions that evaluate only as
+ * many cells as needed to reach a verdict, so they can be used with infinite or expensive streams. Their failure
+ * messages report how many elements were evaluated.
+ * <p>
+ * {@code StreamAssert} is a {@link SeqAssert}, so the inherited assertions return a {@link SeqAssert}: chain the
+ * {@link Stream} specific assertions before them.
+ *
+ * @param <ELEMENT> type of elements contained in the {@link Stream}.
+ */
+public class StreamAssert<ELEMENT> extends SeqAssert<ELEMENT> {
+
+	/**
+	 * The number of leading elements pulled so far by the bounded assertions of this object.
+	 */
+	private int evaluatedElements;
+
+	StreamAssert(Stream<ELEMENT> actual) {
+		super(actual, StreamAssert.class);
+	}
+
+	@Override
+	protected StreamAssert<ELEMENT> newAbstractIterableAssert(Iterable<? extends ELEMENT> iterable) {
+		return new StreamAssert<>(Stream.ofAll(iterable));
+	}
+
+	@Override
+	@CheckReturnValue
+	public StreamAssert<ELEMENT> usingElementComparator(Comparator<? super ELEMENT> customComparator) {
+		super.usingElementComparator(customComparator);
+		return this;
+	}
+
+	/**
+	 * Verifies that the actual {@link Stream} starts with the given sequence of objects, evaluating at most as many
+	 * cells as there are objects in the sequence.
+	 * <p>
+	 * As for any {@link Seq}, an empty sequence is only a prefix of an empty stream.
+	 * <p>
+	 * Example:
+	 * <pre><code class='java'> Stream&lt;Integer&gt; naturals = Stream.from(1);
+	 *
+	 * // assertion will pass
+	 * assertThat(naturals).startsWith(1, 2, 3);
+	 *
+	 * // assertion will fail
+	 * assertThat(naturals).startsWith(2, 3);</code></pre>
+	 *
+	 * @param sequence the sequence of objects to look for.
+	 * @return this assertion object.
+	 * @throws NullPointerException if the given sequence is {@code null}.
+	 * @throws AssertionError if the actual {@link Stream} does not start with the given sequence.
+	 */
+	@Override
+	protected SeqAssert<ELEMENT> startsWithForProxy(ELEMENT[] sequence) {
+		// only the head of the stream is inspected to check an empty sequence
+		if (sequence != null && sequence.length == 0) return super.startsWithForProxy(sequence);
+		isNotNull();
+		BoundedTraversal.startsWith(actual, evaluatingIterator(), sequence, elementComparisonStrategy())
+				.forEach(this::throwAssertionError);
+		return myself;
+	}
+
+	/**
+	 * Verifies that all given values are found within the first {@code limit} elements of the actual {@link Stream}.
+	 * The stream is evaluated only until all values are found, and never beyond {@code limit} cells.
+	 * <p>
+	 * Example:
+	 * <pre><code class='java'> Stream&lt;Integer&gt; squares = Stream.from(1).map(i -&gt; i * i);
+	 *
+	 * // assertion will pass
+	 * assertThat(squares).containsWithinFirst(10, 4, 81);
+	 *
+	 * // assertion will fail
+	 * assertThat(squares).containsWithinFirst(5, 4, 81);</code></pre>
+	 *
+	 * @param limit  the number of leading elements to search.
+	 * @param values the values to look for.
+	 * @return this assertion object.
+	 * @throws IllegalArgumentException if the given limit is negative.
+	 * @throws NullPointerException if the given values are {@code null}.
+	 * @throws AssertionError if any of the given values is not among the first {@code limit} elements.
+	 */
+	@SafeVarargs
+	public final StreamAssert<ELEMENT> containsWithinFirst(int limit, ELEMENT... values) {
+		return containsWithinFirstForProxy(limit, values);
+	}
+
+	// This method is protected in order to be proxied for SoftAssertions / Assumptions.
+	// The public method for it (the one not ending with "ForProxy") is marked as final and annotated with @SafeVarargs
+	// in order to avoid compiler warning in user code
+	protected StreamAssert<ELEMENT> containsWithinFirstForProxy(int limit, ELEMENT[] values) {
+		isNotNull();
+		BoundedTraversal.containsWithinFirst(actual, evaluatingIterator(), limit, values, elementComparisonStrategy())
+				.forEach(this::throwAssertionError);
+		return this;
+	}
+
+	/**
+	 * Verifies that each of the first {@code limit} elements of the actual {@link Stream} satisfies the given
+	 * requirements. The stream is evaluated up to the first failing element and never beyond {@code limit} cells.
+	 * <p>
+	 * Example:
+	 * <pre><code class='java'> Stream&lt;Integer&gt; evens = Stream.from(0, 2);
+	 *
+	 * // assertion will pass
+	 * assertThat(evens).allSatisfyInFirst(1_000, even -&gt; assertThat(even % 2).isZero());
+	 *
+	 * // assertion will fail
+	 * assertThat(evens).allSatisfyInFirst(1_000, even -&gt; assertThat(even).isLessThan(100));</code></pre>
+	 *
+	 * @param limit        the number of leading elements to check.
+	 * @param requirements the requirements to be met by each element.
+	 * @return this assertion object.
+	 * @throws IllegalArgumentException if the given limit is negative.
+	 * @throws NullPointerException if the given requirements are {@code null}.
+	 * @throws AssertionError if one of the first {@code limit} elements does not satisfy the requirements.
+	 */
+	public StreamAssert<ELEMENT> allSatisfyInFirst(int limit, Consumer<? super ELEMENT> requirements) {
+		isNotNull();
+		BoundedTraversal.allSatisfyInFirst(actual, evaluatingIterator(), limit, requirements)
+				.forEach(this::throwAssertionError);
+		return this;
+	}
+
+	/**
+	 * Verifies that the bounded assertions of this object ({@link #startsWith(Object[]) startsWith},
+	 * {@link #containsWithinFirst(int, Object[]) containsWithinFirst} and
+	 * {@link #allSatisfyInFirst(int, Consumer) allSatisfyInFirst}) evaluated no more than {@code limit} elements of the
+	 * actual {@link Stream}.
+	 * <p>
+	 * Vavr does not expose whether the tail of a {@link Stream} cell is evaluated, so cells evaluated by other code,
+	 * or by the other {@link Seq} assertions, which may evaluate the whole stream, are not accounted for.
+	 * <p>
+	 * Example:
+	 * <pre><code class='java'> Stream&lt;Integer&gt; naturals = Stream.from(1);
+	 *
+	 * // assertion will pass
+	 * assertThat(naturals).containsWithinFirst(10, 3)
+	 *                     .isNotEvaluatedBeyond(3);
+	 *
+	 * // assertion will fail
+	 * assertThat(naturals).allSatisfyInFirst(4, natural -&gt; assertThat(natural).isPositive())
+	 *                     .isNotEvaluatedBeyond(3);</code></pre>
+	 *
+	 * @param limit the maximum number of evaluated elements.
+	 * @return this assertion object.
+	 * @throws IllegalArgumentException if the given limit is negative.
+	 * @throws AssertionError if more than {@code limit} elements of the actual {@link Stream} have been evaluated by
+	 * the bounded assertions of this object.
+	 */
+	public StreamAssert<ELEMENT> isNotEvaluatedBeyond(int limit) {
+		isNotNull();
+		checkArgument(limit >= 0, "The number of elements to evaluate should not be negative but was: %s", limit);
+		if (evaluatedElements > limit) throwAssertionError(shouldNotBeEvaluatedBeyond((Stream<?>) actual, limit, evaluatedElements));
+		return this;
+	}
+
+	private Iterator<ELEMENT> evaluatingIterator() {
+		final Iterator<ELEMENT> elements = actual.iterator();
+		return new Iterator<ELEMENT>() {
+
+			private int pulled;
+
+			@Override
+			public boolean hasNext() {
+				return elements.hasNext();
+			}
+
+			@Override
+			public ELEMENT next() {
+				final ELEMENT element = elements.next();
+				evaluatedElements = Math.max(evaluatedElements, ++pulled);
+				return element;
+			}
+		};
+	}
+}
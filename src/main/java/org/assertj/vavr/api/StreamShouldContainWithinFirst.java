@@ -0,0 +1,44 @@
+/*
+ * Copyright 2017-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.vavr.api;
+
+import org.assertj.core.error.BasicErrorMessageFactory;
+import org.assertj.core.error.ErrorMessageFactory;
+
+/**
+ * Builds error message when some values are not found within the first elements of a lazily evaluated sequence.
+ */
+class StreamShouldContainWithinFirst extends BasicErrorMessageFactory {
+
+    private StreamShouldContainWithinFirst(Object actual, int limit, Object[] values, Object notFound, int evaluated) {
+        super("%nExpecting the first %s element(s) of actual:%n  %s%nto contain:%n  %s%nbut could not find:%n  %s%n(%s element(s) evaluated)",
+              limit, actual, values, notFound, evaluated);
+    }
+
+    /**
+     * Indicates that some values are not among the first {@code limit} elements of the lazily evaluated sequence.
+     *
+     * @param actual    the actual sequence.
+     * @param limit     the number of leading elements that were searched.
+     * @param values    the values looked for.
+     * @param notFound  the values that were not found.
+     * @param evaluated the number of elements evaluated.
+     * @return an error message factory.
+     */
+    static ErrorMessageFactory shouldContainWithinFirst(Object actual, int limit, Object[] values, Object notFound, int evaluated) {
+        return new StreamShouldContainWithinFirst(actual, limit, values, notFound, evaluated);
+    }
+}
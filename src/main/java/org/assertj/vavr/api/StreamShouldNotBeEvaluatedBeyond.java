@@ -0,0 +1,43 @@
+/*
+ * Copyright 2017-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.vavr.api;
+
+import io.vavr.collection.Stream;
+import org.assertj.core.error.BasicErrorMessageFactory;
+import org.assertj.core.error.ErrorMessageFactory;
+
+/**
+ * Builds error message when more cells of a {@link Stream} were evaluated than allowed.
+ */
+class StreamShouldNotBeEvaluatedBeyond extends BasicErrorMessageFactory {
+
+    private StreamShouldNotBeEvaluatedBeyond(Stream<?> actual, int limit, int evaluated) {
+        super("%nExpecting actual:%n  %s%nnot to be evaluated beyond %s element(s), but %s element(s) were evaluated",
+              actual, limit, evaluated);
+    }
+
+    /**
+     * Indicates that the {@link Stream} has more evaluated cells than allowed.
+     *
+     * @param actual    the actual stream.
+     * @param limit     the maximum number of evaluated cells.
+     * @param evaluated the number of evaluated cells.
+     * @return an error message factory.
+     */
+    static ErrorMessageFactory shouldNotBeEvaluatedBeyond(Stream<?> actual, int limit, int evaluated) {
+        return new StreamShouldNotBeEvaluatedBeyond(actual, limit, evaluated);
+    }
+}
@@ -0,0 +1,50 @@
+/*
+ * Copyright 2017-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.vavr.api;
+
+import org.assertj.core.error.BasicErrorMessageFactory;
+import org.assertj.core.error.ErrorMessageFactory;
+
+import static org.assertj.core.util.Strings.escapePercent;
+
+/**
+ * Builds error message when an element among the first elements of a lazily evaluated sequence does not satisfy the
+ * given requirements.
+ */
+class StreamShouldSatisfyInFirst extends BasicErrorMessageFactory {
+
+    private StreamShouldSatisfyInFirst(Object actual, int limit, int index, Object element, String error, int evaluated) {
+        super("%nExpecting the first %s element(s) of actual:%n  %s%nto satisfy the given requirements, but element at index %s:%n  %s%ndid not:%n  "
+              + escapePercent(error) + "%n(%s element(s) evaluated)",
+              limit, actual, index, element, evaluated);
+    }
+
+    /**
+     * Indicates that an element among the first {@code limit} elements of the lazily evaluated sequence does not
+     * satisfy the given requirements.
+     *
+     * @param actual    the actual sequence.
+     * @param limit     the number of leading elements that were checked.
+     * @param index     the index of the failing element.
+     * @param element   the failing element.
+     * @param error     the message of the requirements failure.
+     * @param evaluated the number of elements evaluated.
+     * @return an error message factory.
+     */
+    static ErrorMessageFactory shouldSatisfyInFirst(Object actual, int limit, int index, Object element, String error, int evaluated) {
+        return new StreamShouldSatisfyInFirst(actual, limit, index, element, error, evaluated);
+    }
+}
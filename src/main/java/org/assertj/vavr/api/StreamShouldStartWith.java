@@ -0,0 +1,61 @@
+/*
+ * Copyright 2017-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.vavr.api;
+
+import org.assertj.core.error.BasicErrorMessageFactory;
+import org.assertj.core.error.ErrorMessageFactory;
+
+/**
+ * Builds error message when a lazily evaluated sequence does not start with the expected elements.
+ * The number of elements evaluated to reach the verdict is part of the message.
+ */
+class StreamShouldStartWith extends BasicErrorMessageFactory {
+
+    private StreamShouldStartWith(Object actual, Object[] sequence, int index, Object found, int evaluated) {
+        super("%nExpecting actual:%n  %s%nto start with:%n  %s%nbut element at index %s was:%n  %s%ninstead of:%n  %s%n(%s element(s) evaluated)",
+              actual, sequence, index, found, sequence[index], evaluated);
+    }
+
+    private StreamShouldStartWith(Object actual, Object[] sequence, int evaluated) {
+        super("%nExpecting actual:%n  %s%nto start with:%n  %s%nbut it ended after %s element(s)", actual, sequence, evaluated);
+    }
+
+    /**
+     * Indicates that an element of the lazily evaluated sequence differs from the expected one.
+     *
+     * @param actual    the actual sequence.
+     * @param sequence  the expected first elements.
+     * @param index     the index of the first differing element.
+     * @param found     the element found at that index.
+     * @param evaluated the number of elements evaluated.
+     * @return an error message factory.
+     */
+    static ErrorMessageFactory shouldStartWith(Object actual, Object[] sequence, int index, Object found, int evaluated) {
+        return new StreamShouldStartWith(actual, sequence, index, found, evaluated);
+    }
+
+    /**
+     * Indicates that the lazily evaluated sequence ended before all expected elements were found.
+     *
+     * @param actual    the actual sequence.
+     * @param sequence  the expected first elements.
+     * @param evaluated the number of elements evaluated.
+     * @return an error message factory.
+     */
+    static ErrorMessageFactory shouldStartWithButEnded(Object actual, Object[] sequence, int evaluated) {
+        return new StreamShouldStartWith(actual, sequence, evaluated);
+    }
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright 2017-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.vavr.api;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+
+/**
+ * Reads the number of bytes allocated by the current thread, through the
+ * {@link com.sun.management.ThreadMXBean#getThreadAllocatedBytes(long)} extension of HotSpot-based JVMs.
+ */
+final class ThreadAllocation {
+
+    private static final com.sun.management.ThreadMXBean THREADS = allocationCountingThreads();
+
+    private ThreadAllocation() {
+    }
+
+    /**
+     * Returns whether allocations can be counted on this JVM.
+     */
+    static boolean isSupported() {
+        return THREADS != null;
+    }
+
+    /**
+     * Returns the total number of bytes allocated so far by the current thread.
+     */
+    static long allocatedBytes() {
+        return THREADS.getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+
+    private static com.sun.management.ThreadMXBean allocationCountingThreads() {
+        try {
+            final ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+            if (!(threads instanceof com.sun.management.ThreadMXBean)) return null;
+            final com.sun.management.ThreadMXBean allocationCountingThreads = (com.sun.management.ThreadMXBean) threads;
+            if (!allocationCountingThreads.isThreadAllocatedMemorySupported()) return null;
+            if (!allocationCountingThreads.isThreadAllocatedMemoryEnabled()) {
+                allocationCountingThreads.setThreadAllocatedMemoryEnabled(true);
+            }
+            return allocationCountingThreads;
+        } catch (LinkageError | UnsupportedOperationException | SecurityException e) {
+            // e.g. com.sun.management is not available on this JVM
+            return null;
+        }
+    }
+}
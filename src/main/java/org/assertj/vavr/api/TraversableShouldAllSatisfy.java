@@ -0,0 +1,66 @@
+/*
+ * Copyright 2017-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.vavr.api;
+
+import org.assertj.core.error.BasicErrorMessageFactory;
+import org.assertj.core.error.ErrorMessageFactory;
+
+import java.util.List;
+
+import static org.assertj.core.util.Strings.escapePercent;
+
+/**
+ * Builds error message when some elements of a collection do not satisfy the given requirements. Every failing
+ * element is listed, in iteration order, with its index and the reason of the failure, while the collection itself is
+ * only described by its size.
+ */
+class TraversableShouldAllSatisfy extends BasicErrorMessageFactory {
+
+    private TraversableShouldAllSatisfy(int size, List<UnsatisfiedRequirement> failures) {
+        super(template(size, failures), arguments(failures));
+    }
+
+    private static String template(int size, List<UnsatisfiedRequirement> failures) {
+        final StringBuilder template = new StringBuilder("%nExpecting all elements of a collection of size ")
+                .append(size).append("%n")
+                .append("to satisfy given requirements, but these ").append(failures.size())
+                .append(" element(s) did not:%n");
+        for (UnsatisfiedRequirement failure : failures) {
+            template.append("%n  [").append(failure.index).append("] %s%n  error: ")
+                    .append(escapePercent(failure.errorMessage)).append("%n");
+        }
+        return template.toString();
+    }
+
+    private static Object[] arguments(List<UnsatisfiedRequirement> failures) {
+        final Object[] arguments = new Object[failures.size()];
+        for (int i = 0; i < failures.size(); i++) {
+            arguments[i] = failures.get(i).element;
+        }
+        return arguments;
+    }
+
+    /**
+     * Indicates that some elements do not satisfy the given requirements.
+     *
+     * @param size     the number of elements of the actual collection.
+     * @param failures the elements not satisfying the requirements, in iteration order.
+     * @return an error message factory.
+     */
+    static ErrorMessageFactory shouldAllSatisfy(int size, List<UnsatisfiedRequirement> failures) {
+        return new TraversableShouldAllSatisfy(size, failures);
+    }
+}
@@ -0,0 +1,32 @@
+/*
+ * Copyright 2017-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.vavr.api;
+
+/**
+ * An element that did not satisfy the requirements checked against it, with its position in the checked collection.
+ */
+final class UnsatisfiedRequirement {
+
+    final int index;
+    final Object element;
+    final String errorMessage;
+
+    UnsatisfiedRequirement(int index, Object element, String errorMessage) {
+        this.index = index;
+        this.element = element;
+        this.errorMessage = errorMessage;
+    }
+}
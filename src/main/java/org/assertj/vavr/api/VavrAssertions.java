@@ -15,14 +15,20 @@
  */
 package org.assertj.vavr.api;
 
+import io.vavr.CheckedFunction0;
 import io.vavr.Lazy;
+import io.vavr.Value;
 import io.vavr.collection.*;
+import io.vavr.concurrent.Future;
 import io.vavr.control.Either;
 import io.vavr.control.Option;
 import io.vavr.control.Try;
 import io.vavr.control.Validation;
 import org.assertj.core.util.CheckReturnValue;
 
+import java.util.function.Function;
+import java.util.function.IntFunction;
+
 /**
  * Entry point for assertion methods for different Vavr types. Each method in this class is a static factory for a
  * type-specific assertion object.
@@ -48,6 +54,45 @@ public final class VavrAssertions implements VavrInstanceOfAssertFactories {
         return new EitherAssert<>(actual);
     }
 
+    /**
+     * Creates empirical complexity assertions for an operation, which is timed by the assertions on inputs of growing
+     * sizes.
+     *
+     * @param <INPUT>     the type of the inputs of <code>operation</code>.
+     * @param inputOfSize the generator of an input of a given size.
+     * @param operation   the operation to time.
+     * @return the created assertion object.
+     */
+    @CheckReturnValue
+    public static <INPUT> ComplexityAssert<INPUT> assertThatComplexity(IntFunction<? extends INPUT> inputOfSize,
+                                                                       Function<? super INPUT, ?> operation) {
+        return new ComplexityAssert<>(inputOfSize, operation);
+    }
+
+    /**
+     * Creates latency assertions for a computation, which is run and timed by the assertions.
+     *
+     * @param <VALUE>     the type of the value produced by <code>computation</code>.
+     * @param computation the computation to time.
+     * @return the created assertion object.
+     */
+    @CheckReturnValue
+    public static <VALUE> ComputationAssert<VALUE> assertThatComputation(CheckedFunction0<VALUE> computation) {
+        return new ComputationAssert<>(computation);
+    }
+
+    /**
+     * Creates assertion for {@link io.vavr.concurrent.Future}.
+     *
+     * @param <VALUE> the type of a value of <code>actual {@link Future}</code>.
+     * @param actual  the actual value.
+     * @return the created assertion object.
+     */
+    @CheckReturnValue
+    public static <VALUE> FutureAssert<VALUE> assertThat(Future<VALUE> actual) {
+        return new FutureAssert<>(actual);
+    }
+
     /**
      * Creates assertion for {@link Lazy}.
      *
@@ -84,6 +129,19 @@ public final class VavrAssertions implements VavrInstanceOfAssertFactories {
         return new TryAssert<>(actual);
     }
 
+    /**
+     * Creates bulk assertions for a collection of Vavr values such as {@link Option}, {@link Try}, {@link Either} or
+     * {@link Validation}, checking all the elements in a single pass.
+     *
+     * @param <VALUE> the type of the values held by the elements of <code>actual</code>.
+     * @param actual  the actual collection of values.
+     * @return the created assertion object.
+     */
+    @CheckReturnValue
+    public static <VALUE> AllValuesAssert<VALUE> assertThatAll(Traversable<? extends Value<VALUE>> actual) {
+        return new AllValuesAssert<>(actual);
+    }
+
     /**
      * Creates assertion for {@link io.vavr.collection.List}.
      *
@@ -96,6 +154,30 @@ public final class VavrAssertions implements VavrInstanceOfAssertFactories {
         return new SeqAssert<>(actual);
     }
 
+    /**
+     * Creates assertion for {@link io.vavr.collection.Stream}.
+     *
+     * @param <VALUE> the type of elements contained by <code>actual {@link Stream}</code>.
+     * @param actual  the actual value.
+     * @return the created assertion object.
+     */
+    @CheckReturnValue
+    public static <VALUE> StreamAssert<VALUE> assertThat(Stream<VALUE> actual) {
+        return new StreamAssert<>(actual);
+    }
+
+    /**
+     * Creates assertion for {@link io.vavr.collection.Iterator}.
+     *
+     * @param <VALUE> the type of elements returned by <code>actual {@link Iterator}</code>.
+     * @param actual  the actual value.
+     * @return the created assertion object.
+     */
+    @CheckReturnValue
+    public static <VALUE> IteratorAssert<VALUE> assertThat(Iterator<VALUE> actual) {
+        return new IteratorAssert<>(actual);
+    }
+
     /**
      * Creates assertion for {@link io.vavr.control.Validation}.
      *
@@ -16,16 +16,23 @@
 package org.assertj.vavr.api;
 
 import io.vavr.Lazy;
+import io.vavr.collection.Array;
+import io.vavr.collection.Iterator;
+import io.vavr.collection.List;
 import io.vavr.collection.Map;
 import io.vavr.collection.Multimap;
 import io.vavr.collection.Seq;
 import io.vavr.collection.Set;
+import io.vavr.collection.Stream;
+import io.vavr.concurrent.Future;
 import io.vavr.control.Either;
 import io.vavr.control.Option;
 import io.vavr.control.Try;
 import io.vavr.control.Validation;
 import net.bytebuddy.ByteBuddy;
+import net.bytebuddy.ClassFileVersion;
 import net.bytebuddy.TypeCache;
+import net.bytebuddy.dynamic.DynamicType;
 import net.bytebuddy.dynamic.scaffold.TypeValidation;
 import net.bytebuddy.implementation.Implementation;
 import net.bytebuddy.implementation.MethodDelegation;
@@ -35,12 +42,17 @@ import net.bytebuddy.implementation.bind.annotation.SuperCall;
 import net.bytebuddy.implementation.bind.annotation.This;
 import org.assertj.core.util.CheckReturnValue;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Constructor;
-import java.lang.reflect.InvocationTargetException;
+import java.time.Duration;
 import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
 
 import static net.bytebuddy.matcher.ElementMatchers.any;
-import static org.assertj.core.util.Arrays.array;
 import static org.assertj.vavr.api.ClassLoadingStrategyFactory.classLoadingStrategy;
 
 public class VavrAssumptions {
@@ -48,14 +60,68 @@ public class VavrAssumptions {
     /**
      * This NamingStrategy takes the original class's name and adds a suffix to distinguish it.
      * The default is ByteBuddy but for debugging purposes, it makes sense to add AssertJ as a name.
+     * <p>
+     * The class file version is pinned to the one targeted by the library, so that the assumption classes generated
+     * during the build can be loaded by a Java 8 runtime whatever JDK the build runs on.
      */
-    private static final ByteBuddy BYTE_BUDDY = new ByteBuddy().with(TypeValidation.DISABLED)
+    private static final ByteBuddy BYTE_BUDDY = new ByteBuddy(ClassFileVersion.JAVA_V8).with(TypeValidation.DISABLED)
             .with(new AuxiliaryType.NamingStrategy.SuffixingRandom("Assertj$Assumptions"));
 
     private static final Implementation ASSUMPTION = MethodDelegation.to(AssumptionMethodInterceptor.class);
 
     private static final TypeCache<TypeCache.SimpleKey> CACHE = new TypeCache.WithInlineExpunction<>(TypeCache.Sort.SOFT);
 
+    /**
+     * Assertion types whose assumption classes are generated during the build by {@link AssumptionClassGenerator}.
+     */
+    static final List<Class<?>> PRE_GENERATED_TYPES = List.of(
+            EitherAssert.class, FutureAssert.class, IteratorAssert.class, LazyAssert.class, MapAssert.class,
+            MultimapAssert.class, OptionAssert.class, SeqAssert.class, SetAssert.class, StreamAssert.class, TryAssert.class,
+            ValidationAssert.class);
+
+    private static final LongAdder PRE_GENERATED_HITS = new LongAdder();
+    private static final LongAdder CACHE_HITS = new LongAdder();
+    private static final LongAdder CACHE_MISSES = new LongAdder();
+    private static final LongAdder GENERATION_NANOS = new LongAdder();
+
+    /**
+     * Assumption classes created by {@link #preload()}, strongly referenced so that the soft cache cannot evict them.
+     */
+    private static final ConcurrentMap<Class<?>, Class<?>> PINNED = new ConcurrentHashMap<>();
+
+    /**
+     * Constructor handles of assumption classes, adapted to {@code (Object)Object}. Every assumption class has a single
+     * public constructor taking the actual value.
+     */
+    private static final ClassValue<MethodHandle> CONSTRUCTORS = new ClassValue<MethodHandle>() {
+        @Override
+        protected MethodHandle computeValue(Class<?> assumptionType) {
+            final Constructor<?> constructor = Array.of(assumptionType.getConstructors())
+                    .find(candidate -> candidate.getParameterCount() == 1)
+                    .getOrElseThrow(() -> new IllegalStateException("No assumption constructor in " + assumptionType));
+            try {
+                return MethodHandles.lookup().unreflectConstructor(constructor)
+                        .asType(MethodType.methodType(Object.class, Object.class));
+            } catch (IllegalAccessException e) {
+                throw new IllegalStateException("Cannot access assumption constructor of " + assumptionType, e);
+            }
+        }
+    };
+
+    private static final ClassValue<Option<Class<?>>> PRE_GENERATED = new ClassValue<Option<Class<?>>>() {
+        @Override
+        protected Option<Class<?>> computeValue(Class<?> assertionType) {
+            if (!PRE_GENERATED_TYPES.contains(assertionType)) return Option.none();
+            try {
+                return Option.<Class<?>>of(Class.forName(preGeneratedName(assertionType), true, assertionType.getClassLoader()))
+                        .filter(assertionType::isAssignableFrom);
+            } catch (ClassNotFoundException | LinkageError e) {
+                // not generated (e.g. compiled by an IDE) or not loadable by this runtime: generate it instead
+                return Option.none();
+            }
+        }
+    };
+
     private static final class AssumptionMethodInterceptor {
 
         @RuntimeType
@@ -87,6 +153,19 @@ public class VavrAssumptions {
         return asAssumption(EitherAssert.class, Either.class, actual);
     }
 
+    /**
+     * Creates a new instance of <code>{@link FutureAssert}</code> assumption.
+     *
+     * @param <VALUE> type of the value of the {@link Future}.
+     * @param actual  the actual value.
+     * @return the created assumption for assertion object.
+     */
+    @CheckReturnValue
+    @SuppressWarnings("unchecked")
+    public static <VALUE> FutureAssert<VALUE> assumeThat(Future<VALUE> actual) {
+        return asAssumption(FutureAssert.class, Future.class, actual);
+    }
+
     /**
      * Creates a new instance of <code>{@link LazyAssert}</code> assumption.
      *
@@ -167,6 +246,32 @@ public class VavrAssumptions {
         return asAssumption(SeqAssert.class, Seq.class, actual);
     }
 
+    /**
+     * Creates a new instance of <code>{@link StreamAssert}</code> assumption.
+     *
+     * @param <ELEMENT> type of elements contained in the {@link Stream}.
+     * @param actual  the actual value.
+     * @return the created assumption for assertion object.
+     */
+    @CheckReturnValue
+    @SuppressWarnings("unchecked")
+    public static <ELEMENT> StreamAssert<ELEMENT> assumeThat(Stream<ELEMENT> actual) {
+        return asAssumption(StreamAssert.class, Stream.class, actual);
+    }
+
+    /**
+     * Creates a new instance of <code>{@link IteratorAssert}</code> assumption.
+     *
+     * @param <ELEMENT> type of elements returned by the {@link Iterator}.
+     * @param actual  the actual value.
+     * @return the created assumption for assertion object.
+     */
+    @CheckReturnValue
+    @SuppressWarnings("unchecked")
+    public static <ELEMENT> IteratorAssert<ELEMENT> assumeThat(Iterator<ELEMENT> actual) {
+        return asAssumption(IteratorAssert.class, Iterator.class, actual);
+    }
+
     /**
      * Creates a new instance of <code>{@link TryAssert}</code> assumption.
      *
@@ -194,39 +299,93 @@ public class VavrAssumptions {
         return asAssumption(ValidationAssert.class, Validation.class, actual);
     }
 
+    /**
+     * Creates the assumption classes of all built-in assertion types, in parallel, together with the handles of their
+     * constructors. The classes are pinned, so that they are not evicted from the cache and generated again later.
+     * <p>
+     * Calling this method at the start of a test suite moves the cost of generating assumption classes out of the
+     * first test using an assumption. It is cheap when the classes were generated during the build of the library.
+     *
+     * @return the statistics of assumption class creation after preloading.
+     */
+    public static VavrAssumptionsStats preload() {
+        PRE_GENERATED_TYPES.toJavaParallelStream().forEach(assertionType -> {
+            final Class<?> assumptionType = createAssumptionClass(assertionType);
+            PINNED.putIfAbsent(assertionType, assumptionType);
+            CONSTRUCTORS.get(assumptionType);
+        });
+        return stats();
+    }
+
+    /**
+     * Returns a snapshot of the statistics of assumption class creation in this JVM.
+     *
+     * @return the statistics snapshot.
+     */
+    public static VavrAssumptionsStats stats() {
+        return new VavrAssumptionsStats(PRE_GENERATED_HITS.sum(), CACHE_HITS.sum(), CACHE_MISSES.sum(),
+                Duration.ofNanos(GENERATION_NANOS.sum()), PINNED.size());
+    }
+
     private static <ASSERTION, ACTUAL> ASSERTION asAssumption(Class<ASSERTION> assertionType,
                                                               Class<ACTUAL> actualType,
                                                               Object actual) {
-        return asAssumption(assertionType, array(actualType), array(actual));
-    }
-
-    private static <ASSERTION> ASSERTION asAssumption(Class<ASSERTION> assertionType,
-                                                      Class<?>[] constructorTypes,
-                                                      Object... constructorParams) {
+        final MethodHandle constructor = CONSTRUCTORS.get(createAssumptionClass(assertionType));
         try {
-            Class<? extends ASSERTION> type = createAssumptionClass(assertionType);
-            Constructor<? extends ASSERTION> constructor = type.getConstructor(constructorTypes);
-            return constructor.newInstance(constructorParams);
-        } catch (NoSuchMethodException | IllegalAccessException | InvocationTargetException | InstantiationException e) {
+            return assertionType.cast((Object) constructor.invokeExact((Object) actualType.cast(actual)));
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
             throw new RuntimeException("Cannot create assumption instance", e);
         }
     }
 
     @SuppressWarnings("unchecked")
     private static <ASSERTION> Class<? extends ASSERTION> createAssumptionClass(Class<ASSERTION> assertClass) {
+        // classes generated during the build are loaded once and never evicted; runtime generation is the fallback
+        // for other assertion types and for builds without the generated classes
+        final Option<Class<?>> preGenerated = PRE_GENERATED.get(assertClass);
+        if (preGenerated.isDefined()) {
+            PRE_GENERATED_HITS.increment();
+            return (Class<? extends ASSERTION>) preGenerated.get();
+        }
+        final Class<?> pinned = PINNED.get(assertClass);
+        if (pinned != null) {
+            CACHE_HITS.increment();
+            return (Class<? extends ASSERTION>) pinned;
+        }
         TypeCache.SimpleKey cacheKey = new TypeCache.SimpleKey(assertClass);
+        final Class<?> cached = CACHE.find(VavrAssumptions.class.getClassLoader(), cacheKey);
+        if (cached != null) {
+            CACHE_HITS.increment();
+            return (Class<? extends ASSERTION>) cached;
+        }
         return (Class<ASSERTION>) CACHE.findOrInsert(VavrAssumptions.class.getClassLoader(),
                 cacheKey,
                 () -> generateAssumptionClass(assertClass));
     }
 
     private static <ASSERTION> Class<? extends ASSERTION> generateAssumptionClass(Class<ASSERTION> assertionType) {
+        final long start = System.nanoTime();
+        try {
+            return assumptionClassBuilder(assertionType)
+                    .make()
+                    .load(VavrAssumptions.class.getClassLoader(), classLoadingStrategy(assertionType))
+                    .getLoaded();
+        } finally {
+            CACHE_MISSES.increment();
+            GENERATION_NANOS.add(System.nanoTime() - start);
+        }
+    }
+
+    static <ASSERTION> DynamicType.Builder<ASSERTION> assumptionClassBuilder(Class<ASSERTION> assertionType) {
         return BYTE_BUDDY.subclass(assertionType)
                 .method(any())
-                .intercept(ASSUMPTION)
-                .make()
-                .load(VavrAssumptions.class.getClassLoader(), classLoadingStrategy(assertionType))
-                .getLoaded();
+                .intercept(ASSUMPTION);
+    }
+
+    static String preGeneratedName(Class<?> assertionType) {
+        return assertionType.getName() + "$Assumption";
     }
 
     private static RuntimeException assumptionNotMet(AssertionError assertionError) throws ReflectiveOperationException {
@@ -262,10 +421,13 @@ public class VavrAssumptions {
         Object actual = assertion.actual();
         if (assertion instanceof LazyAssert) return asAssumption(LazyAssert.class, Lazy.class, actual);
         if (assertion instanceof EitherAssert) return asAssumption(EitherAssert.class, Either.class, actual);
+        if (assertion instanceof FutureAssert) return asAssumption(FutureAssert.class, Future.class, actual);
         if (assertion instanceof MapAssert) return asAssumption(MapAssert.class, Map.class, actual);
         if (assertion instanceof MultimapAssert) return asAssumption(MultimapAssert.class, Multimap.class, actual);
         if (assertion instanceof OptionAssert) return asAssumption(OptionAssert.class, Option.class, actual);
+        if (assertion instanceof StreamAssert) return asAssumption(StreamAssert.class, Stream.class, actual);
         if (assertion instanceof SeqAssert) return asAssumption(SeqAssert.class, Seq.class, actual);
+        if (assertion instanceof IteratorAssert) return asAssumption(IteratorAssert.class, Iterator.class, actual);
         if (assertion instanceof SetAssert) return asAssumption(SetAssert.class, Set.class, actual);
         if (assertion instanceof TryAssert) return asAssumption(TryAssert.class, Try.class, actual);
         if (assertion instanceof ValidationAssert) return asAssumption(ValidationAssert.class, Validation.class, actual);
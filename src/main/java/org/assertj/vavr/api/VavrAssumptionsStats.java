@@ -0,0 +1,84 @@
+/*
+ * Copyright 2017-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.vavr.api;
+
+import java.time.Duration;
+
+/**
+ * Snapshot of the statistics of assumption class creation by {@link VavrAssumptions}.
+ *
+ * @see VavrAssumptions#stats()
+ * @see VavrAssumptions#preload()
+ */
+public final class VavrAssumptionsStats {
+
+    private final long preGeneratedHits;
+    private final long cacheHits;
+    private final long cacheMisses;
+    private final Duration generationTime;
+    private final int pinnedClasses;
+
+    VavrAssumptionsStats(long preGeneratedHits, long cacheHits, long cacheMisses, Duration generationTime,
+                         int pinnedClasses) {
+        this.preGeneratedHits = preGeneratedHits;
+        this.cacheHits = cacheHits;
+        this.cacheMisses = cacheMisses;
+        this.generationTime = generationTime;
+        this.pinnedClasses = pinnedClasses;
+    }
+
+    /**
+     * @return how many times an assumption class generated during the build of the library was used.
+     */
+    public long preGeneratedHits() {
+        return preGeneratedHits;
+    }
+
+    /**
+     * @return how many times an assumption class generated at runtime was found in the cache.
+     */
+    public long cacheHits() {
+        return cacheHits;
+    }
+
+    /**
+     * @return how many assumption classes were generated at runtime.
+     */
+    public long cacheMisses() {
+        return cacheMisses;
+    }
+
+    /**
+     * @return the total time spent generating assumption classes at runtime.
+     */
+    public Duration generationTime() {
+        return generationTime;
+    }
+
+    /**
+     * @return how many assumption classes are pinned by {@link VavrAssumptions#preload()}.
+     */
+    public int pinnedClasses() {
+        return pinnedClasses;
+    }
+
+    @Override
+    public String toString() {
+        return "VavrAssumptionsStats(preGeneratedHits=" + preGeneratedHits + ", cacheHits=" + cacheHits
+               + ", cacheMisses=" + cacheMisses + ", generationTime=" + generationTime
+               + ", pinnedClasses=" + pinnedClasses + ")";
+    }
+}
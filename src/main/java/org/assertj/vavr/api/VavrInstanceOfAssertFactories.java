@@ -20,6 +20,7 @@ import io.vavr.collection.Map;
 import io.vavr.collection.Multimap;
 import io.vavr.collection.Seq;
 import io.vavr.collection.Set;
+import io.vavr.concurrent.Future;
 import io.vavr.control.Either;
 import io.vavr.control.Option;
 import io.vavr.control.Try;
@@ -60,6 +61,25 @@ public interface VavrInstanceOfAssertFactories {
         return new InstanceOfAssertFactory<>(Either.class, VavrAssertions::<L, R>assertThat);
     }
 
+    /**
+     * {@link InstanceOfAssertFactory} for a {@link Future}, assuming {@code Object} as value type.
+     *
+     * @see #future(Class)
+     */
+    InstanceOfAssertFactory<Future, FutureAssert<Object>> FUTURE = future(Object.class);
+
+    /**
+     * {@link InstanceOfAssertFactory} for a {@link Future}.
+     *
+     * @param <T>  the {@code Future} value type.
+     * @param type the type instance.
+     * @return the factory instance.
+     * @see #FUTURE
+     */
+    static <T> InstanceOfAssertFactory<Future, FutureAssert<T>> future(Class<T> type) {
+        return new InstanceOfAssertFactory<>(Future.class, VavrAssertions::<T>assertThat);
+    }
+
     /**
      * {@link InstanceOfAssertFactory} for a {@link Lazy}, assuming {@code Object} as input type.
      *
@@ -0,0 +1,87 @@
+/*
+ * Copyright 2017-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.vavr.api;
+
+import io.vavr.Tuple;
+import io.vavr.Value;
+import org.assertj.core.api.recursive.comparison.RecursiveComparisonConfiguration;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Makes the recursive comparison aware of Vavr persistent collections and control types.
+ * <p>
+ * By default, the recursive comparison treats Vavr collections as plain iterables: they are compared element by
+ * element in iteration order, even when most of their structure is shared. The configurations returned here compare
+ * them structurally instead:
+ * <ul>
+ * <li>identical references are equal without being traversed, including the shared tails of {@code List}s and
+ * {@code Stream}s,</li>
+ * <li>{@code Map}s and {@code Multimap}s are compared by key lookup and {@code Set}s by membership, whatever their
+ * iteration order; keys and elements not found by their {@code equals} are compared structurally with each expected
+ * one,</li>
+ * <li>{@code Tuple}s and sequences are compared element by element,</li>
+ * <li>{@code Option}, {@code Either}, {@code Try}, {@code Validation} and {@code Lazy} are compared by their state and
+ * content.</li>
+ * </ul>
+ * Values nested in Vavr structures are compared recursively with the same configuration, but each of them as the root
+ * of a new comparison: the recursive comparison does not tell which field holds the Vavr value. Settings given by
+ * field location are thus resolved from the nested values, e.g. {@code withIgnoredFields("age")} ignores the age of the
+ * hobbits of a {@code List<Hobbit>}, while {@code withIgnoredFields("members.age")} or a comparator registered for
+ * {@code "members.age"} has no effect inside a {@code Map} held by a {@code members} field.
+ * <p>
+ * The structural comparison is opt-in: {@code usingRecursiveComparison()} keeps the AssertJ defaults, and
+ * {@code usingRecursiveComparison(VavrRecursiveComparison.configuration())} compares Vavr values structurally. Pass a
+ * configuration through {@link #registerIn(RecursiveComparisonConfiguration)} to customize it further:
+ * <pre><code class='java'> assertThat(inventory).usingRecursiveComparison(VavrRecursiveComparison.configuration())
+ *                      .isEqualTo(expectedInventory);
+ *
+ * RecursiveComparisonConfiguration configuration = VavrRecursiveComparison.registerIn(
+ *     RecursiveComparisonConfiguration.builder().withIgnoredFields("id").build());
+ *
+ * assertThat(updatedInventory).usingRecursiveComparison(configuration).isEqualTo(expectedInventory);</code></pre>
+ * For the same reason, differences found in Vavr structures are reported on the structure as a whole, at the location
+ * of the field holding it.
+ */
+public final class VavrRecursiveComparison {
+
+    private VavrRecursiveComparison() {
+    }
+
+    /**
+     * Returns a new default recursive comparison configuration comparing Vavr values structurally.
+     *
+     * @return a new Vavr-aware configuration.
+     */
+    public static RecursiveComparisonConfiguration configuration() {
+        return registerIn(new RecursiveComparisonConfiguration());
+    }
+
+    /**
+     * Registers the structural comparison of Vavr values in the given configuration.
+     *
+     * @param configuration the configuration to make Vavr-aware.
+     * @return the given configuration.
+     * @throws NullPointerException if the given configuration is {@code null}.
+     */
+    public static RecursiveComparisonConfiguration registerIn(RecursiveComparisonConfiguration configuration) {
+        requireNonNull(configuration, "The recursive comparison configuration should not be null");
+        final VavrStructuralEquality structuralEquality = new VavrStructuralEquality(configuration);
+        configuration.registerEqualsForType(structuralEquality, Value.class);
+        configuration.registerEqualsForType(structuralEquality, Tuple.class);
+        return configuration;
+    }
+}
@@ -0,0 +1,178 @@
+/*
+ * Copyright 2017-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.vavr.api;
+
+import io.vavr.Tuple2;
+import io.vavr.collection.CharSeq;
+import io.vavr.collection.Multimap;
+import io.vavr.collection.Traversable;
+import io.vavr.collection.Tree;
+import org.assertj.core.api.WritableAssertionInfo;
+import org.assertj.core.presentation.Representation;
+import org.assertj.core.presentation.StandardRepresentation;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+
+import static org.assertj.core.presentation.StandardRepresentation.STANDARD_REPRESENTATION;
+import static org.assertj.core.util.Preconditions.checkArgument;
+
+/**
+ * {@link Representation} capping how much of large Vavr collections ends up in failure messages.
+ * <p>
+ * A collection with more elements than the configured maximum is rendered as its first and last elements followed by
+ * its size, e.g. {@code List(0, 1, ... 998, 999) (size: 1000000)}. The cap applies at every nesting level, and
+ * collections nested deeper than the configured depth are rendered by their size only. The elements themselves, and
+ * everything else, including collections within the limits, are rendered by the {@link StandardRepresentation}. Lazy
+ * collections are never capped, so that rendering does not force their evaluation.
+ * <p>
+ * The assertions of this library use it with the default limits unless another representation than the standard one
+ * has been configured, e.g. with {@code Assertions.useRepresentation(...)}, in the
+ * {@code META-INF/services/org.assertj.core.presentation.Representation} file of your tests or with
+ * {@code withRepresentation(...)} on a single assertion. It is not registered globally, so the assertions of AssertJ
+ * itself are not affected; use {@code Assertions.useRepresentation(new VavrRepresentation())} to apply it to them too.
+ */
+public class VavrRepresentation extends StandardRepresentation {
+
+    /**
+     * Default maximum number of elements rendered per collection.
+     */
+    public static final int DEFAULT_MAX_ELEMENTS = 1000;
+
+    /**
+     * Default maximum nesting level of rendered collections.
+     */
+    public static final int DEFAULT_MAX_DEPTH = 5;
+
+    private static final String ELLIPSIS = "...";
+
+    private static final VavrRepresentation DEFAULT = new VavrRepresentation();
+
+    private final int maxElements;
+    private final int maxDepth;
+
+    public VavrRepresentation() {
+        this(DEFAULT_MAX_ELEMENTS, DEFAULT_MAX_DEPTH);
+    }
+
+    /**
+     * @param maxElements the maximum number of elements rendered per collection, at least 2.
+     * @param maxDepth    the maximum nesting level of rendered collections, at least 1.
+     */
+    public VavrRepresentation(int maxElements, int maxDepth) {
+        checkArgument(maxElements >= 2, "The maximum number of elements should be at least 2 but was: %s", maxElements);
+        checkArgument(maxDepth >= 1, "The maximum depth should be at least 1 but was: %s", maxDepth);
+        this.maxElements = maxElements;
+        this.maxDepth = maxDepth;
+    }
+
+    /**
+     * Makes the given assertion use a {@link VavrRepresentation} with the default limits, unless another representation
+     * than the standard one has been configured.
+     */
+    static void useByDefault(WritableAssertionInfo info) {
+        if (info.representation() == STANDARD_REPRESENTATION) info.useRepresentation(DEFAULT);
+    }
+
+    @Override
+    public String toStringOf(Object object) {
+        return isHandled(object) && exceedsLimits(object, 0) ? render(object, 0) : super.toStringOf(object);
+    }
+
+    private static boolean isHandled(Object object) {
+        if (!(object instanceof Traversable)) return false;
+        final Traversable<?> traversable = (Traversable<?>) object;
+        return !traversable.isLazy() && !(object instanceof CharSeq) && !(object instanceof Tree);
+    }
+
+    private boolean exceedsLimits(Object object, int depth) {
+        if (object instanceof Tuple2) {
+            final Tuple2<?, ?> tuple = (Tuple2<?, ?>) object;
+            return exceedsLimits(tuple._1, depth) || exceedsLimits(tuple._2, depth);
+        }
+        if (!isHandled(object)) return false;
+        final Traversable<?> traversable = (Traversable<?>) object;
+        if (depth >= maxDepth || traversable.size() > maxElements) return true;
+        for (Object element : traversable) {
+            if (exceedsLimits(element, depth + 1)) return true;
+        }
+        return false;
+    }
+
+    private String render(Object object, int depth) {
+        if (object instanceof Tuple2) {
+            final Tuple2<?, ?> tuple = (Tuple2<?, ?>) object;
+            return "(" + render(tuple._1, depth) + ", " + render(tuple._2, depth) + ")";
+        }
+        if (!isHandled(object)) return super.toStringOf(object);
+        final Traversable<?> traversable = (Traversable<?>) object;
+        final int size = traversable.size();
+        if (depth >= maxDepth) return prefixOf(traversable) + "(size: " + size + ")";
+        return size > maxElements ? renderTruncated(traversable, size, depth) : renderAll(traversable, depth);
+    }
+
+    private String renderAll(Traversable<?> traversable, int depth) {
+        final StringBuilder rendered = new StringBuilder(prefixOf(traversable)).append('(');
+        final Iterator<?> elements = traversable.iterator();
+        while (elements.hasNext()) {
+            rendered.append(render(elements.next(), depth + 1));
+            if (elements.hasNext()) rendered.append(", ");
+        }
+        return rendered.append(')').toString();
+    }
+
+    /**
+     * Renders the first and last elements found in a single pass; the elements in between are skipped without being
+     * rendered.
+     */
+    private String renderTruncated(Traversable<?> traversable, int size, int depth) {
+        final int headSize = (maxElements + 1) / 2;
+        final int tailSize = maxElements / 2;
+        final StringBuilder rendered = new StringBuilder(prefixOf(traversable)).append('(');
+        final Deque<Object> tail = new ArrayDeque<>(tailSize);
+        int index = 0;
+        for (Object element : traversable) {
+            if (index < headSize) {
+                rendered.append(render(element, depth + 1)).append(", ");
+            } else {
+                if (tail.size() == tailSize) tail.removeFirst();
+                tail.addLast(element);
+            }
+            index++;
+        }
+        rendered.append(ELLIPSIS);
+        for (Object element : tail) {
+            rendered.append(", ").append(render(element, depth + 1));
+        }
+        return rendered.append(") (size: ").append(size).append(')').toString();
+    }
+
+    /**
+     * Returns what the {@code toString()} of the given collection renders before its elements, including the container
+     * type of a {@link Multimap}, e.g. {@code HashMultimap[List]}, which is only exposed through its {@code toString()}.
+     */
+    private static String prefixOf(Traversable<?> traversable) {
+        if (!(traversable instanceof Multimap)) return traversable.stringPrefix();
+        final String empty = ((Multimap<?, ?>) traversable).take(0).toString();
+        return empty.substring(0, empty.length() - "()".length());
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "(maxElements=" + maxElements + ", maxDepth=" + maxDepth + ")";
+    }
+}
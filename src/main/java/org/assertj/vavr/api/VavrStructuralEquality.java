@@ -0,0 +1,183 @@
+/*
+ * Copyright 2017-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.vavr.api;
+
+import io.vavr.Lazy;
+import io.vavr.Tuple;
+import io.vavr.Value;
+import io.vavr.collection.LinearSeq;
+import io.vavr.collection.Map;
+import io.vavr.collection.Multimap;
+import io.vavr.collection.Set;
+import io.vavr.collection.Traversable;
+import io.vavr.control.Either;
+import io.vavr.control.Option;
+import io.vavr.control.Try;
+import io.vavr.control.Validation;
+import org.assertj.core.api.recursive.comparison.RecursiveComparisonConfiguration;
+import org.assertj.core.api.recursive.comparison.RecursiveComparisonDifferenceCalculator;
+
+import java.util.Iterator;
+import java.util.function.BiPredicate;
+
+/**
+ * Structural equality of Vavr values used by the recursive comparison, see {@link VavrRecursiveComparison}.
+ * <p>
+ * Identical references are equal without being traversed, which also applies to the shared tails of linear sequences.
+ * Maps and multimaps are compared by key lookup, sets by membership, sequences and tuples element by element, and
+ * {@code Option}, {@code Either}, {@code Try}, {@code Validation} and {@code Lazy} by their state and content. Keys and
+ * set elements that are not found by their {@code equals} are compared structurally with each expected key or element.
+ * Any other value is compared with the recursive comparison itself, so values nested in Vavr structures are compared
+ * field by field as usual, from a new root since the field location of the Vavr value is not known here.
+ */
+final class VavrStructuralEquality implements BiPredicate<Object, Object> {
+
+    private final RecursiveComparisonConfiguration configuration;
+    private final RecursiveComparisonDifferenceCalculator differenceCalculator =
+            new RecursiveComparisonDifferenceCalculator();
+
+    VavrStructuralEquality(RecursiveComparisonConfiguration configuration) {
+        this.configuration = configuration;
+    }
+
+    @Override
+    public boolean test(Object actual, Object expected) {
+        if (actual == expected) return true;
+        if (actual == null || expected == null) return false;
+        if (actual instanceof Tuple) {
+            return expected instanceof Tuple && tuplesAreEqual((Tuple) actual, (Tuple) expected);
+        }
+        if (actual instanceof Map) {
+            return expected instanceof Map && mapsAreEqual((Map<?, ?>) actual, (Map<?, ?>) expected);
+        }
+        if (actual instanceof Multimap) {
+            return expected instanceof Multimap
+                   && multimapsAreEqual((Multimap<?, ?>) actual, (Multimap<?, ?>) expected);
+        }
+        if (actual instanceof Set) return expected instanceof Set && setsAreEqual((Set<?>) actual, (Set<?>) expected);
+        if (actual instanceof LinearSeq && expected instanceof LinearSeq) {
+            return linearSeqsAreEqual((LinearSeq<?>) actual, (LinearSeq<?>) expected);
+        }
+        if (actual instanceof Traversable || expected instanceof Traversable) {
+            return isOrderedCollection(actual) && isOrderedCollection(expected)
+                   && iterablesAreEqual((Iterable<?>) actual, (Iterable<?>) expected);
+        }
+        if (actual instanceof Option) {
+            return expected instanceof Option && optionsAreEqual((Option<?>) actual, (Option<?>) expected);
+        }
+        if (actual instanceof Either) {
+            return expected instanceof Either && eithersAreEqual((Either<?, ?>) actual, (Either<?, ?>) expected);
+        }
+        if (actual instanceof Try) return expected instanceof Try && triesAreEqual((Try<?>) actual, (Try<?>) expected);
+        if (actual instanceof Validation) {
+            return expected instanceof Validation
+                   && validationsAreEqual((Validation<?, ?>) actual, (Validation<?, ?>) expected);
+        }
+        if (actual instanceof Lazy) {
+            return expected instanceof Lazy && test(((Lazy<?>) actual).get(), ((Lazy<?>) expected).get());
+        }
+        // other Vavr values, e.g. Future, have no structure to compare
+        if (actual instanceof Value || expected instanceof Value || expected instanceof Tuple) {
+            return actual.equals(expected);
+        }
+        return differenceCalculator.determineDifferences(actual, expected, configuration).isEmpty();
+    }
+
+    private static boolean isOrderedCollection(Object object) {
+        if (object instanceof Traversable) {
+            return !(object instanceof Set) && !(object instanceof Map) && !(object instanceof Multimap);
+        }
+        return object instanceof Iterable && !(object instanceof Value) && !(object instanceof java.util.Set);
+    }
+
+    private boolean tuplesAreEqual(Tuple actual, Tuple expected) {
+        return actual.arity() == expected.arity() && iterablesAreEqual(actual.toSeq(), expected.toSeq());
+    }
+
+    private boolean mapsAreEqual(Map<?, ?> actual, Map<?, ?> expected) {
+        if (actual.size() != expected.size()) return false;
+        @SuppressWarnings("unchecked")
+        final Map<Object, ?> expectedByKey = (Map<Object, ?>) expected;
+        // as for set elements, keys without a structural equals are only found by comparing them with each expected key
+        return actual.forAll(entry -> expectedByKey.get(entry._1)
+                .map(value -> test(entry._2, value))
+                .getOrElse(() -> expected.exists(candidate -> test(entry._1, candidate._1)
+                                                             && test(entry._2, candidate._2))));
+    }
+
+    private boolean multimapsAreEqual(Multimap<?, ?> actual, Multimap<?, ?> expected) {
+        if (actual.size() != expected.size() || actual.keySet().size() != expected.keySet().size()) return false;
+        @SuppressWarnings("unchecked")
+        final Multimap<Object, ?> actualByKey = (Multimap<Object, ?>) actual;
+        @SuppressWarnings("unchecked")
+        final Multimap<Object, ?> expectedByKey = (Multimap<Object, ?>) expected;
+        return actualByKey.keySet().forAll(key -> {
+            final Object values = actualByKey.get(key).get();
+            return expectedByKey.get(key)
+                    .map(expectedValues -> test(values, expectedValues))
+                    .getOrElse(() -> expectedByKey.keySet().exists(
+                            candidate -> test(key, candidate) && test(values, expectedByKey.get(candidate).get())));
+        });
+    }
+
+    private boolean setsAreEqual(Set<?> actual, Set<?> expected) {
+        if (actual.size() != expected.size()) return false;
+        @SuppressWarnings("unchecked")
+        final Set<Object> expectedElements = (Set<Object>) expected;
+        // elements without a structural equals are only found by comparing them with each expected element
+        return actual.forAll(element -> expectedElements.contains(element)
+                                        || expectedElements.exists(candidate -> test(element, candidate)));
+    }
+
+    private boolean linearSeqsAreEqual(LinearSeq<?> actual, LinearSeq<?> expected) {
+        // once both sequences share the same tail, the remaining elements are identical
+        while (actual != expected) {
+            if (actual.isEmpty() || expected.isEmpty()) return actual.isEmpty() && expected.isEmpty();
+            if (!test(actual.head(), expected.head())) return false;
+            actual = actual.tail();
+            expected = expected.tail();
+        }
+        return true;
+    }
+
+    private boolean iterablesAreEqual(Iterable<?> actual, Iterable<?> expected) {
+        final Iterator<?> actualElements = actual.iterator();
+        final Iterator<?> expectedElements = expected.iterator();
+        while (actualElements.hasNext() && expectedElements.hasNext()) {
+            if (!test(actualElements.next(), expectedElements.next())) return false;
+        }
+        return !actualElements.hasNext() && !expectedElements.hasNext();
+    }
+
+    private boolean optionsAreEqual(Option<?> actual, Option<?> expected) {
+        return actual.isDefined() == expected.isDefined() && (actual.isEmpty() || test(actual.get(), expected.get()));
+    }
+
+    private boolean eithersAreEqual(Either<?, ?> actual, Either<?, ?> expected) {
+        if (actual.isRight() != expected.isRight()) return false;
+        return actual.isRight() ? test(actual.get(), expected.get()) : test(actual.getLeft(), expected.getLeft());
+    }
+
+    private boolean triesAreEqual(Try<?> actual, Try<?> expected) {
+        if (actual.isSuccess() != expected.isSuccess()) return false;
+        return actual.isSuccess() ? test(actual.get(), expected.get()) : test(actual.getCause(), expected.getCause());
+    }
+
+    private boolean validationsAreEqual(Validation<?, ?> actual, Validation<?, ?> expected) {
+        if (actual.isValid() != expected.isValid()) return false;
+        return actual.isValid() ? test(actual.get(), expected.get()) : test(actual.getError(), expected.getError());
+    }
+}
@@ -0,0 +1,197 @@
+/*
+ * Copyright 2017-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.vavr.api.soft;
+
+import org.assertj.core.api.AssertionErrorCollector;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static java.lang.String.format;
+import static java.util.Collections.unmodifiableList;
+import static org.assertj.core.util.Preconditions.checkArgument;
+
+/**
+ * {@link AssertionErrorCollector} bounding the memory used by the errors of soft assertions.
+ * <p>
+ * Only the first errors are retained, up to the given maximum; the following ones are only counted by failing
+ * assertion (e.g. {@code OptionAssert.contains}) and reported as a single summary error after the retained ones.
+ * Optionally, the errors following a given number of errors can be ignored altogether, and the stack traces of the
+ * retained errors can be discarded. Soft assertions never stop the test, so all the assertions still run; use
+ * {@code assertAll()} at a coarser grain to stop earlier.
+ * <p>
+ * It is installed as the delegate of soft assertions:
+ * <pre><code class='java'> SoftVavrAssertions softly = new SoftVavrAssertions();
+ * softly.setDelegate(new BoundedAssertionErrorCollector(100).ignoringAfter(10_000).discardingStackTraces());
+ *
+ * records.forEach(record -&gt; softly.assertThat(record.owner()).isDefined());
+ * softly.assertAll();</code></pre>
+ */
+public class BoundedAssertionErrorCollector implements AssertionErrorCollector {
+
+    private static final StackTraceElement[] NO_STACK_TRACE = new StackTraceElement[0];
+    private static final String ASSERTJ_PACKAGE = "org.assertj.";
+    private static final String VAVR_ASSERTIONS_PACKAGE = "org.assertj.vavr.api.";
+
+    private final int maxRetainedErrors;
+    private final List<AssertionError> retainedErrors = new ArrayList<>();
+    private final Map<String, Integer> droppedErrorsByAssertion = new TreeMap<>();
+    private final Map<StackTraceElement, String> failingAssertionsByCallSite = new HashMap<>();
+    private int maxCollectedErrors = Integer.MAX_VALUE;
+    private boolean discardStackTraces;
+    private int collectedErrors;
+    private int ignoredErrors;
+    private volatile boolean wasSuccess = true;
+
+    /**
+     * @param maxRetainedErrors the maximum number of errors retained with their message, at least 0.
+     */
+    public BoundedAssertionErrorCollector(int maxRetainedErrors) {
+        checkArgument(maxRetainedErrors >= 0, "The maximum number of retained errors should not be negative but was: %s",
+                      maxRetainedErrors);
+        this.maxRetainedErrors = maxRetainedErrors;
+    }
+
+    /**
+     * Stops collecting errors once the given number of errors is collected: the following errors are neither retained
+     * nor counted by assertion, only their number is reported, e.g. by {@code assertAll()}, after the collected errors.
+     *
+     * @param maxErrors the number of errors after which the following ones are ignored, at least 1.
+     * @return this collector.
+     */
+    public BoundedAssertionErrorCollector ignoringAfter(int maxErrors) {
+        checkArgument(maxErrors >= 1, "The number of errors to ignore after should be at least 1 but was: %s",
+                      maxErrors);
+        this.maxCollectedErrors = maxErrors;
+        return this;
+    }
+
+    /**
+     * Discards the stack traces of the retained errors, which are otherwise kept as long as the soft assertions.
+     *
+     * @return this collector.
+     */
+    public BoundedAssertionErrorCollector discardingStackTraces() {
+        this.discardStackTraces = true;
+        return this;
+    }
+
+    @Override
+    public synchronized void collectAssertionError(AssertionError error) {
+        wasSuccess = false;
+        if (collectedErrors >= maxCollectedErrors) {
+            ignoredErrors++;
+            return;
+        }
+        collectedErrors++;
+        if (retainedErrors.size() < maxRetainedErrors) {
+            if (discardStackTraces) error.setStackTrace(NO_STACK_TRACE);
+            retainedErrors.add(error);
+        } else {
+            droppedErrorsByAssertion.merge(failingAssertionOf(error), 1, Integer::sum);
+        }
+    }
+
+    @Override
+    public synchronized List<AssertionError> assertionErrorsCollected() {
+        final List<AssertionError> errors = new ArrayList<>(retainedErrors);
+        if (droppedErrorsByAssertion.isEmpty() && ignoredErrors == 0) return unmodifiableList(errors);
+        errors.add(new DroppedErrorsSummary(collectedErrors - retainedErrors.size(), droppedErrorsByAssertion,
+                                            collectedErrors, ignoredErrors));
+        return unmodifiableList(errors);
+    }
+
+    @Override
+    public void succeeded() {
+        wasSuccess = true;
+    }
+
+    @Override
+    public boolean wasSuccess() {
+        return wasSuccess;
+    }
+
+    /**
+     * Returns the Vavr assertion whose failure is being collected, as {@code OptionAssert.contains}, or the class of
+     * the error when it does not come from one.
+     * <p>
+     * AssertJ removes its own frames from the stack trace of the errors it creates, so the assertion is looked up in
+     * the stack of the current thread, where the soft assertion proxy that caught the error is still running. Walking
+     * that stack is costly, so it is only done once per call site, i.e. the first frame of the error outside of
+     * AssertJ: the errors of several assertions chained on the same line are counted under the first one that failed.
+     */
+    private String failingAssertionOf(AssertionError error) {
+        final StackTraceElement callSite = callSiteOf(error);
+        if (callSite == null) return failingAssertionInCurrentThread(error);
+        return failingAssertionsByCallSite.computeIfAbsent(callSite, site -> failingAssertionInCurrentThread(error));
+    }
+
+    private static StackTraceElement callSiteOf(AssertionError error) {
+        for (StackTraceElement element : error.getStackTrace()) {
+            if (!element.getClassName().startsWith(ASSERTJ_PACKAGE)) return element;
+        }
+        return null;
+    }
+
+    private static String failingAssertionInCurrentThread(AssertionError error) {
+        for (StackTraceElement element : Thread.currentThread().getStackTrace()) {
+            final String className = element.getClassName();
+            if (!className.startsWith(VAVR_ASSERTIONS_PACKAGE)) continue;
+            final int nestedClassStart = className.indexOf('$');
+            final int assertionTypeEnd = nestedClassStart < 0 ? className.length() : nestedClassStart;
+            final String assertionType = className.substring(VAVR_ASSERTIONS_PACKAGE.length(), assertionTypeEnd);
+            if (assertionType.endsWith("Assert") && assertionType.indexOf('.') < 0) {
+                return assertionType + "." + element.getMethodName();
+            }
+        }
+        return error.getClass().getName();
+    }
+
+    private static final class DroppedErrorsSummary extends AssertionError {
+
+        private static final long serialVersionUID = 1L;
+
+        DroppedErrorsSummary(int droppedErrors, Map<String, Integer> droppedErrorsByAssertion, int collectedErrors,
+                             int ignoredErrors) {
+            super(describe(droppedErrors, droppedErrorsByAssertion, collectedErrors, ignoredErrors));
+        }
+
+        private static String describe(int droppedErrors, Map<String, Integer> droppedErrorsByAssertion,
+                                       int collectedErrors, int ignoredErrors) {
+            final StringBuilder description = new StringBuilder();
+            if (droppedErrors > 0) {
+                description.append(format("%n%d more error(s) were not retained:", droppedErrors));
+                for (Map.Entry<String, Integer> dropped : droppedErrorsByAssertion.entrySet()) {
+                    description.append(format("%n  %s: %d", dropped.getKey(), dropped.getValue()));
+                }
+            }
+            if (ignoredErrors > 0) {
+                description.append(format("%n%d more error(s) were ignored after the first %d error(s)", ignoredErrors,
+                                          collectedErrors));
+            }
+            return description.toString();
+        }
+
+        @Override
+        public synchronized Throwable fillInStackTrace() {
+            // the summary does not come from a single assertion
+            return this;
+        }
+    }
+}
@@ -0,0 +1,51 @@
+/*
+ * Copyright 2017-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.vavr.api.soft;
+
+import org.assertj.core.api.AbstractSoftAssertions;
+import org.assertj.core.api.SoftAssertionsProvider;
+import org.opentest4j.MultipleFailuresError;
+
+import java.util.function.Consumer;
+
+/**
+ * Soft assertions that can be used concurrently from several threads, e.g. from a {@code parallelStream()}, from
+ * {@code Future} callbacks or from virtual threads.
+ * <p>
+ * Each thread collects its errors in its own buffer, and the buffers are merged when the errors are requested, e.g. by
+ * {@link #assertAll()}. The errors of a given thread keep their order; errors of different threads are grouped by
+ * thread. {@link #wasSuccess()} reports the last soft assertion of the calling thread.
+ * <p>
+ * The threads making the assertions should be done before {@link #assertAll()} is called, otherwise their pending
+ * assertions may be missed.
+ */
+public class ConcurrentSoftVavrAssertions extends AbstractSoftAssertions implements StandardSoftVavrAssertionsProvider {
+
+    public ConcurrentSoftVavrAssertions() {
+        setDelegate(new ThreadLocalAssertionErrorCollector());
+    }
+
+    /**
+     * Convenience method for calling {@link SoftAssertionsProvider#assertSoftly} for these assertion types.
+     * Equivalent to {@code ConcurrentSoftVavrAssertions.assertSoftly(ConcurrentSoftVavrAssertions.class, consumer)}.
+     * @param softly the Consumer containing the code that will make the soft assertions.
+     *     Takes one parameter (the ConcurrentSoftVavrAssertions instance used to make the assertions).
+     * @throws MultipleFailuresError if possible or SoftAssertionError if any proxied assertion objects threw an {@link AssertionError}
+     */
+    public static void assertSoftly(Consumer<ConcurrentSoftVavrAssertions> softly) {
+        SoftAssertionsProvider.assertSoftly(ConcurrentSoftVavrAssertions.class, softly);
+    }
+}
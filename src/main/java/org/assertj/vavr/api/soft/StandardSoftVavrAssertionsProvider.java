@@ -16,11 +16,14 @@
 package org.assertj.vavr.api.soft;
 
 import io.vavr.Lazy;
+import io.vavr.collection.Iterator;
 import io.vavr.collection.List;
 import io.vavr.collection.Map;
 import io.vavr.collection.Multimap;
 import io.vavr.collection.Seq;
 import io.vavr.collection.Set;
+import io.vavr.collection.Stream;
+import io.vavr.concurrent.Future;
 import io.vavr.control.Either;
 import io.vavr.control.Option;
 import io.vavr.control.Try;
@@ -28,12 +31,15 @@ import io.vavr.control.Validation;
 import org.assertj.core.api.StandardSoftAssertionsProvider;
 import org.assertj.core.util.CheckReturnValue;
 import org.assertj.vavr.api.EitherAssert;
+import org.assertj.vavr.api.FutureAssert;
+import org.assertj.vavr.api.IteratorAssert;
 import org.assertj.vavr.api.LazyAssert;
 import org.assertj.vavr.api.MapAssert;
 import org.assertj.vavr.api.MultimapAssert;
 import org.assertj.vavr.api.OptionAssert;
 import org.assertj.vavr.api.SeqAssert;
 import org.assertj.vavr.api.SetAssert;
+import org.assertj.vavr.api.StreamAssert;
 import org.assertj.vavr.api.TryAssert;
 import org.assertj.vavr.api.ValidationAssert;
 
@@ -53,6 +59,19 @@ public interface StandardSoftVavrAssertionsProvider extends StandardSoftAssertio
         return proxy(EitherAssert.class, Either.class, actual);
     }
 
+    /**
+     * Creates assertion for {@link io.vavr.concurrent.Future}.
+     *
+     * @param <VALUE> the type of a value of <code>actual {@link Future}</code>.
+     * @param actual  the actual value.
+     * @return the created assertion object.
+     */
+    @CheckReturnValue
+    @SuppressWarnings("unchecked")
+    default <VALUE> FutureAssert<VALUE> assertThat(Future<VALUE> actual) {
+        return proxy(FutureAssert.class, Future.class, actual);
+    }
+
     /**
      * Creates assertion for {@link Lazy}.
      *
@@ -105,6 +124,32 @@ public interface StandardSoftVavrAssertionsProvider extends StandardSoftAssertio
         return proxy(SeqAssert.class, Seq.class, actual);
     }
 
+    /**
+     * Creates assertion for {@link io.vavr.collection.Stream}.
+     *
+     * @param <VALUE> the type of elements contained by <code>actual {@link Stream}</code>.
+     * @param actual  the actual value.
+     * @return the created assertion object.
+     */
+    @CheckReturnValue
+    @SuppressWarnings("unchecked")
+    default <VALUE> StreamAssert<VALUE> assertThat(Stream<VALUE> actual) {
+        return proxy(StreamAssert.class, Stream.class, actual);
+    }
+
+    /**
+     * Creates assertion for {@link io.vavr.collection.Iterator}.
+     *
+     * @param <VALUE> the type of elements returned by <code>actual {@link Iterator}</code>.
+     * @param actual  the actual value.
+     * @return the created assertion object.
+     */
+    @CheckReturnValue
+    @SuppressWarnings("unchecked")
+    default <VALUE> IteratorAssert<VALUE> assertThat(Iterator<VALUE> actual) {
+        return proxy(IteratorAssert.class, Iterator.class, actual);
+    }
+
     /**
      * Creates assertion for {@link io.vavr.control.Validation}.
      *
@@ -0,0 +1,81 @@
+/*
+ * Copyright 2017-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.vavr.api.soft;
+
+import org.assertj.core.api.AssertionErrorCollector;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import static java.util.Collections.unmodifiableList;
+
+/**
+ * {@link AssertionErrorCollector} buffering the errors of each thread separately.
+ * <p>
+ * Successful checks only update the state of the calling thread, and a thread takes the lock of its own buffer to
+ * record an error, so concurrent soft assertions do not contend with each other. A thread's buffer is registered for
+ * merging only once it has recorded an error. The merged list keeps the order in which each thread recorded its errors,
+ * threads being taken in the order of their first error.
+ */
+class ThreadLocalAssertionErrorCollector implements AssertionErrorCollector {
+
+    private final ThreadLocal<ThreadErrors> threadErrors = ThreadLocal.withInitial(ThreadErrors::new);
+    private final Queue<ThreadErrors> threadsWithErrors = new ConcurrentLinkedQueue<>();
+
+    @Override
+    public void collectAssertionError(AssertionError error) {
+        final ThreadErrors errors = threadErrors.get();
+        errors.lastWasSuccess = false;
+        if (errors.add(error)) threadsWithErrors.add(errors);
+    }
+
+    @Override
+    public List<AssertionError> assertionErrorsCollected() {
+        final List<AssertionError> collected = new ArrayList<>();
+        threadsWithErrors.forEach(errors -> errors.copyTo(collected));
+        return unmodifiableList(collected);
+    }
+
+    @Override
+    public void succeeded() {
+        threadErrors.get().lastWasSuccess = true;
+    }
+
+    @Override
+    public boolean wasSuccess() {
+        return threadErrors.get().lastWasSuccess;
+    }
+
+    private static final class ThreadErrors {
+
+        private final List<AssertionError> errors = new ArrayList<>();
+        private boolean lastWasSuccess = true;
+
+        /**
+         * Records the given error and returns whether it is the first one of this thread.
+         */
+        synchronized boolean add(AssertionError error) {
+            errors.add(error);
+            return errors.size() == 1;
+        }
+
+        synchronized void copyTo(List<AssertionError> collected) {
+            collected.addAll(errors);
+        }
+    }
+}
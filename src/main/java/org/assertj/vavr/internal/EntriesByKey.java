@@ -0,0 +1,105 @@
+/*
+ * Copyright 2017-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.vavr.internal;
+
+import io.vavr.Tuple;
+import io.vavr.Tuple2;
+import io.vavr.collection.Multimap;
+import io.vavr.collection.Set;
+import io.vavr.collection.Traversable;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Expected {@link Multimap} entries grouped by key.
+ * <p>
+ * Matching against an actual {@link Multimap} looks up the values container of each expected key once and checks
+ * all the values expected under that key against it. Both lookups go through the actual {@link Multimap} and its
+ * containers, so that keys and values are matched with their own semantics (e.g. the comparators of a
+ * {@link io.vavr.collection.TreeMultimap}). A {@link io.vavr.collection.Seq} container has a linear
+ * {@code contains}, so it is copied once into a hash set when more than one value is checked against it.
+ *
+ * @param <K> key type
+ * @param <V> value type
+ */
+final class EntriesByKey<K, V> {
+
+    private final Map<K, List<V>> valuesByKey = new LinkedHashMap<>();
+
+    private EntriesByKey() {
+    }
+
+    static <K, V> EntriesByKey<K, V> of(Tuple2<K, V>[] entries) {
+        return of(Arrays.asList(entries));
+    }
+
+    static <K, V> EntriesByKey<K, V> of(Iterable<Tuple2<K, V>> entries) {
+        final EntriesByKey<K, V> entriesByKey = new EntriesByKey<>();
+        for (Tuple2<K, V> entry : entries) {
+            requireNonNull(entry, "Entry to look for should not be null");
+            entriesByKey.valuesByKey.computeIfAbsent(entry._1, key -> new ArrayList<>()).add(entry._2);
+        }
+        return entriesByKey;
+    }
+
+    boolean anyPresentIn(Multimap<K, V> actual) {
+        for (Map.Entry<K, List<V>> group : valuesByKey.entrySet()) {
+            final Predicate<V> actualValues = containedIn(valuesOf(actual, group.getKey()), group.getValue().size());
+            for (V value : group.getValue()) {
+                if (actualValues.test(value)) return true;
+            }
+        }
+        return false;
+    }
+
+    List<Tuple2<K, V>> presentIn(Multimap<K, V> actual) {
+        return partition(actual, true);
+    }
+
+    List<Tuple2<K, V>> notPresentIn(Multimap<K, V> actual) {
+        return partition(actual, false);
+    }
+
+    private List<Tuple2<K, V>> partition(Multimap<K, V> actual, boolean present) {
+        final List<Tuple2<K, V>> entries = new ArrayList<>();
+        for (Map.Entry<K, List<V>> group : valuesByKey.entrySet()) {
+            final Predicate<V> actualValues = containedIn(valuesOf(actual, group.getKey()), group.getValue().size());
+            for (V value : group.getValue()) {
+                if (actualValues.test(value) == present) entries.add(Tuple.of(group.getKey(), value));
+            }
+        }
+        return entries;
+    }
+
+    private static <V> Predicate<V> containedIn(Traversable<V> actualValues, int lookups) {
+        if (lookups <= 1 || actualValues instanceof Set) return actualValues::contains;
+        final HashSet<V> hashedValues = new HashSet<>();
+        actualValues.forEach(hashedValues::add);
+        return hashedValues::contains;
+    }
+
+    private static <K, V> Traversable<V> valuesOf(Multimap<K, V> actual, K key) {
+        return actual.get(key).getOrElse(io.vavr.collection.List::empty);
+    }
+}
@@ -0,0 +1,146 @@
+/*
+ * Copyright 2017-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.vavr.internal;
+
+import io.vavr.Tuple2;
+import io.vavr.collection.Map;
+import io.vavr.collection.SortedMap;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Objects;
+import java.util.TreeMap;
+
+import static java.util.Objects.deepEquals;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Differences between an actual {@link Map} and a group of expected entries.
+ * <p>
+ * Every expected entry is looked up with {@link Map#get(Object)} on the actual map, so that keys are matched with the
+ * map's own semantics (e.g. the comparator of a {@link io.vavr.collection.TreeMap}). When several expected entries
+ * share a key, the last one wins, as if the expected entries had been collected into a map. The actual map holds only
+ * expected entries when the number of distinct matched keys equals its size; the entries that were not expected and the
+ * expected entries that were not found are only collected when a failure has to be reported.
+ *
+ * @param <K> key type
+ * @param <V> value type
+ */
+final class MapDiff<K, V> {
+
+    private final Map<K, V> actual;
+
+    // whether the last expected entry of each key is in the actual map
+    private final java.util.Map<K, Boolean> matchedKeys;
+
+    private final boolean allFound;
+
+    private final boolean onlyExpected;
+
+    private int firstOrderMismatchIndex = -1;
+
+    private Tuple2<K, V> firstOrderMismatch;
+
+    private MapDiff(Map<K, V> actual, java.util.Map<K, Boolean> matchedKeys, boolean allFound, boolean onlyExpected) {
+        this.actual = actual;
+        this.matchedKeys = matchedKeys;
+        this.allFound = allFound;
+        this.onlyExpected = onlyExpected;
+    }
+
+    /**
+     * Compares the given {@code actual} map with the {@code expected} entries regardless of their order.
+     */
+    static <K, V> MapDiff<K, V> diff(Map<K, V> actual, Iterable<? extends Tuple2<? extends K, ? extends V>> expected) {
+        final java.util.Map<K, Boolean> matchedKeys = keyMapLike(actual);
+        boolean allFound = true;
+        int matchedCount = 0;
+        for (Tuple2<? extends K, ? extends V> entry : expected) {
+            requireNonNull(entry, "One of expected entries is null");
+            final boolean found = isPresentIn(actual, entry);
+            final Boolean previous = matchedKeys.put(entry._1, found);
+            if (Boolean.TRUE.equals(previous)) matchedCount--;
+            if (found) matchedCount++;
+            allFound &= found;
+        }
+        return new MapDiff<>(actual, matchedKeys, allFound, matchedCount == actual.size());
+    }
+
+    /**
+     * Compares the given {@code actual} map with the {@code expected} entries and, when they hold the same entries, also
+     * records the first index at which the actual iteration order differs from the expected one.
+     */
+    static <K, V> MapDiff<K, V> diffInOrder(Map<K, V> actual, Tuple2<? extends K, ? extends V>[] expected) {
+        final MapDiff<K, V> diff = diff(actual, Arrays.asList(expected));
+        if (diff.hasDifferences()) return diff;
+        int index = 0;
+        for (Tuple2<K, V> entry : actual) {
+            if (index < expected.length && !deepEquals(entry._1, expected[index]._1)) {
+                diff.firstOrderMismatchIndex = index;
+                diff.firstOrderMismatch = entry;
+                break;
+            }
+            index++;
+        }
+        return diff;
+    }
+
+    boolean hasDifferences() {
+        return !allFound || hasNotExpected();
+    }
+
+    boolean hasNotExpected() {
+        return !onlyExpected;
+    }
+
+    boolean hasOrderMismatch() {
+        return firstOrderMismatchIndex >= 0;
+    }
+
+    int firstOrderMismatchIndex() {
+        return firstOrderMismatchIndex;
+    }
+
+    Tuple2<K, V> firstOrderMismatch() {
+        return firstOrderMismatch;
+    }
+
+    /**
+     * @param expected the expected entries as a map
+     * @return the entries of {@code expected} that were not found in the actual map
+     */
+    Map<K, V> notFoundIn(Map<K, V> expected) {
+        return allFound ? expected.filter(entry -> false) : expected.filter(entry -> !isPresentIn(actual, entry));
+    }
+
+    /**
+     * @return the entries of the actual map that were not expected
+     */
+    Map<K, V> notExpected() {
+        return actual.filter(entry -> !Boolean.TRUE.equals(matchedKeys.get(entry._1)));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <K> java.util.Map<K, Boolean> keyMapLike(Map<K, ?> map) {
+        return map instanceof SortedMap
+                ? new TreeMap<>(((SortedMap<K, ?>) map).comparator())
+                : new HashMap<>();
+    }
+
+    private static <K, V> boolean isPresentIn(Map<K, V> map, Tuple2<? extends K, ? extends V> entry) {
+        return map.get(entry._1).exists(value -> Objects.equals(value, entry._2));
+    }
+}
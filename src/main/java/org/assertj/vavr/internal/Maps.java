@@ -15,13 +15,13 @@
  */
 package org.assertj.vavr.internal;
 
-import io.vavr.Tuple;
 import io.vavr.Tuple2;
 import io.vavr.collection.*;
 import io.vavr.control.Option;
 import org.assertj.core.api.AssertionInfo;
 import org.assertj.core.api.Condition;
 import org.assertj.core.error.ShouldContainAnyOf;
+import org.assertj.core.internal.ComparisonStrategy;
 import org.assertj.core.internal.Conditions;
 import org.assertj.core.internal.Failures;
 import org.assertj.core.internal.Objects;
@@ -124,6 +124,35 @@ public final class Maps {
         }
     }
 
+    /**
+     * Asserts that the given {@code Map} contains the given entries, in any order, comparing entries with the given
+     * comparison strategy.
+     * <p>
+     * When the strategy is based on a custom comparator, both sides are sorted and merged instead of being looked up by hash.
+     *
+     * @param <K>                key type
+     * @param <V>                value type
+     * @param info               contains information about the assertion
+     * @param actual             the given {@code Map}
+     * @param entries            the entries that are expected to be in the given {@code Map}
+     * @param comparisonStrategy the strategy used to compare entries
+     * @throws NullPointerException if the array of entries is {@code null}
+     * @throws NullPointerException if any of the entries in the given array is {@code null}
+     * @throws AssertionError       if the given {@code Map} is {@code null}
+     * @throws AssertionError       if the given {@code Map} does not contain the given entries
+     */
+    public <K, V> void assertContains(AssertionInfo info, Map<K, V> actual, Tuple2<K, V>[] entries,
+                                      ComparisonStrategy comparisonStrategy) {
+        if (!SortMergeDiff.isComparatorBased(comparisonStrategy)) {
+            assertContains(info, actual, entries);
+            return;
+        }
+        doCommonContainsCheck(info, actual, entries);
+        if (actual.isEmpty() && entries.length == 0) return;
+        failIfEmptySinceActualIsNotEmpty(info, failures, actual, entries);
+        SortMergeDiff.assertContains(info, failures, actual, entries, comparisonStrategy);
+    }
+
     /**
      * Asserts that the given {@code Map} does not contain the given entries.
      *
@@ -218,14 +247,44 @@ public final class Maps {
         failIfNull(entries);
         if (actual.isEmpty() && !entries.iterator().hasNext()) return;
         failIfEmpty(entries);
-        Map<K, V> expected = HashMap.ofEntries(entries);
-        Map<K, V> notExpected = actual.filter(entryNotPresentIn(expected));
-        if (isNotEmpty(notExpected)) {
-            Map<K, V> notFound = expected.filter(entryNotPresentIn(actual));
-            throw failures.failure(info, shouldContainOnly(actual, expected, notFound, notExpected));
+        final MapDiff<K, V> diff = MapDiff.diff(actual, entries);
+        if (diff.hasNotExpected()) {
+            Map<K, V> expected = HashMap.ofEntries(entries);
+            throw failures.failure(info, shouldContainOnly(actual, expected, diff.notFoundIn(expected), diff.notExpected()));
         }
     }
 
+    /**
+     * Asserts that the given {@code Map} contains the given entries only, comparing entries with the given comparison
+     * strategy.
+     * <p>
+     * When the strategy is based on a custom comparator, both sides are sorted and merged instead of being looked up by hash.
+     *
+     * @param <K>                key type
+     * @param <V>                value type
+     * @param info               contains information about the assertion
+     * @param actual             the given {@code Map}
+     * @param entries            the entries that are expected to only be in the given {@code Map}
+     * @param comparisonStrategy the strategy used to compare entries
+     * @throws NullPointerException     if the given entries are {@code null}
+     * @throws IllegalArgumentException if the given entries are empty
+     * @throws NullPointerException     if any of the given entries is {@code null}
+     * @throws AssertionError           if the given {@code Map} is {@code null}
+     * @throws AssertionError           if the given {@code Map} does not contain only the given entries
+     */
+    public <K, V> void assertContainsOnly(AssertionInfo info, Map<K, V> actual, Iterable<Tuple2<K, V>> entries,
+                                          ComparisonStrategy comparisonStrategy) {
+        if (!SortMergeDiff.isComparatorBased(comparisonStrategy)) {
+            assertContainsOnly(info, actual, entries);
+            return;
+        }
+        assertNotNull(info, actual);
+        failIfNull(entries);
+        if (actual.isEmpty() && !entries.iterator().hasNext()) return;
+        failIfEmpty(entries);
+        SortMergeDiff.assertContainsOnly(info, failures, actual, entries, comparisonStrategy);
+    }
+
     /**
      * Verifies that the actual map contains only the given entries and nothing else, <b>in order</b>.<br>
      * This assertion should only be used with map that have a consistent iteration order (i.e. don't use it with
@@ -250,25 +309,51 @@ public final class Maps {
         failIfEmpty(entries);
         assertHasSameSizeAs(info, actual, entries);
 
-        final Map<K, V> expectedEntries = asLinkedMap(entries);
-        final Map<K, V> notExpected = actual.filter(entry -> !expectedEntries.contains(entry));
-        final Map<K, V> notFound = expectedEntries.filter(entry -> !actual.contains(entry));
-
-        if (notExpected.isEmpty() && notFound.isEmpty()) {
-            // check entries order
-            int index = 0;
-            for (K keyFromActual : actual.keySet()) {
-                if (areNotEqual(keyFromActual, entries[index]._1)) {
-                    Tuple2<K, V> actualEntry = Tuple.of(keyFromActual, actual.get(keyFromActual).get());
-                    throw failures.failure(info, elementsDifferAtIndex(actualEntry, entries[index], index));
-                }
-                index++;
-            }
-            // all entries are in the same order.
+        failIfAnyEntryIsNull(entries);
+
+        final MapDiff<K, V> diff = MapDiff.diffInOrder(actual, entries);
+        if (diff.hasDifferences()) {
+            final Map<K, V> expectedEntries = asLinkedMap(entries);
+            throw failures.failure(info, shouldContainExactly(actual, List.of(entries), diff.notFoundIn(expectedEntries),
+                                                              diff.notExpected()));
+        }
+        if (diff.hasOrderMismatch()) {
+            final int index = diff.firstOrderMismatchIndex();
+            throw failures.failure(info, elementsDifferAtIndex(diff.firstOrderMismatch(), entries[index], index));
+        }
+        // all entries are in the same order.
+    }
+
+    /**
+     * Verifies that the actual map contains only the given entries and nothing else, <b>in order</b>, comparing entries
+     * with the given comparison strategy.
+     * <p>
+     * When the strategy is based on a custom comparator, both sides are sorted and merged to find missing and unexpected
+     * entries, then the order is checked pairwise.
+     *
+     * @param <K>                key type
+     * @param <V>                value type
+     * @param info               contains information about the assertion
+     * @param actual             the given {@code Map}
+     * @param comparisonStrategy the strategy used to compare entries
+     * @param entries            the given entries
+     * @throws NullPointerException     if the given entries array is {@code null}
+     * @throws AssertionError           if the actual map is {@code null}
+     * @throws IllegalArgumentException if the given entries array is empty
+     * @throws AssertionError           if the actual map does not contain the given entries with same order
+     */
+    public <K, V> void assertContainsExactly(AssertionInfo info, Map<K, V> actual, ComparisonStrategy comparisonStrategy,
+                                             @SuppressWarnings("unchecked") Tuple2<? extends K, ? extends V>... entries) {
+        if (!SortMergeDiff.isComparatorBased(comparisonStrategy)) {
+            assertContainsExactly(info, actual, entries);
             return;
         }
+        doCommonContainsCheck(info, actual, entries);
+        if (actual.isEmpty() && entries.length == 0) return;
+        failIfEmpty(entries);
+        assertHasSameSizeAs(info, actual, entries);
 
-        throw failures.failure(info, shouldContainExactly(actual, List.of(entries), notFound, notExpected));
+        SortMergeDiff.assertContainsExactly(info, failures, actual, entries, comparisonStrategy);
     }
 
     /**
@@ -315,7 +400,7 @@ public final class Maps {
         if (actual.isEmpty() && values.length == 0) return;
 
         Set<V> expected = HashSet.of(values);
-        Set<V> notFound = expected.filter(valueNotPresentIn(actual.values()));
+        Set<V> notFound = expected.filter(not(PresentValues.in(actual, expected)));
         if (isNotEmpty(notFound)) throw failures.failure(info, shouldContainValues(actual, notFound.toJavaSet()));
     }
 
@@ -338,7 +423,7 @@ public final class Maps {
         if (actual.isEmpty() && values.length == 0) return;
 
         Set<V> expected = HashSet.of(values);
-        Set<V> found = expected.filter(valuePresentIn(actual.values()));
+        Set<V> found = expected.filter(PresentValues.in(actual, expected));
         if (isNotEmpty(found)) throw failures.failure(info, shouldNotContainValues(actual, found.toJavaSet()));
     }
 
@@ -443,24 +528,18 @@ public final class Maps {
         requireNonNull(keys, "The array of keys to look for should not be null");
     }
 
-    private static <K> boolean areNotEqual(K actualKey, K expectedKey) {
-        return !deepEquals(actualKey, expectedKey);
-    }
-
     private static void assertNotNull(AssertionInfo info, Map<?, ?> actual) {
         Objects.instance().assertNotNull(info, actual);
     }
 
     private static <K, V> Map<K, V> asLinkedMap(Tuple2<? extends K, ? extends V>[] entries) {
-        if (entries.length != nonNullEntries(entries).length()) {
-            throw new NullPointerException("One of expected entries is null");
-        } else {
-            return LinkedHashMap.ofEntries(entries);
-        }
+        return LinkedHashMap.ofEntries(entries);
     }
 
-    private static <K, V> Array<Tuple2<? extends K, ? extends V>> nonNullEntries(Tuple2<? extends K, ? extends V>[] entries) {
-        return Array.of(entries).filter(java.util.Objects::nonNull);
+    private static <K, V> void failIfAnyEntryIsNull(Tuple2<? extends K, ? extends V>[] entries) {
+        for (Tuple2<? extends K, ? extends V> entry : entries) {
+            if (entry == null) throw new NullPointerException("One of expected entries is null");
+        }
     }
 
     private static <K, V> Predicate<Tuple2<K, V>> entryNotPresentIn(Map<K, V> map) {
@@ -475,14 +554,6 @@ public final class Maps {
         return elements::contains;
     }
 
-    private static <V> Predicate<V> valuePresentIn(Seq<V> elements) {
-        return elements::contains;
-    }
-
-    private static <V> Predicate<V> valueNotPresentIn(Seq<V> elements) {
-        return not(valuePresentIn(elements));
-    }
-
     private static boolean isNotEmpty(Traversable traversable) {
         return !traversable.isEmpty();
     }
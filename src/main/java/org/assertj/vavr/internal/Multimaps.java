@@ -21,6 +21,7 @@ import io.vavr.collection.*;
 import io.vavr.control.Option;
 import org.assertj.core.api.AssertionInfo;
 import org.assertj.core.api.Condition;
+import org.assertj.core.internal.ComparisonStrategy;
 import org.assertj.core.internal.Conditions;
 import org.assertj.core.internal.Failures;
 import org.assertj.core.internal.Objects;
@@ -95,9 +96,7 @@ public final class Multimaps {
         doCommonContainsCheck(info, actual, entries);
         if (actual.isEmpty() && entries.length == 0) return;
         failIfEmptySinceActualIsNotEmpty(info, failures, actual, entries);
-        for (Tuple2<? extends K, ? extends V> entry : entries) {
-            if (containsEntry(actual, entry)) return;
-        }
+        if (EntriesByKey.of(entries).anyPresentIn(actual)) return;
         throw failures.failure(info, shouldContainAnyOf(actual, entries));
     }
 
@@ -120,10 +119,39 @@ public final class Multimaps {
         doCommonContainsCheck(info, actual, entries);
         if (actual.isEmpty() && entries.length == 0) return;
         failIfEmptySinceActualIsNotEmpty(info, failures, actual, entries);
-        final Set<Tuple2<K, V>> notFound = Array.of(entries).filter(entryNotPresentIn(actual)).toSet();
-        if (isNotEmpty(notFound)) {
-            throw failures.failure(info, shouldContain(actual, entries, notFound));
+        final java.util.List<Tuple2<K, V>> notFound = EntriesByKey.of(entries).notPresentIn(actual);
+        if (!notFound.isEmpty()) {
+            throw failures.failure(info, shouldContain(actual, entries, HashSet.ofAll(notFound)));
+        }
+    }
+
+    /**
+     * Asserts that the given {@code Multimap} contains the given entries, in any order, comparing entries with the given
+     * comparison strategy.
+     * <p>
+     * When the strategy is based on a custom comparator, both sides are sorted and merged instead of being looked up by hash.
+     *
+     * @param <K>                key type
+     * @param <V>                value type
+     * @param info               contains information about the assertion
+     * @param actual             the given {@code Multimap}
+     * @param entries            the entries that are expected to be in the given {@code Multimap}
+     * @param comparisonStrategy the strategy used to compare entries
+     * @throws NullPointerException if the array of entries is {@code null}
+     * @throws NullPointerException if any of the entries in the given array is {@code null}
+     * @throws AssertionError       if the given {@code Multimap} is {@code null}
+     * @throws AssertionError       if the given {@code Multimap} does not contain the given entries
+     */
+    public <K, V> void assertContains(AssertionInfo info, Multimap<K, V> actual, Tuple2<K, V>[] entries,
+                                      ComparisonStrategy comparisonStrategy) {
+        if (!SortMergeDiff.isComparatorBased(comparisonStrategy)) {
+            assertContains(info, actual, entries);
+            return;
         }
+        doCommonContainsCheck(info, actual, entries);
+        if (actual.isEmpty() && entries.length == 0) return;
+        failIfEmptySinceActualIsNotEmpty(info, failures, actual, entries);
+        SortMergeDiff.assertContains(info, failures, actual, entries, comparisonStrategy);
     }
 
     /**
@@ -145,14 +173,45 @@ public final class Multimaps {
         failIfNull(entries);
         if (actual.isEmpty() && !entries.iterator().hasNext()) return;
         failIfEmpty(entries);
-        Multimap<K, V> expected = HashMultimap.withSeq().ofEntries(entries);
-        Multimap<K, V> notExpected = actual.filter(entryNotPresentIn(expected));
+        Multimap<K, V> notExpected = actual.filter(entryNotPresentIn(sameKindAs(actual, entries)));
         if (isNotEmpty(notExpected)) {
+            Multimap<K, V> expected = HashMultimap.withSeq().ofEntries(entries);
             Multimap<K, V> notFound = expected.filter(entryNotPresentIn(actual));
             throw failures.failure(info, shouldContainOnly(actual, expected, notFound, notExpected));
         }
     }
 
+    /**
+     * Asserts that the given {@code Multimap} contains the given entries only, comparing entries with the given comparison
+     * strategy.
+     * <p>
+     * When the strategy is based on a custom comparator, both sides are sorted and merged instead of being looked up by hash.
+     *
+     * @param <K>                key type
+     * @param <V>                value type
+     * @param info               contains information about the assertion
+     * @param actual             the given {@code Multimap}
+     * @param entries            the entries that are expected to only be in the given {@code Multimap}
+     * @param comparisonStrategy the strategy used to compare entries
+     * @throws NullPointerException     if the given entries are {@code null}
+     * @throws IllegalArgumentException if the given entries are empty
+     * @throws NullPointerException     if any of the given entries is {@code null}
+     * @throws AssertionError           if the given {@code Multimap} is {@code null}
+     * @throws AssertionError           if the given {@code Multimap} does not contain only the given entries
+     */
+    public <K, V> void assertContainsOnly(AssertionInfo info, Multimap<K, V> actual, Iterable<Tuple2<K, V>> entries,
+                                          ComparisonStrategy comparisonStrategy) {
+        if (!SortMergeDiff.isComparatorBased(comparisonStrategy)) {
+            assertContainsOnly(info, actual, entries);
+            return;
+        }
+        assertNotNull(info, actual);
+        failIfNull(entries);
+        if (actual.isEmpty() && !entries.iterator().hasNext()) return;
+        failIfEmpty(entries);
+        SortMergeDiff.assertContainsOnly(info, failures, actual, entries, comparisonStrategy);
+    }
+
 
     /**
      * Verifies that the actual {@code Multimap} contains only the given entries and nothing else, <b>in order</b>.<br>
@@ -198,6 +257,38 @@ public final class Multimaps {
         throw failures.failure(info, shouldContainExactly(actual, List.of(entries), notFound, notExpected));
     }
 
+    /**
+     * Verifies that the actual multimap contains only the given entries and nothing else, <b>in order</b>, comparing entries
+     * with the given comparison strategy.
+     * <p>
+     * When the strategy is based on a custom comparator, both sides are sorted and merged to find missing and unexpected
+     * entries, then the order is checked pairwise.
+     *
+     * @param <K>                key type
+     * @param <V>                value type
+     * @param info               contains information about the assertion
+     * @param actual             the given {@code Multimap}
+     * @param comparisonStrategy the strategy used to compare entries
+     * @param entries            the given entries
+     * @throws NullPointerException     if the given entries array is {@code null}
+     * @throws AssertionError           if the actual multimap is {@code null}
+     * @throws IllegalArgumentException if the given entries array is empty
+     * @throws AssertionError           if the actual multimap does not contain the given entries with same order
+     */
+    public <K, V> void assertContainsExactly(AssertionInfo info, Multimap<K, V> actual, ComparisonStrategy comparisonStrategy,
+                                             @SuppressWarnings("unchecked") Tuple2<? extends K, ? extends V>... entries) {
+        if (!SortMergeDiff.isComparatorBased(comparisonStrategy)) {
+            assertContainsExactly(info, actual, entries);
+            return;
+        }
+        doCommonContainsCheck(info, actual, entries);
+        if (actual.isEmpty() && entries.length == 0) return;
+        failIfEmpty(entries);
+        assertHasSameSizeAs(info, actual, entries);
+
+        SortMergeDiff.assertContainsExactly(info, failures, actual, entries, comparisonStrategy);
+    }
+
     /**
      * Asserts that the given {@code Multimap} does not contain the given entries.
      *
@@ -217,9 +308,9 @@ public final class Multimaps {
         failIfNullOrEmpty(entries);
         assertNotNull(info, actual);
         failIfEmptySinceActualIsNotEmpty(info, failures, actual, entries);
-        final Set<Tuple2<K, V>> found = Array.of(entries).filter(actual::contains).toSet();
-        if (isNotEmpty(found)) {
-            throw failures.failure(info, shouldNotContain(actual, entries, found));
+        final java.util.List<Tuple2<K, V>> found = EntriesByKey.of(entries).presentIn(actual);
+        if (!found.isEmpty()) {
+            throw failures.failure(info, shouldNotContain(actual, entries, HashSet.ofAll(found)));
         }
     }
 
@@ -333,7 +424,7 @@ public final class Multimaps {
         if (actual.isEmpty() && values.length == 0) return;
 
         Set<V> expected = HashSet.of(values);
-        Set<V> notFound = expected.filter(valueNotPresentIn(actual.values()));
+        Set<V> notFound = expected.filter(not(PresentValues.in(actual, expected)));
         if (isNotEmpty(notFound)) throw failures.failure(info, shouldContainValues(actual, notFound.toJavaSet()));
     }
 
@@ -372,7 +463,7 @@ public final class Multimaps {
         if (actual.isEmpty() && values.length == 0) return;
 
         Set<V> expected = HashSet.of(values);
-        Set<V> found = expected.filter(valuePresentIn(actual.values()));
+        Set<V> found = expected.filter(PresentValues.in(actual, expected));
         if (isNotEmpty(found)) throw failures.failure(info, shouldNotContainValues(actual, found.toJavaSet()));
     }
 
@@ -424,11 +515,6 @@ public final class Multimaps {
         return entries.filter(java.util.Objects::nonNull);
     }
 
-    private <K, V> boolean containsEntry(Multimap<K, V> actual, Tuple2<? extends K, ? extends V> entry) {
-        requireNonNull(entry, "Entry to look for should not be null");
-        return actual.containsKey(entry._1) && actual.get(entry._1).get().contains(entry._2);
-    }
-
     private static <K> boolean areNotEqual(K actualKey, K expectedKey) {
         return !deepEquals(actualKey, expectedKey);
     }
@@ -466,6 +552,19 @@ public final class Multimaps {
         Objects.instance().assertNotNull(info, actual);
     }
 
+    /**
+     * Puts the given entries in an empty copy of {@code actual}, so that they are looked up with the key and value
+     * semantics of the actual {@code Multimap} (e.g. the comparators of a {@link TreeMultimap}).
+     */
+    private static <K, V> Multimap<K, V> sameKindAs(Multimap<K, V> actual, Iterable<Tuple2<K, V>> entries) {
+        Multimap<K, V> multimap = actual.filter(entry -> false);
+        for (Tuple2<K, V> entry : entries) {
+            requireNonNull(entry, "Entry to look for should not be null");
+            multimap = multimap.put(entry);
+        }
+        return multimap;
+    }
+
     private static <K, V> Predicate<Tuple2<K, V>> entryNotPresentIn(Multimap<K, V> map) {
         return tuple -> !map.contains(tuple);
     }
@@ -478,14 +577,6 @@ public final class Multimaps {
         return elements::contains;
     }
 
-    private static <V> Predicate<V> valueNotPresentIn(Traversable<V> elements) {
-        return not(valuePresentIn(elements));
-    }
-
-    private static <V> Predicate<V> valuePresentIn(Traversable<V> elements) {
-        return elements::contains;
-    }
-
     private static boolean isNotEmpty(Traversable traversable) {
         return !traversable.isEmpty();
     }
@@ -0,0 +1,47 @@
+/*
+ * Copyright 2017-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.vavr.internal;
+
+import io.vavr.Tuple2;
+import io.vavr.collection.Set;
+
+import java.util.HashSet;
+import java.util.function.Predicate;
+
+final class PresentValues {
+
+    private PresentValues() {
+    }
+
+    /**
+     * Streams the values of the given entries once and keeps those that are among the expected values, looked up by
+     * hash. The scan stops as soon as every expected value has been seen, and the actual values are never copied into
+     * an intermediate collection.
+     *
+     * @param entries  the entries of the actual map
+     * @param expected the values to look for
+     * @param <V>      value type
+     * @return a predicate telling whether an expected value is present in the entries
+     */
+    static <V> Predicate<V> in(Iterable<? extends Tuple2<?, ? extends V>> entries, Set<V> expected) {
+        final java.util.Set<V> present = new HashSet<>();
+        if (expected.isEmpty()) return present::contains;
+        for (Tuple2<?, ? extends V> entry : entries) {
+            if (expected.contains(entry._2) && present.add(entry._2) && present.size() == expected.size()) break;
+        }
+        return present::contains;
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright 2017-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.vavr.internal;
+
+import java.util.Iterator;
+import java.util.function.BiPredicate;
+
+/**
+ * Knuth-Morris-Pratt search of a sequence of values in a single pass over an iterator.
+ * <p>
+ * The iterator is consumed only up to the end of the first occurrence, and no element of it is buffered, so the
+ * search works on lazy and very long collections. The equality predicate must be an equivalence relation.
+ */
+final class SequenceMatcher {
+
+    private final Object[] sequence;
+    private final BiPredicate<Object, Object> equality;
+    private final int[] fallback;
+
+    SequenceMatcher(Object[] sequence, BiPredicate<Object, Object> equality) {
+        this.sequence = sequence;
+        this.equality = equality;
+        this.fallback = fallbackTable(sequence, equality);
+    }
+
+    /**
+     * Returns the index of the first occurrence of the sequence among the remaining elements of the given iterator,
+     * or -1 if there is none.
+     */
+    int indexIn(Iterator<?> elements) {
+        if (sequence.length == 0) return 0;
+        int matched = 0;
+        for (int index = 0; elements.hasNext(); index++) {
+            final Object element = elements.next();
+            while (matched > 0 && !equality.test(element, sequence[matched])) {
+                matched = fallback[matched - 1];
+            }
+            if (equality.test(element, sequence[matched])) matched++;
+            if (matched == sequence.length) return index - matched + 1;
+        }
+        return -1;
+    }
+
+    // fallback[i] is the length of the longest proper prefix of sequence[0..i] that is also a suffix of it
+    private static int[] fallbackTable(Object[] sequence, BiPredicate<Object, Object> equality) {
+        final int[] fallback = new int[sequence.length];
+        int length = 0;
+        for (int i = 1; i < sequence.length; i++) {
+            while (length > 0 && !equality.test(sequence[i], sequence[length])) {
+                length = fallback[length - 1];
+            }
+            if (equality.test(sequence[i], sequence[length])) length++;
+            fallback[i] = length;
+        }
+        return fallback;
+    }
+}
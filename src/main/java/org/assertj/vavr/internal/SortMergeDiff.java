@@ -0,0 +1,154 @@
+/*
+ * Copyright 2017-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.vavr.internal;
+
+import io.vavr.collection.List;
+import org.assertj.core.api.AssertionInfo;
+import org.assertj.core.internal.ComparatorBasedComparisonStrategy;
+import org.assertj.core.internal.ComparisonStrategy;
+import org.assertj.core.internal.Failures;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+
+import static java.util.Objects.requireNonNull;
+import static org.assertj.core.error.ShouldContain.shouldContain;
+import static org.assertj.core.error.ShouldContainExactly.elementsDifferAtIndex;
+import static org.assertj.core.error.ShouldContainExactly.shouldContainExactly;
+import static org.assertj.core.error.ShouldContainOnly.shouldContainOnly;
+
+/**
+ * Matches actual elements against expected ones with a {@link Comparator} by sorting both sides and merging them,
+ * so that no hash lookup is needed and the matching takes O(n log n) comparisons instead of O(n&middot;m).
+ * <p>
+ * Matching has set semantics: an element is found if the comparator considers it equal to any element of the other side.
+ * The comparator is expected to be consistent with a total order.
+ * <p>
+ * The {@code assertContains*} methods implement the entry assertions of {@link Maps} and {@link Multimaps} with a
+ * comparator-based {@link ComparisonStrategy}, once their arguments have been checked.
+ */
+final class SortMergeDiff {
+
+    // expected elements that were not found in the actual ones, in comparator order
+    private final ArrayList<Object> notFound = new ArrayList<>();
+
+    // actual elements that were not expected, in comparator order
+    private final ArrayList<Object> notExpected = new ArrayList<>();
+
+    private SortMergeDiff() {
+    }
+
+    static boolean isComparatorBased(ComparisonStrategy comparisonStrategy) {
+        return comparisonStrategy instanceof ComparatorBasedComparisonStrategy;
+    }
+
+    /**
+     * Asserts that the actual entries contain the given entries.
+     */
+    static void assertContains(AssertionInfo info, Failures failures, Iterable<?> actual, Object[] entries,
+                               ComparisonStrategy comparisonStrategy) {
+        final SortMergeDiff diff = diff(actual, Arrays.asList(entries), comparatorOf(comparisonStrategy));
+        if (!diff.notFound.isEmpty()) {
+            throw failures.failure(info, shouldContain(actual, entries, List.ofAll(diff.notFound), comparisonStrategy));
+        }
+    }
+
+    /**
+     * Asserts that the actual entries contain the given entries and nothing else.
+     */
+    static void assertContainsOnly(AssertionInfo info, Failures failures, Iterable<?> actual, Iterable<?> entries,
+                                   ComparisonStrategy comparisonStrategy) {
+        final SortMergeDiff diff = diff(actual, entries, comparatorOf(comparisonStrategy));
+        if (diff.hasDifferences()) {
+            throw failures.failure(info, shouldContainOnly(actual, List.ofAll(entries), List.ofAll(diff.notFound),
+                                                           List.ofAll(diff.notExpected), comparisonStrategy));
+        }
+    }
+
+    /**
+     * Asserts that the actual entries contain the given entries and nothing else, in order. The actual entries are
+     * expected to be as many as the given ones.
+     */
+    static void assertContainsExactly(AssertionInfo info, Failures failures, Iterable<?> actual, Object[] entries,
+                                      ComparisonStrategy comparisonStrategy) {
+        final SortMergeDiff diff = diff(actual, Arrays.asList(entries), comparatorOf(comparisonStrategy));
+        if (diff.hasDifferences()) {
+            throw failures.failure(info, shouldContainExactly(actual, List.of(entries), List.ofAll(diff.notFound),
+                                                              List.ofAll(diff.notExpected), comparisonStrategy));
+        }
+        int index = 0;
+        for (Object actualEntry : actual) {
+            if (!comparisonStrategy.areEqual(actualEntry, entries[index])) {
+                throw failures.failure(info, elementsDifferAtIndex(actualEntry, entries[index], index, comparisonStrategy));
+            }
+            index++;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static SortMergeDiff diff(Iterable<?> actual, Iterable<?> expected, Comparator<?> comparator) {
+        final Comparator<Object> order = (Comparator<Object>) comparator;
+        final java.util.List<Object> sortedActual = sortedCopy(actual, order, "One of actual entries is null");
+        final java.util.List<Object> sortedExpected = sortedCopy(expected, order, "One of expected entries is null");
+        final SortMergeDiff diff = new SortMergeDiff();
+        int actualIndex = 0;
+        int expectedIndex = 0;
+        while (actualIndex < sortedActual.size() && expectedIndex < sortedExpected.size()) {
+            final Object actualElement = sortedActual.get(actualIndex);
+            final Object expectedElement = sortedExpected.get(expectedIndex);
+            final int comparison = order.compare(actualElement, expectedElement);
+            if (comparison == 0) {
+                // keep the actual element, following expected elements may be equal to it too
+                expectedIndex++;
+            } else if (comparison < 0) {
+                if (!equalsPrevious(actualElement, sortedExpected, expectedIndex, order)) diff.notExpected.add(actualElement);
+                actualIndex++;
+            } else {
+                diff.notFound.add(expectedElement);
+                expectedIndex++;
+            }
+        }
+        for (; actualIndex < sortedActual.size(); actualIndex++) {
+            final Object actualElement = sortedActual.get(actualIndex);
+            if (!equalsPrevious(actualElement, sortedExpected, expectedIndex, order)) diff.notExpected.add(actualElement);
+        }
+        diff.notFound.addAll(sortedExpected.subList(expectedIndex, sortedExpected.size()));
+        return diff;
+    }
+
+    private boolean hasDifferences() {
+        return !notFound.isEmpty() || !notExpected.isEmpty();
+    }
+
+    private static Comparator<?> comparatorOf(ComparisonStrategy comparisonStrategy) {
+        return ((ComparatorBasedComparisonStrategy) comparisonStrategy).getComparator();
+    }
+
+    private static boolean equalsPrevious(Object actualElement, java.util.List<Object> sortedExpected, int expectedIndex,
+                                          Comparator<Object> order) {
+        return expectedIndex > 0 && order.compare(actualElement, sortedExpected.get(expectedIndex - 1)) == 0;
+    }
+
+    private static java.util.List<Object> sortedCopy(Iterable<?> elements, Comparator<Object> order, String nullMessage) {
+        final java.util.List<Object> copy = new ArrayList<>();
+        for (Object element : elements) {
+            copy.add(requireNonNull(element, nullMessage));
+        }
+        copy.sort(order);
+        return copy;
+    }
+}
@@ -0,0 +1,178 @@
+/*
+ * Copyright 2017-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.vavr.internal;
+
+import io.vavr.collection.Traversable;
+import org.assertj.core.api.AssertionInfo;
+import org.assertj.core.internal.ComparisonStrategy;
+import org.assertj.core.internal.Failures;
+import org.assertj.core.internal.Iterables;
+import org.assertj.core.internal.Objects;
+import org.assertj.core.internal.StandardComparisonStrategy;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static java.util.Objects.requireNonNull;
+import static org.assertj.core.error.ShouldContainExactlyInAnyOrder.shouldContainExactlyInAnyOrder;
+import static org.assertj.core.error.ShouldContainSequence.shouldContainSequence;
+import static org.assertj.core.error.ShouldNotContainSequence.shouldNotContainSequence;
+
+public final class Traversables {
+
+    private static final Traversables INSTANCE = new Traversables();
+
+    private Failures failures = Failures.instance();
+
+    private Traversables() {
+    }
+
+    public static Traversables instance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Asserts that the given {@code Traversable} contains exactly the given values and nothing else, in any order.
+     * <p>
+     * With the standard comparison strategy, the occurrences of the values are counted in a hash bag so the check runs
+     * in linear time; otherwise it falls back to the given {@link Iterables}, which compares values pairwise.
+     * Missing and unexpected values are reported once per missing or unexpected occurrence, in the same order as core
+     * reports them.
+     *
+     * @param info      contains information about the assertion
+     * @param actual    the given {@code Traversable}
+     * @param values    the values that are expected to be in the given {@code Traversable}
+     * @param iterables the {@link Iterables} holding the comparison strategy of the assertion
+     * @throws NullPointerException if the array of values is {@code null}
+     * @throws AssertionError       if the given {@code Traversable} is {@code null}
+     * @throws AssertionError       if the given {@code Traversable} does not contain exactly the given values
+     */
+    public void assertContainsExactlyInAnyOrder(AssertionInfo info, Traversable<?> actual, Object[] values,
+                                                Iterables iterables) {
+        requireNonNull(values, "The array of values to look for should not be null");
+        if (!(iterables.getComparisonStrategy() instanceof StandardComparisonStrategy) || anyArrayIn(values)) {
+            iterables.assertContainsExactlyInAnyOrder(info, actual, values);
+            return;
+        }
+        Objects.instance().assertNotNull(info, actual);
+        final Map<Object, Integer> remaining = new HashMap<>();
+        for (Object value : values) {
+            remaining.merge(value, 1, Integer::sum);
+        }
+        final List<Object> notExpected = new ArrayList<>();
+        for (Object element : actual) {
+            if (element != null && element.getClass().isArray()) {
+                // arrays are compared by content, they cannot be counted by hash
+                iterables.assertContainsExactlyInAnyOrder(info, actual, values);
+                return;
+            }
+            if (!takeOne(remaining, element)) notExpected.add(element);
+        }
+        // like core, the first occurrences of a value are the matched ones, so the last ones are reported as not found
+        final List<Object> notFound = new ArrayList<>();
+        for (int i = values.length - 1; i >= 0; i--) {
+            if (takeOne(remaining, values[i])) notFound.add(values[i]);
+        }
+        Collections.reverse(notFound);
+        if (notFound.isEmpty() && notExpected.isEmpty()) return;
+        throw failures.failure(info, shouldContainExactlyInAnyOrder(actual, values, notFound, notExpected,
+                                                                    iterables.getComparisonStrategy()));
+    }
+
+    /**
+     * Asserts that the given {@code Traversable} contains the given sequence of values, without any other values
+     * between them.
+     * <p>
+     * With the standard comparison strategy, the sequence is searched in a single pass over the iterator of the actual
+     * {@code Traversable} which stops at the first occurrence, so lazy collections are neither copied nor fully
+     * evaluated; otherwise it falls back to the given {@link Iterables}.
+     *
+     * @param info      contains information about the assertion
+     * @param actual    the given {@code Traversable}
+     * @param sequence  the sequence of values to look for
+     * @param iterables the {@link Iterables} holding the comparison strategy of the assertion
+     * @throws NullPointerException if the given sequence is {@code null}
+     * @throws AssertionError       if the given {@code Traversable} is {@code null}
+     * @throws AssertionError       if the given {@code Traversable} does not contain the given sequence
+     */
+    public void assertContainsSequence(AssertionInfo info, Traversable<?> actual, Object[] sequence,
+                                       Iterables iterables) {
+        if (!searchesInOnePass(sequence, iterables)) {
+            iterables.assertContainsSequence(info, actual, sequence);
+            return;
+        }
+        Objects.instance().assertNotNull(info, actual);
+        if (indexOf(actual, sequence, iterables) < 0) {
+            throw failures.failure(info, shouldContainSequence(actual, sequence, iterables.getComparisonStrategy()));
+        }
+    }
+
+    /**
+     * Asserts that the given {@code Traversable} does not contain the given sequence of values.
+     * <p>
+     * Like {@link #assertContainsSequence(AssertionInfo, Traversable, Object[], Iterables)}, the sequence is searched
+     * in a single pass with the standard comparison strategy.
+     *
+     * @param info      contains information about the assertion
+     * @param actual    the given {@code Traversable}
+     * @param sequence  the sequence of values to look for
+     * @param iterables the {@link Iterables} holding the comparison strategy of the assertion
+     * @throws NullPointerException if the given sequence is {@code null}
+     * @throws AssertionError       if the given {@code Traversable} is {@code null}
+     * @throws AssertionError       if the given {@code Traversable} contains the given sequence
+     */
+    public void assertDoesNotContainSequence(AssertionInfo info, Traversable<?> actual, Object[] sequence,
+                                             Iterables iterables) {
+        if (!searchesInOnePass(sequence, iterables)) {
+            iterables.assertDoesNotContainSequence(info, actual, sequence);
+            return;
+        }
+        Objects.instance().assertNotNull(info, actual);
+        final int index = indexOf(actual, sequence, iterables);
+        if (index >= 0) {
+            throw failures.failure(info, shouldNotContainSequence(actual, sequence, index,
+                                                                  iterables.getComparisonStrategy()));
+        }
+    }
+
+    // null and empty sequences are left to Iterables so that they are reported the same way as before
+    private static boolean searchesInOnePass(Object[] sequence, Iterables iterables) {
+        return sequence != null && sequence.length > 0
+               && iterables.getComparisonStrategy() instanceof StandardComparisonStrategy;
+    }
+
+    private static int indexOf(Traversable<?> actual, Object[] sequence, Iterables iterables) {
+        final ComparisonStrategy strategy = iterables.getComparisonStrategy();
+        return new SequenceMatcher(sequence, strategy::areEqual).indexIn(actual.iterator());
+    }
+
+    private static boolean takeOne(Map<Object, Integer> remaining, Object value) {
+        final Integer count = remaining.get(value);
+        if (count == null || count == 0) return false;
+        remaining.put(value, count - 1);
+        return true;
+    }
+
+    private static boolean anyArrayIn(Object[] values) {
+        for (Object value : values) {
+            if (value != null && value.getClass().isArray()) return true;
+        }
+        return false;
+    }
+}
@@ -0,0 +1,145 @@
+/*
+ * Copyright 2017-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.vavr.api;
+
+import io.vavr.Lazy;
+import io.vavr.collection.List;
+import io.vavr.collection.Seq;
+import io.vavr.collection.Vector;
+import io.vavr.concurrent.Future;
+import io.vavr.concurrent.Promise;
+import io.vavr.control.Either;
+import io.vavr.control.Option;
+import io.vavr.control.Try;
+import io.vavr.control.Validation;
+import org.junit.jupiter.api.Test;
+
+import static java.lang.String.format;
+import static java.util.Arrays.asList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.util.FailureMessages.actualIsNull;
+import static org.assertj.vavr.api.AllValuesShouldBe.shouldAllBe;
+import static org.assertj.vavr.api.VavrAssertions.assertThatAll;
+
+class AllValuesAssert_Test {
+
+    @Test
+    void should_pass_if_all_values_meet_expectations() {
+        assertThatAll(Vector.range(0, 2_000_000).map(Try::success))
+                .allSuccess()
+                .allDefined()
+                .noneFailedWith(IllegalStateException.class)
+                .allValuesMatch(value -> value >= 0);
+        assertThatAll(List.of(Option.of("frodo"), Option.of("sam"))).allDefined().allValuesMatch(name -> name.length() > 2);
+        assertThatAll(List.of(Either.<Integer, String>right("frodo"))).allRight();
+        assertThatAll(List.of(Validation.<Integer, String>valid("frodo"))).allValid();
+    }
+
+    @Test
+    void should_pass_if_collection_is_empty() {
+        assertThatAll(List.<Try<String>>empty()).allSuccess().allValuesMatch(value -> false);
+    }
+
+    @Test
+    void should_fail_when_collection_is_null() {
+        assertThatThrownBy(
+                () -> assertThatAll((Seq<Try<String>>) null).allSuccess()
+        )
+                .isInstanceOf(AssertionError.class)
+                .hasMessage(actualIsNull());
+    }
+
+    @Test
+    void should_fail_and_report_indices_of_failing_elements() {
+        final Try<String> failure = Try.failure(new IllegalStateException("lost"));
+        final Seq<Try<String>> actual = List.of(Try.success("frodo"), failure, Try.success("sam"), failure);
+
+        assertThatThrownBy(
+                () -> assertThatAll(actual).allSuccess()
+        )
+                .isInstanceOf(AssertionError.class)
+                .hasMessage(shouldAllBe(actual.size(), "successful Try", asList(1, 3),
+                                        asList(failure, failure), 2).create())
+                .hasMessageStartingWith(format("%nExpecting all elements of a collection of size 4%n"));
+        assertThatThrownBy(
+                () -> assertThatAll(actual).noneFailedWith(RuntimeException.class)
+        )
+                .isInstanceOf(AssertionError.class)
+                .hasMessageContaining("to be not failed with java.lang.RuntimeException, but these 2 element(s) were not");
+    }
+
+    @Test
+    void should_fail_if_elements_are_of_another_kind() {
+        assertThatThrownBy(
+                () -> assertThatAll(List.of(Option.of("frodo"))).allRight()
+        )
+                .isInstanceOf(AssertionError.class)
+                .hasMessageContaining("to be right Either, but these 1 element(s) were not");
+    }
+
+    @Test
+    void should_fail_and_report_predicate_description() {
+        assertThatThrownBy(
+                () -> assertThatAll(List.of(Option.of("frodo"), Option.none(), Option.of("sam")))
+                        .allValuesMatch(name -> name.startsWith("f"), "holding a name starting with f")
+        )
+                .isInstanceOf(AssertionError.class)
+                .hasMessageContaining("to be holding a name starting with f, but these 2 element(s) were not")
+                .hasMessageContaining("[1] ")
+                .hasMessageContaining("[2] ")
+                .satisfies(error -> assertThat(error.getMessage()).doesNotContain("[0] "));
+    }
+
+    @Test
+    void should_not_evaluate_Lazy_values() {
+        final Lazy<String> evaluated = Lazy.of(() -> "frodo");
+        evaluated.get();
+        final Lazy<String> notEvaluated = Lazy.of(() -> "sam");
+
+        assertThatAll(List.of(evaluated)).allDefined().allValuesMatch(name -> name.startsWith("f"));
+        assertThatThrownBy(
+                () -> assertThatAll(List.of(evaluated, notEvaluated)).allDefined()
+        )
+                .isInstanceOf(AssertionError.class)
+                .hasMessageContaining("to be defined, but these 1 element(s) were not");
+        assertThat(notEvaluated.isEvaluated()).isFalse();
+    }
+
+    @Test
+    void should_not_wait_for_Future_values() {
+        final Promise<String> pending = Promise.make();
+
+        assertThatAll(List.of(Future.successful("frodo"))).allDefined().allValuesMatch(name -> name.startsWith("f"));
+        assertThatThrownBy(
+                () -> assertThatAll(List.of(Future.successful("frodo"), pending.future(),
+                                            Future.<String>failed(new IllegalStateException("lost")))).allDefined()
+        )
+                .isInstanceOf(AssertionError.class)
+                .hasMessageContaining("to be defined, but these 2 element(s) were not");
+    }
+
+    @Test
+    void should_cap_the_number_of_reported_elements() {
+        assertThatThrownBy(
+                () -> assertThatAll(Vector.range(0, 1_000).map(Option::some)).allValuesMatch(value -> value < 0)
+        )
+                .isInstanceOf(AssertionError.class)
+                .satisfies(error -> assertThat(error.getMessage()).contains("of a collection of size 1000", "[99] ")
+                                                                  .doesNotContain("[100]", "Some(999)")
+                                                                  .endsWith("... and 900 more"));
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright 2017-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.vavr.api;
+
+import io.vavr.Tuple;
+import io.vavr.collection.HashMap;
+import io.vavr.collection.List;
+import io.vavr.collection.Seq;
+import io.vavr.collection.Vector;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.util.FailureMessages.actualIsNull;
+import static org.assertj.vavr.api.VavrAssertions.assertThatComplexity;
+
+class ComplexityAssert_Test {
+
+    private static final Function<Seq<Integer>, Integer> SUM_BY_INDEX = seq -> {
+        int sum = 0;
+        for (int i = 0; i < seq.size(); i++) {
+            sum += seq.get(i);
+        }
+        return sum;
+    };
+
+    @Test
+    @Tag("timing")
+    void should_pass_when_indexed_access_on_Vector_is_not_quadratic() {
+        assertThatComplexity(size -> Vector.range(0, size), SUM_BY_INDEX)
+                .scalesAtMost(Complexity.LINEARITHMIC);
+    }
+
+    @Test
+    @Tag("timing")
+    void should_pass_when_HashMap_lookups_are_not_quadratic() {
+        assertThatComplexity(size -> HashMap.ofEntries(Vector.range(0, size).map(i -> Tuple.of(i, i))),
+                             map -> map.keySet().count(map::containsKey))
+                .scalesAtMost(Complexity.LINEARITHMIC);
+    }
+
+    @Test
+    @Tag("timing")
+    void should_fail_when_indexed_access_on_List_is_quadratic() {
+        assertThatThrownBy(
+                () -> assertThatComplexity(size -> List.range(0, size), SUM_BY_INDEX)
+                        .overSizes(500, 1_000, 2_000, 4_000, 8_000)
+                        .withRepetitions(3)
+                        .scalesAtMost(Complexity.LINEAR)
+        )
+                .isInstanceOf(AssertionError.class)
+                .hasMessageContaining("Expecting operation to scale at most as O(n) but it scales as O(n^2), with timings:")
+                .hasMessageContaining("n = 8000: ");
+    }
+
+    @Test
+    void should_fail_when_operation_is_null() {
+        assertThatThrownBy(
+                () -> assertThatComplexity(size -> List.range(0, size), null).scalesAtMost(Complexity.QUADRATIC)
+        )
+                .isInstanceOf(AssertionError.class)
+                .hasMessage(actualIsNull());
+    }
+
+    @Test
+    void should_fail_if_sizes_are_invalid() {
+        final ComplexityAssert<List<Integer>> complexity = assertThatComplexity(size -> List.range(0, size), Seq::size);
+
+        assertThatIllegalArgumentException().isThrownBy(() -> complexity.overSizes(1, 2))
+                                            .withMessage("At least 3 sizes are needed but got: 2");
+        assertThatIllegalArgumentException().isThrownBy(() -> complexity.overSizes(1, 3, 2))
+                                            .withMessage("The sizes should be strictly increasing but got 2 after 3");
+    }
+}
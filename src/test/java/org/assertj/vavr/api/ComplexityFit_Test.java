@@ -0,0 +1,87 @@
+/*
+ * Copyright 2017-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.vavr.api;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.function.IntToDoubleFunction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class ComplexityFit_Test {
+
+    private static final int[] SIZES = {512, 1_024, 2_048, 4_096, 8_192, 16_384};
+
+    @Test
+    void should_fit_linear_timings_with_a_fixed_overhead_as_linear() {
+        final ComplexityFit fit = fitOf(size -> 50_000 + 10 * size);
+
+        assertThat(fit.bestFit()).isEqualTo(Complexity.LINEAR);
+        assertThat(fit.relativeError(Complexity.LINEAR)).isCloseTo(0.0, within(1e-9));
+        assertThat(fit.scalesClearlyWorseThan(Complexity.LINEAR)).isFalse();
+        assertThat(fit.scalesClearlyWorseThan(Complexity.LOGARITHMIC)).isTrue();
+    }
+
+    @Test
+    void should_fit_logarithmic_timings_as_logarithmic() {
+        final ComplexityFit fit = fitOf(size -> 500 + 100 * Math.log(size) / Math.log(2));
+
+        assertThat(fit.bestFit()).isEqualTo(Complexity.LOGARITHMIC);
+        assertThat(fit.scalesClearlyWorseThan(Complexity.CONSTANT)).isTrue();
+    }
+
+    @Test
+    void should_fit_linearithmic_timings_as_linearithmic() {
+        final ComplexityFit fit = fitOf(size -> 2_000 + 3 * size * Math.log(size) / Math.log(2));
+
+        assertThat(fit.bestFit()).isEqualTo(Complexity.LINEARITHMIC);
+        assertThat(fit.scalesClearlyWorseThan(Complexity.LINEAR)).isTrue();
+        assertThat(fit.scalesClearlyWorseThan(Complexity.QUADRATIC)).isFalse();
+    }
+
+    @Test
+    void should_fit_quadratic_timings_as_quadratic() {
+        final ComplexityFit fit = fitOf(size -> 1_000 + 0.01 * size * size);
+
+        assertThat(fit.bestFit()).isEqualTo(Complexity.QUADRATIC);
+        assertThat(fit.scalesClearlyWorseThan(Complexity.LINEARITHMIC)).isTrue();
+    }
+
+    @Test
+    void should_fit_decreasing_timings_as_constant() {
+        final ComplexityFit fit = new ComplexityFit(SIZES, new double[]{900, 800, 700, 600, 500, 400});
+
+        assertThat(fit.bestFit()).isEqualTo(Complexity.CONSTANT);
+        assertThat(fit.scalesClearlyWorseThan(Complexity.CONSTANT)).isFalse();
+    }
+
+    @Test
+    void should_not_report_noise_around_a_constant_timing_as_a_worse_complexity() {
+        final ComplexityFit fit = new ComplexityFit(SIZES, new double[]{100, 103, 98, 101, 99, 102});
+
+        assertThat(fit.relativeError(Complexity.CONSTANT)).isLessThan(0.02);
+        assertThat(fit.scalesClearlyWorseThan(Complexity.CONSTANT)).isFalse();
+    }
+
+    private static ComplexityFit fitOf(IntToDoubleFunction nanosOfSize) {
+        final double[] nanos = new double[SIZES.length];
+        for (int i = 0; i < SIZES.length; i++) {
+            nanos[i] = nanosOfSize.applyAsDouble(SIZES[i]);
+        }
+        return new ComplexityFit(SIZES, nanos);
+    }
+}
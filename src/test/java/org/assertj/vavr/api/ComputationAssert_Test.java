@@ -0,0 +1,111 @@
+/*
+ * Copyright 2017-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.vavr.api;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.util.FailureMessages.actualIsNull;
+import static org.assertj.vavr.api.VavrAssertions.assertThatComputation;
+
+class ComputationAssert_Test {
+
+    private final AtomicLong clock = new AtomicLong();
+
+    @Test
+    void should_pass_and_chain_on_result_when_computation_is_within_budget() {
+        final AtomicInteger runs = new AtomicInteger();
+
+        new ComputationAssert<>(() -> {
+            clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(1));
+            return "ring" + runs.incrementAndGet();
+        }, clock::get)
+                .withWarmUp(100)
+                .measuredOver(1_000)
+                .hasPercentileWithin(99, Duration.ofMillis(1))
+                .contains("ring1100");
+        assertThat(runs).hasValue(1_100);
+    }
+
+    @Test
+    void should_check_the_given_percentile_only() {
+        final AtomicInteger runs = new AtomicInteger();
+        final ComputationAssert<Integer> computation = new ComputationAssert<>(() -> {
+            // one slow run out of 100
+            clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(runs.incrementAndGet() % 100 == 0 ? 100 : 1));
+            return runs.get();
+        }, clock::get).measuredOver(100);
+
+        computation.hasPercentileWithin(99, Duration.ofMillis(50)).isSuccess();
+        assertThatThrownBy(
+                () -> computation.completesWithin(Duration.ofMillis(50))
+        )
+                .isInstanceOf(AssertionError.class)
+                .hasMessage("\nExpecting computation to complete within PT0.05S at p100 but it took PT0.1S over 100 run(s)\n" +
+                            "(min: PT0.001S, median: PT0.001S, max: PT0.1S)");
+    }
+
+    @Test
+    @Tag("timing")
+    void should_measure_latencies_with_the_system_clock_by_default() {
+        final ComputationAssert<String> computation = assertThatComputation(() -> {
+            Thread.sleep(100);
+            return "ring";
+        });
+
+        computation.completesWithin(Duration.ofSeconds(10)).contains("ring");
+        assertThatThrownBy(
+                () -> computation.completesWithin(Duration.ofMillis(50))
+        )
+                .isInstanceOf(AssertionError.class)
+                .hasMessageContaining("Expecting computation to complete within PT0.05S at p100 but it took PT0.1");
+    }
+
+    @Test
+    void should_chain_on_failure_of_computation() {
+        new ComputationAssert<>(() -> {
+            throw new IllegalStateException("lost");
+        }, clock::get).completesWithin(Duration.ofSeconds(1))
+                      .failBecauseOf(IllegalStateException.class);
+    }
+
+    @Test
+    void should_fail_when_computation_is_null() {
+        assertThatThrownBy(
+                () -> assertThatComputation(null).completesWithin(Duration.ofSeconds(1))
+        )
+                .isInstanceOf(AssertionError.class)
+                .hasMessage(actualIsNull());
+    }
+
+    @Test
+    void should_fail_if_arguments_are_invalid() {
+        assertThatIllegalArgumentException().isThrownBy(() -> assertThatComputation(() -> 1).measuredOver(0))
+                                            .withMessage("The number of measured iterations should be at least 1 but was: 0");
+        assertThatIllegalArgumentException().isThrownBy(() -> assertThatComputation(() -> 1).withWarmUp(-1))
+                                            .withMessage("The number of warm-up iterations should not be negative but was: -1");
+        assertThatIllegalArgumentException().isThrownBy(() -> assertThatComputation(() -> 1).hasPercentileWithin(0, Duration.ZERO))
+                                            .withMessage("The percentile should be in ]0, 100] but was: 0.0");
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright 2017-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.vavr.api;
+
+import io.vavr.collection.HashMap;
+import io.vavr.collection.List;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.util.FailureMessages.actualIsNull;
+import static org.assertj.vavr.api.VavrAssertions.assertThatComputation;
+
+class ComputationAssert_allocations_Test {
+
+    @Test
+    void should_pass_and_chain_on_result_when_computation_allocates_within_budget() {
+        assertThatComputation(() -> List.range(0, 10_000))
+                .withWarmUp(10)
+                .measuredOver(10)
+                .allocatesPerElementLessThan(1_024)
+                .get(VavrInstanceOfAssertFactories.seq(Integer.class))
+                .hasSize(10_000);
+        assertThatComputation(() -> HashMap.of("frodo", 50))
+                .allocatesLessThan(1_000_000)
+                .get(VavrInstanceOfAssertFactories.map(String.class, Integer.class))
+                .containsKey("frodo");
+    }
+
+    @Test
+    void should_fail_when_computation_allocates_more_than_budget() {
+        assertThatThrownBy(
+                () -> assertThatComputation(() -> List.range(0, 10_000)).allocatesLessThan(1_000)
+        )
+                .isInstanceOf(AssertionError.class)
+                .hasMessageContaining("Expecting computation to allocate less than 1000 bytes per run but it allocated");
+    }
+
+    @Test
+    void should_fail_when_computation_allocates_more_than_budget_per_element() {
+        assertThatThrownBy(
+                () -> assertThatComputation(() -> List.range(0, 10_000).map(i -> new long[16]))
+                        .allocatesPerElementLessThan(64)
+        )
+                .isInstanceOf(AssertionError.class)
+                .hasMessageContaining("Expecting computation to allocate less than 64 bytes per element")
+                .hasMessageContaining("producing 10000 element(s)");
+    }
+
+    @Test
+    void should_fail_when_result_is_not_a_collection() {
+        assertThatThrownBy(
+                () -> assertThatComputation(() -> "frodo").allocatesPerElementLessThan(64)
+        )
+                .isInstanceOf(AssertionError.class)
+                .hasMessageContaining("to be an instance of:");
+    }
+
+    @Test
+    void should_fail_when_computation_is_null() {
+        assertThatThrownBy(
+                () -> assertThatComputation(null).allocatesLessThan(1_000)
+        )
+                .isInstanceOf(AssertionError.class)
+                .hasMessage(actualIsNull());
+    }
+}
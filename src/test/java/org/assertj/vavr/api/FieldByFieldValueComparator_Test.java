@@ -0,0 +1,153 @@
+/*
+ * Copyright 2017-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.vavr.api;
+
+import io.vavr.collection.List;
+import org.assertj.core.api.Assertions;
+import org.assertj.core.internal.TypeComparators;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static java.lang.String.format;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.vavr.api.FieldByFieldValueComparator.fieldByFieldEntryComparator;
+import static org.assertj.vavr.api.FieldByFieldValueComparator.fieldByFieldValueComparator;
+
+class FieldByFieldValueComparator_Test {
+
+    private final Comparator<Object> comparator = fieldByFieldValueComparator();
+
+    @Test
+    void should_consider_values_with_equal_fields_as_equal() {
+        assertThat(comparator.compare(new Ring("Vilya", 3), new Ring("Vilya", 3))).isZero();
+        assertThat(comparator.compare(new Ring("Vilya", 3), new Ring("Nenya", 3))).isNotZero();
+        assertThat(comparator.compare(new Ring("Vilya", 3), new Ring("Vilya", 1))).isNotZero();
+    }
+
+    @Test
+    void should_compare_inherited_fields() {
+        assertThat(comparator.compare(new RingOfPower("Vilya", 3, "air"), new RingOfPower("Vilya", 3, "air"))).isZero();
+        assertThat(comparator.compare(new RingOfPower("Vilya", 3, "air"), new RingOfPower("Vilya", 1, "air"))).isNotZero();
+    }
+
+    @Test
+    void should_never_consider_values_of_different_classes_as_equal() {
+        assertThat(comparator.compare(new Ring("Vilya", 3), new RingOfPower("Vilya", 3, "air"))).isNotZero();
+        assertThat(comparator.compare(null, new Ring("Vilya", 3))).isNegative();
+        assertThat(comparator.compare(new Ring("Vilya", 3), null)).isPositive();
+        assertThat(comparator.compare(null, null)).isZero();
+    }
+
+    @Test
+    void should_compare_JDK_values_with_equals() {
+        assertThat(comparator.compare(BigDecimal.ONE, new BigDecimal("1"))).isZero();
+        assertThat(comparator.compare(BigDecimal.ONE, new BigDecimal("1.0"))).isNotZero();
+    }
+
+    @Test
+    void should_order_unequal_values_consistently() {
+        final List<Ring> rings = List.of(new Ring("Vilya", 3), new Ring("Narya", 1), new Ring("Nenya", 2),
+                new Ring("Narya", 3));
+
+        for (Ring ring : rings) {
+            for (Ring other : rings) {
+                assertThat(Integer.signum(comparator.compare(ring, other)))
+                        .isEqualTo(-Integer.signum(comparator.compare(other, ring)));
+            }
+        }
+        assertThat(rings.sorted(comparator)).isEqualTo(rings.reverse().sorted(comparator));
+    }
+
+    @Test
+    void should_compare_fields_with_comparators_registered_by_name_then_by_type() {
+        final TypeComparators comparatorsByType = new TypeComparators();
+        comparatorsByType.put(Integer.class, (Comparator<Integer>) (bearers, other) -> 0);
+        final Map<String, Comparator<?>> comparatorsByName = new TreeMap<>();
+        comparatorsByName.put("name", String.CASE_INSENSITIVE_ORDER);
+
+        final Comparator<Object> tolerant = fieldByFieldValueComparator(comparatorsByName, comparatorsByType);
+
+        assertThat(tolerant.compare(new Ring("VILYA", 3), new Ring("vilya", 1))).isZero();
+        assertThat(tolerant.compare(new Ring("Vilya", 3), new Ring("Nenya", 3))).isNotZero();
+    }
+
+    @Test
+    void should_describe_itself_like_core_field_by_field_comparator() {
+        final Map<String, Comparator<?>> comparatorsByName = new TreeMap<>();
+        comparatorsByName.put("name", String.CASE_INSENSITIVE_ORDER);
+
+        assertThat(fieldByFieldValueComparator(new TreeMap<>(), new TypeComparators()))
+                .hasToString("field/property by field/property comparator on all fields/properties");
+        assertThat(fieldByFieldValueComparator(comparatorsByName, new TypeComparators()).toString())
+                .startsWith(format("field/property by field/property comparator on all fields/properties%n" +
+                                   "Comparators used:%n" +
+                                   "- for elements fields (by name): {name -> "));
+        assertThat(fieldByFieldEntryComparator().toString())
+                .startsWith("key equals and value field/property by field/property comparator on all fields/properties");
+    }
+
+    @Test
+    void should_not_read_private_fields_if_not_allowed() {
+        Assertions.setAllowExtractingPrivateFields(false);
+        try {
+            final Comparator<Object> publicOnly = fieldByFieldValueComparator();
+
+            // no public getter for the private fields of Ring, so it falls back to Ring's own equals
+            assertThat(publicOnly.compare(new Ring("Vilya", 3), new Ring("Vilya", 3))).isNotZero();
+            assertThat(publicOnly.compare(new Gem("sapphire"), new Gem("sapphire"))).isZero();
+        } finally {
+            Assertions.setAllowExtractingPrivateFields(true);
+        }
+    }
+
+    private static class Ring {
+
+        private final String name;
+        private final int bearers;
+
+        Ring(String name, int bearers) {
+            this.name = name;
+            this.bearers = bearers;
+        }
+    }
+
+    private static class RingOfPower extends Ring {
+
+        private final String element;
+
+        RingOfPower(String name, int bearers, String element) {
+            super(name, bearers);
+            this.element = element;
+        }
+    }
+
+    public static class Gem {
+
+        private final String kind;
+
+        Gem(String kind) {
+            this.kind = kind;
+        }
+
+        public String getKind() {
+            return kind;
+        }
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright 2017-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.vavr.api;
+
+import io.vavr.concurrent.Future;
+import io.vavr.concurrent.Promise;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.error.ShouldNotBeNull.shouldNotBeNull;
+import static org.assertj.vavr.api.FutureShouldFailWithin.shouldFailWithin;
+import static org.assertj.vavr.api.VavrAssertions.assertThat;
+
+class FutureAssert_failsWithin_Test {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(5);
+
+    @Test
+    void should_pass_if_Future_fails_within_timeout() {
+        final Future<String> actual = Future.of(() -> {
+            Thread.sleep(50);
+            throw new IllegalStateException("lost");
+        });
+
+        assertThat(actual).failsWithin(TIMEOUT)
+                          .failBecauseOf(IllegalStateException.class)
+                          .failReasonHasMessage("lost");
+    }
+
+    @Test
+    void should_fail_when_Future_is_null() {
+        assertThatThrownBy(
+                () -> assertThat((Future<String>) null).failsWithin(TIMEOUT)
+        )
+                .isInstanceOf(AssertionError.class)
+                .hasMessage(shouldNotBeNull().create());
+    }
+
+    @Test
+    void should_fail_if_Future_is_not_completed_within_timeout() {
+        final Future<String> actual = Promise.<String>make().future();
+        final Duration timeout = Duration.ofMillis(10);
+
+        assertThatThrownBy(
+                () -> assertThat(actual).failsWithin(timeout)
+        )
+                .isInstanceOf(AssertionError.class)
+                .hasMessage(shouldFailWithin(actual, timeout).create());
+    }
+
+    @Test
+    void should_fail_if_Future_succeeds() {
+        final Future<String> actual = Future.successful("ring");
+
+        assertThatThrownBy(
+                () -> assertThat(actual).failsWithin(TIMEOUT)
+        )
+                .isInstanceOf(AssertionError.class)
+                .hasMessage(shouldFailWithin(actual, TIMEOUT, "ring").create());
+    }
+}
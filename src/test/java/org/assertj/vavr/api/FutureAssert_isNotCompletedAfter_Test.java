@@ -0,0 +1,74 @@
+/*
+ * Copyright 2017-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.vavr.api;
+
+import io.vavr.concurrent.Future;
+import io.vavr.concurrent.Promise;
+import io.vavr.control.Try;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.error.ShouldNotBeNull.shouldNotBeNull;
+import static org.assertj.vavr.api.FutureShouldNotBeCompletedAfter.shouldNotBeCompletedAfter;
+import static org.assertj.vavr.api.VavrAssertions.assertThat;
+
+class FutureAssert_isNotCompletedAfter_Test {
+
+    private static final Duration DURATION = Duration.ofMillis(20);
+
+    @Test
+    void should_pass_if_Future_stays_pending() {
+        assertThat(Promise.<String>make().future()).isNotCompletedAfter(DURATION);
+    }
+
+    @Test
+    void should_fail_when_Future_is_null() {
+        assertThatThrownBy(
+                () -> assertThat((Future<String>) null).isNotCompletedAfter(DURATION)
+        )
+                .isInstanceOf(AssertionError.class)
+                .hasMessage(shouldNotBeNull().create());
+    }
+
+    @Test
+    void should_fail_if_Future_is_completed() {
+        final Future<String> actual = Future.successful("ring");
+
+        assertThatThrownBy(
+                () -> assertThat(actual).isNotCompletedAfter(DURATION)
+        )
+                .isInstanceOf(AssertionError.class)
+                .hasMessage(shouldNotBeCompletedAfter(actual, DURATION, Try.success("ring")).create());
+    }
+
+    @Test
+    void should_throw_instead_of_passing_if_interrupted_while_waiting() {
+        Thread.currentThread().interrupt();
+        try {
+            assertThatThrownBy(
+                    () -> assertThat(Promise.<String>make().future()).isNotCompletedAfter(DURATION)
+            )
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasCauseInstanceOf(InterruptedException.class);
+            assertThat(Thread.currentThread().isInterrupted()).isTrue();
+        } finally {
+            Thread.interrupted();
+        }
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright 2017-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.vavr.api;
+
+import io.vavr.concurrent.Future;
+import io.vavr.concurrent.Promise;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.error.ShouldNotBeNull.shouldNotBeNull;
+import static org.assertj.vavr.api.FutureShouldSucceedWithin.shouldSucceedWithin;
+import static org.assertj.vavr.api.VavrAssertions.assertThat;
+
+class FutureAssert_succeedsWithin_Test {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(5);
+
+    @Test
+    void should_pass_if_Future_is_already_successful() {
+        assertThat(Future.successful("ring")).succeedsWithin(TIMEOUT);
+    }
+
+    @Test
+    void should_pass_if_Future_succeeds_within_timeout() {
+        final Future<String> actual = Future.of(() -> {
+            Thread.sleep(50);
+            return "ring";
+        });
+
+        assertThat(actual).succeedsWithin(TIMEOUT).contains("ring");
+    }
+
+    @Test
+    void should_pass_if_pending_Future_is_completed_later() {
+        final Promise<Integer> promise = Promise.make();
+        final Future<Integer> actual = promise.future().map(value -> value * 2);
+        Future.run(() -> {
+            Thread.sleep(50);
+            promise.success(21);
+        });
+
+        assertThat(actual).succeedsWithin(TIMEOUT).contains(42);
+    }
+
+    @Test
+    void should_fail_when_Future_is_null() {
+        assertThatThrownBy(
+                () -> assertThat((Future<String>) null).succeedsWithin(TIMEOUT)
+        )
+                .isInstanceOf(AssertionError.class)
+                .hasMessage(shouldNotBeNull().create());
+    }
+
+    @Test
+    void should_fail_if_timeout_is_null() {
+        assertThatThrownBy(
+                () -> assertThat(Promise.make().future()).succeedsWithin(null)
+        )
+                .isInstanceOf(NullPointerException.class)
+                .hasMessage("The timeout should not be null");
+    }
+
+    @Test
+    void should_fail_if_Future_is_not_completed_within_timeout() {
+        final Future<String> actual = Promise.<String>make().future();
+        final Duration timeout = Duration.ofMillis(10);
+
+        assertThatThrownBy(
+                () -> assertThat(actual).succeedsWithin(timeout)
+        )
+                .isInstanceOf(AssertionError.class)
+                .hasMessage(shouldSucceedWithin(actual, timeout).create());
+    }
+
+    @Test
+    void should_fail_if_Future_fails() {
+        final IllegalStateException cause = new IllegalStateException("lost");
+        final Future<String> actual = Future.failed(cause);
+
+        assertThatThrownBy(
+                () -> assertThat(actual).succeedsWithin(TIMEOUT)
+        )
+                .isInstanceOf(AssertionError.class)
+                .hasMessage(shouldSucceedWithin(actual, TIMEOUT, cause).create());
+    }
+}
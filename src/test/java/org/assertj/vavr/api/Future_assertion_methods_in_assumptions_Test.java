@@ -0,0 +1,47 @@
+/*
+ * Copyright 2017-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.vavr.api;
+
+import io.vavr.concurrent.Future;
+import io.vavr.concurrent.Promise;
+
+import java.time.Duration;
+import java.util.stream.Stream;
+
+import static org.assertj.vavr.api.BaseAssumptionRunner.assumptionRunner;
+import static org.assertj.vavr.api.VavrAssumptions.assumeThat;
+
+public class Future_assertion_methods_in_assumptions_Test extends BaseAssumptionsTest {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(1);
+
+    public static Stream<AssumptionRunner<?>> provideAssumptionsRunners() {
+        return Stream.of(
+                assumptionRunner(Future.successful("ring"),
+                        value -> assumeThat(value).succeedsWithin(TIMEOUT),
+                        value -> assumeThat(value).failsWithin(TIMEOUT)),
+                assumptionRunner(Future.successful("ring"),
+                        value -> assumeThat(value).succeedsWithin(TIMEOUT).contains("ring"),
+                        value -> assumeThat(value).succeedsWithin(TIMEOUT).contains("sword")),
+                assumptionRunner(Future.<String>failed(new IllegalStateException("lost")),
+                        value -> assumeThat(value).failsWithin(TIMEOUT),
+                        value -> assumeThat(value).succeedsWithin(TIMEOUT)),
+                assumptionRunner(Promise.<String>make().future(),
+                        value -> assumeThat(value).isNotCompletedAfter(Duration.ofMillis(10)),
+                        value -> assumeThat(value).succeedsWithin(Duration.ofMillis(10)))
+        );
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright 2017-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.vavr.api;
+
+import io.vavr.collection.Iterator;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.error.ShouldNotBeNull.shouldNotBeNull;
+import static org.assertj.vavr.api.StreamShouldContainWithinFirst.shouldContainWithinFirst;
+import static org.assertj.vavr.api.StreamShouldStartWith.shouldStartWith;
+import static org.assertj.vavr.api.VavrAssertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class IteratorAssert_bounded_Test {
+
+    @Test
+    void should_pass_if_infinite_Iterator_starts_with_sequence() {
+        final Iterator<Integer> actual = Iterator.from(1);
+
+        assertThat(actual).startsWith(1, 2, 3);
+        assertThat(actual.next()).isEqualTo(4);
+    }
+
+    @Test
+    void should_consume_only_until_all_values_are_found() {
+        final Iterator<Integer> actual = Iterator.from(1);
+
+        assertThat(actual).containsWithinFirst(1_000_000, 3, 2);
+        assertThat(actual.next()).isEqualTo(4);
+    }
+
+    @Test
+    void should_pass_if_first_elements_satisfy_requirements() {
+        final Iterator<Integer> actual = Iterator.from(0, 2);
+
+        assertThat(actual).allSatisfyInFirst(10, even -> assertThat(even % 2).isZero());
+        assertThat(actual.next()).isEqualTo(20);
+    }
+
+    @Test
+    void should_fail_when_Iterator_is_null() {
+        assertThatThrownBy(
+                () -> assertThat((Iterator<Integer>) null).startsWith(1)
+        )
+                .isInstanceOf(AssertionError.class)
+                .hasMessage(shouldNotBeNull().create());
+    }
+
+    @Test
+    void should_fail_if_Iterator_does_not_start_with_sequence() {
+        final Iterator<Integer> actual = Iterator.from(1);
+
+        assertThatThrownBy(
+                () -> assertThat(actual).startsWith(1, 5)
+        )
+                .isInstanceOf(AssertionError.class)
+                .hasMessage(shouldStartWith(actual, new Integer[]{1, 5}, 1, 2, 2).create());
+    }
+
+    @Test
+    void should_fail_if_values_are_not_within_first_elements() {
+        final Iterator<Integer> actual = Iterator.from(1);
+
+        assertThatThrownBy(
+                () -> assertThat(actual).containsWithinFirst(3, 2, 7)
+        )
+                .isInstanceOf(AssertionError.class)
+                .hasMessage(shouldContainWithinFirst(actual, 3, new Integer[]{2, 7}, Arrays.asList(7), 3).create());
+        assertThat(actual.next()).isEqualTo(4);
+    }
+}
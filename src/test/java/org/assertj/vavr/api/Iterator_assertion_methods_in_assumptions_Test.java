@@ -0,0 +1,46 @@
+/*
+ * Copyright 2017-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.vavr.api;
+
+import io.vavr.collection.Iterator;
+
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.vavr.api.BaseAssumptionRunner.assumptionRunner;
+import static org.assertj.vavr.api.VavrAssumptions.assumeThat;
+
+public class Iterator_assertion_methods_in_assumptions_Test extends BaseAssumptionsTest {
+
+    // an Iterator is consumed by the assumption, so each run gets a new one
+    private static final Supplier<Iterator<Integer>> NATURALS = () -> Iterator.from(1);
+
+    public static java.util.stream.Stream<AssumptionRunner<?>> provideAssumptionsRunners() {
+        return java.util.stream.Stream.of(
+                assumptionRunner(NATURALS,
+                        naturals -> assumeThat(naturals.get()).startsWith(1, 2, 3),
+                        naturals -> assumeThat(naturals.get()).startsWith(2, 3)),
+                assumptionRunner(NATURALS,
+                        naturals -> assumeThat(naturals.get()).containsWithinFirst(10, 4, 9),
+                        naturals -> assumeThat(naturals.get()).containsWithinFirst(3, 4, 9)),
+                assumptionRunner(NATURALS,
+                        naturals -> assumeThat(naturals.get())
+                                .allSatisfyInFirst(5, natural -> assertThat(natural).isLessThan(6)),
+                        naturals -> assumeThat(naturals.get())
+                                .allSatisfyInFirst(5, natural -> assertThat(natural).isLessThan(5)))
+        );
+    }
+}
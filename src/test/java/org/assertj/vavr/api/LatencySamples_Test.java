@@ -0,0 +1,67 @@
+/*
+ * Copyright 2017-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.vavr.api;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LatencySamples_Test {
+
+    private final LatencySamples latencies = new LatencySamples(new long[]{70, 10, 100, 40, 20, 90, 30, 60, 50, 80});
+
+    @Test
+    void should_compute_percentiles_with_the_nearest_rank_method() {
+        assertThat(latencies.percentile(100)).isEqualTo(Duration.ofNanos(100));
+        assertThat(latencies.percentile(99)).isEqualTo(Duration.ofNanos(100));
+        assertThat(latencies.percentile(90)).isEqualTo(Duration.ofNanos(90));
+        assertThat(latencies.percentile(50)).isEqualTo(Duration.ofNanos(50));
+        assertThat(latencies.percentile(25)).isEqualTo(Duration.ofNanos(30));
+        assertThat(latencies.percentile(0.1)).isEqualTo(Duration.ofNanos(10));
+    }
+
+    @Test
+    void should_describe_the_samples() {
+        assertThat(latencies.runs()).isEqualTo(10);
+        assertThat(latencies.min()).isEqualTo(Duration.ofNanos(10));
+        assertThat(latencies.max()).isEqualTo(Duration.ofNanos(100));
+    }
+
+    @Test
+    void should_compute_every_percentile_of_a_single_sample() {
+        final LatencySamples single = new LatencySamples(new long[]{42});
+
+        assertThat(single.percentile(1)).isEqualTo(Duration.ofNanos(42));
+        assertThat(single.percentile(100)).isEqualTo(Duration.ofNanos(42));
+    }
+
+    @Test
+    void should_not_sort_the_given_samples_in_place() {
+        final long[] nanos = {3, 1, 2};
+
+        new LatencySamples(nanos);
+
+        assertThat(nanos).containsExactly(3, 1, 2);
+    }
+
+    @Test
+    void should_describe_percentiles() {
+        assertThat(LatencySamples.describe(99)).isEqualTo("p99");
+        assertThat(LatencySamples.describe(99.9)).isEqualTo("p99.9");
+    }
+}
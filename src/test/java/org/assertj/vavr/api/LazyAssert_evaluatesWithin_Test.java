@@ -0,0 +1,123 @@
+/*
+ * Copyright 2017-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.vavr.api;
+
+import io.vavr.Lazy;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.util.FailureMessages.actualIsNull;
+import static org.assertj.vavr.api.LazyShouldBeNotEvaluated.shouldBeNotEvaluated;
+import static org.assertj.vavr.api.LazyShouldEvaluateWithin.shouldEvaluateWithin;
+import static org.assertj.vavr.api.VavrAssertions.assertThat;
+
+class LazyAssert_evaluatesWithin_Test {
+
+    // a fake clock, advanced by the evaluated values
+    private final AtomicLong clock = new AtomicLong();
+
+    @Test
+    void should_pass_and_chain_on_result_when_Lazy_evaluates_within_budget() {
+        Lazy<String> lazy = Lazy.of(() -> "ring");
+
+        assertThat(lazy).evaluatesWithin(Duration.ofSeconds(10))
+                        .contains("ring");
+        assertThat(lazy).isEvaluated();
+    }
+
+    @Test
+    void should_chain_on_failure_of_evaluation() {
+        Lazy<String> lazy = Lazy.of(() -> {
+            throw new IllegalStateException("lost");
+        });
+
+        assertThat(lazy).evaluatesWithin(Duration.ofSeconds(10))
+                        .failBecauseOf(IllegalStateException.class);
+    }
+
+    @Test
+    void should_fail_when_evaluation_exceeds_budget() {
+        Lazy<String> lazy = Lazy.of(() -> {
+            clock.addAndGet(Duration.ofMillis(50).toNanos());
+            return "ring";
+        });
+
+        assertThatThrownBy(
+                () -> new LazyAssert<>(lazy, clock::get).evaluatesWithin(Duration.ofMillis(1))
+        )
+                .isInstanceOf(AssertionError.class)
+                .hasMessage(shouldEvaluateWithin(Duration.ofMillis(1), Duration.ofMillis(50)).create());
+    }
+
+    @Test
+    void should_pass_when_evaluation_takes_exactly_the_budget() {
+        Lazy<String> lazy = Lazy.of(() -> {
+            clock.addAndGet(Duration.ofMillis(50).toNanos());
+            return "ring";
+        });
+
+        new LazyAssert<>(lazy, clock::get).evaluatesWithin(Duration.ofMillis(50))
+                                          .contains("ring");
+    }
+
+    @Tag("timing")
+    @Test
+    void should_fail_when_evaluation_exceeds_budget_on_the_system_clock() {
+        Lazy<String> lazy = Lazy.of(() -> {
+            sleep(50);
+            return "ring";
+        });
+
+        assertThatThrownBy(
+                () -> assertThat(lazy).evaluatesWithin(Duration.ofMillis(1))
+        )
+                .isInstanceOf(AssertionError.class)
+                .hasMessageStartingWith(String.format("%nExpecting Lazy to be evaluated within PT0.001S but it took"));
+    }
+
+    @Test
+    void should_fail_when_Lazy_is_already_evaluated() {
+        Lazy<String> lazy = Lazy.of(() -> "ring");
+        lazy.get();
+
+        assertThatThrownBy(
+                () -> assertThat(lazy).evaluatesWithin(Duration.ofSeconds(10))
+        )
+                .isInstanceOf(AssertionError.class)
+                .hasMessage(shouldBeNotEvaluated(lazy).create());
+    }
+
+    @Test
+    void should_fail_when_Lazy_is_null() {
+        assertThatThrownBy(
+                () -> assertThat((Lazy<String>) null).evaluatesWithin(Duration.ofSeconds(10))
+        )
+                .isInstanceOf(AssertionError.class)
+                .hasMessage(actualIsNull());
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright 2017-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.vavr.api;
+
+import io.vavr.Tuple;
+import io.vavr.collection.HashMap;
+import io.vavr.collection.LinkedHashMap;
+import io.vavr.collection.List;
+import io.vavr.collection.Map;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.BiConsumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.error.ShouldNotBeNull.shouldNotBeNull;
+import static org.assertj.vavr.api.TraversableShouldAllSatisfy.shouldAllSatisfy;
+import static org.assertj.vavr.api.VavrAssertions.assertThat;
+
+class MapAssert_allSatisfyInParallel_Test {
+
+    private static final BiConsumer<String, Integer> EMPTY_CONSUMER = (key, value) -> {
+    };
+
+    private static final BiConsumer<String, Integer> ODD_VALUES = (key, value) -> {
+        if (value % 2 == 0) throw new AssertionError(key + " is even");
+    };
+
+    @Test
+    void should_pass_if_Map_is_empty() {
+        assertThat(HashMap.<String, Integer>empty()).allSatisfyInParallel(EMPTY_CONSUMER);
+    }
+
+    @Test
+    void should_pass_if_all_Map_entries_satisfy_consumer() {
+        final Map<String, Integer> actual = HashMap.ofEntries(List.range(0, 10_000)
+                .map(i -> Tuple.of("key" + i, 2 * i + 1)));
+
+        assertThat(actual).allSatisfyInParallel(ODD_VALUES);
+    }
+
+    @Test
+    void should_fail_if_consumer_is_null() {
+        assertThatThrownBy(
+                () -> assertThat(HashMap.<String, Integer>empty()).allSatisfyInParallel(null)
+        )
+                .isInstanceOf(NullPointerException.class)
+                .hasMessage("The BiConsumer<K, V> expressing the assertions requirements must not be null");
+    }
+
+    @Test
+    void should_fail_when_Map_is_null() {
+        assertThatThrownBy(
+                () -> assertThat((Map<String, Integer>) null).allSatisfyInParallel(EMPTY_CONSUMER)
+        )
+                .isInstanceOf(AssertionError.class)
+                .hasMessage(shouldNotBeNull().create());
+    }
+
+    @Test
+    void should_report_every_failing_entry_in_iteration_order() {
+        final Map<String, Integer> actual = LinkedHashMap.of("one", 1, "two", 2, "three", 3, "four", 4);
+
+        assertThatThrownBy(
+                () -> assertThat(actual).allSatisfyInParallel(ODD_VALUES)
+        )
+                .isInstanceOf(AssertionError.class)
+                .hasMessage(shouldAllSatisfy(actual.size(), Arrays.asList(
+                        new UnsatisfiedRequirement(1, Tuple.of("two", 2), "two is even"),
+                        new UnsatisfiedRequirement(3, Tuple.of("four", 4), "four is even")
+                )).create());
+    }
+
+    @Test
+    void should_run_requirements_on_given_executor() {
+        final ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            final Map<String, Integer> actual = LinkedHashMap.of("one", 1, "three", 3);
+
+            assertThat(actual).allSatisfyInParallel(
+                    (key, value) -> assertThat(Thread.currentThread().getName()).startsWith("pool-"),
+                    executor);
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
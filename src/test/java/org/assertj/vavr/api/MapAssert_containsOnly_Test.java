@@ -19,9 +19,11 @@ import io.vavr.Tuple2;
 import io.vavr.collection.HashMap;
 import io.vavr.collection.List;
 import io.vavr.collection.Map;
+import io.vavr.collection.TreeMap;
 import org.junit.jupiter.api.Test;
 
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.error.ShouldContainOnly.shouldContainOnly;
 import static org.assertj.core.error.ShouldNotBeNull.shouldNotBeNull;
 import static org.assertj.vavr.api.VavrAssertions.assertThat;
 
@@ -34,6 +36,13 @@ class MapAssert_containsOnly_Test {
     assertThat(actual).containsOnly(List.of(Map.entry("key", "value")));
   }
 
+  @Test
+  void should_pass_if_Map_contains_comparator_equal_keys() {
+    final Map<String, String> actual = TreeMap.of(String.CASE_INSENSITIVE_ORDER, "key", "value");
+
+    assertThat(actual).containsOnly(List.of(Map.entry("KEY", "value")));
+  }
+
   @Test
   void should_fail_when_Map_is_null() {
     assertThatThrownBy(
@@ -116,4 +125,42 @@ class MapAssert_containsOnly_Test {
                 "  HashMap((key-2, value-2))\n"
         );
   }
+
+  @Test
+  void should_fail_if_Map_contains_given_keys_with_different_values() {
+    final Map<String, String> actual = HashMap.of("key-1", "value-1", "key-2", "value-2");
+    final Map<String, String> expected = HashMap.of("key-1", "value-1", "key-2", "other");
+
+    assertThatThrownBy(
+        () -> assertThat(actual).containsOnly(expected)
+    )
+        .isInstanceOf(AssertionError.class)
+        .hasMessage(shouldContainOnly(actual, expected, HashMap.of("key-2", "other"), HashMap.of("key-2", "value-2")).create());
+  }
+
+  @Test
+  void should_fail_if_the_last_given_entry_of_a_key_has_a_different_value() {
+    final Map<String, String> actual = HashMap.of("key", "value");
+    final List<Tuple2<String, String>> entries = List.of(Map.entry("key", "value"), Map.entry("key", "other"));
+    final Map<String, String> expected = HashMap.ofEntries(entries);
+
+    assertThatThrownBy(
+        () -> assertThat(actual).containsOnly(entries)
+    )
+        .isInstanceOf(AssertionError.class)
+        .hasMessage(shouldContainOnly(actual, expected, HashMap.of("key", "other"), HashMap.of("key", "value")).create());
+  }
+
+  @Test
+  void should_fail_if_given_entries_repeat_a_key_and_miss_another_one() {
+    final Map<String, String> actual = HashMap.of("key-1", "value-1", "key-2", "value-2");
+    final List<Tuple2<String, String>> entries = List.of(Map.entry("key-1", "value-1"), Map.entry("key-1", "value-1"));
+    final Map<String, String> expected = HashMap.ofEntries(entries);
+
+    assertThatThrownBy(
+        () -> assertThat(actual).containsOnly(entries)
+    )
+        .isInstanceOf(AssertionError.class)
+        .hasMessage(shouldContainOnly(actual, expected, HashMap.empty(), HashMap.of("key-2", "value-2")).create());
+  }
 }
@@ -15,7 +15,9 @@
  */
 package org.assertj.vavr.api;
 
+import io.vavr.Tuple;
 import io.vavr.collection.HashMap;
+import io.vavr.collection.List;
 import io.vavr.collection.Map;
 import org.junit.jupiter.api.Test;
 
@@ -68,4 +70,12 @@ class MapAssert_containsValues_Test {
                 "  \"value-3\""
         );
   }
+
+  @Test
+  void should_pass_if_large_Map_contains_given_values() {
+    final Map<Integer, Integer> actual = HashMap.ofEntries(List.range(0, 1_000_000).map(i -> Tuple.of(i, i % 50_000)));
+    final Integer[] values = List.range(0, 50_000).toJavaArray(Integer[]::new);
+
+    assertThat(actual).containsValues(values).doesNotContainValues(-1, 50_000);
+  }
 }
@@ -0,0 +1,160 @@
+/*
+ * Copyright 2017-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.vavr.api;
+
+import io.vavr.Tuple;
+import io.vavr.Tuple2;
+import io.vavr.collection.HashMap;
+import io.vavr.collection.List;
+import io.vavr.collection.Map;
+import io.vavr.collection.SortedMap;
+import io.vavr.collection.TreeMap;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.Comparator;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.error.ShouldBeInstance.shouldBeInstance;
+import static org.assertj.core.error.ShouldNotBeEmpty.shouldNotBeEmpty;
+import static org.assertj.core.util.FailureMessages.actualIsNull;
+import static org.assertj.vavr.api.SortedMapShouldHaveFloorEntry.shouldHaveFloorEntry;
+import static org.assertj.vavr.api.SortedMapShouldHaveFloorEntry.shouldHaveFloorEntryButNoneFound;
+import static org.assertj.vavr.api.SortedShouldHaveBoundary.shouldHaveMaxKey;
+import static org.assertj.vavr.api.SortedShouldHaveBoundary.shouldHaveMinKey;
+import static org.assertj.vavr.api.SortedShouldHaveInRange.shouldContainRange;
+import static org.assertj.vavr.api.SortedShouldHaveInRange.shouldHaveAllBetween;
+import static org.assertj.vavr.api.SortedShouldHaveInRange.shouldHaveNoneBetween;
+import static org.assertj.vavr.api.VavrAssertions.assertThat;
+
+@SuppressWarnings("unchecked")
+class MapAssert_sortedRange_Test {
+
+    private static final SortedMap<Integer, String> ACTUAL = TreeMap.of(10, "ten", 20, "twenty", 30, "thirty", 40, "forty");
+
+    @Test
+    void should_pass_if_SortedMap_matches_range_assertions() {
+        assertThat(ACTUAL).hasMinKey(10)
+                .hasMaxKey(40)
+                .hasAllKeysBetween(10, 40)
+                .hasNoKeysBetween(21, 29)
+                .hasNoKeysBetween(41, 50)
+                .containsRange(15, 30, Tuple.of(20, "twenty"), Tuple.of(30, "thirty"))
+                .containsRange(41, 50)
+                .hasFloorEntry(25, Tuple.of(20, "twenty"))
+                .hasFloorEntry(30, Tuple.of(30, "thirty"))
+                .hasFloorEntry(100, Tuple.of(40, "forty"));
+    }
+
+    @Test
+    void should_use_comparator_of_SortedMap() {
+        final SortedMap<Integer, String> actual = TreeMap.of(Comparator.reverseOrder(), 1, "one", 2, "two", 3, "three");
+
+        assertThat(actual).hasMinKey(3)
+                .hasMaxKey(1)
+                .hasAllKeysBetween(3, 1)
+                .containsRange(2, 1, Tuple.of(2, "two"), Tuple.of(1, "one"))
+                .hasFloorEntry(0, Tuple.of(1, "one"));
+    }
+
+    @Test
+    void should_fail_if_min_or_max_key_differs() {
+        assertThatThrownBy(() -> assertThat(ACTUAL).hasMinKey(20))
+                .isInstanceOf(AssertionError.class)
+                .hasMessage(shouldHaveMinKey(ACTUAL, 20, 10).create());
+        assertThatThrownBy(() -> assertThat(ACTUAL).hasMaxKey(30))
+                .isInstanceOf(AssertionError.class)
+                .hasMessage(shouldHaveMaxKey(ACTUAL, 30, 40).create());
+    }
+
+    @Test
+    void should_fail_if_SortedMap_is_empty() {
+        assertThatThrownBy(() -> assertThat(TreeMap.<Integer, String>empty()).hasMinKey(10))
+                .isInstanceOf(AssertionError.class)
+                .hasMessage(shouldNotBeEmpty().create());
+    }
+
+    @Test
+    void should_fail_if_keys_are_not_all_between_bounds() {
+        assertThatThrownBy(() -> assertThat(ACTUAL).hasAllKeysBetween(15, 35))
+                .isInstanceOf(AssertionError.class)
+                .hasMessage(shouldHaveAllBetween(ACTUAL, "keys", 15, 35,
+                        List.of(Tuple.of(10, "ten"), Tuple.of(40, "forty")).toJavaList()).create());
+    }
+
+    @Test
+    void should_fail_if_keys_are_between_bounds() {
+        assertThatThrownBy(() -> assertThat(ACTUAL).hasNoKeysBetween(15, 25))
+                .isInstanceOf(AssertionError.class)
+                .hasMessage(shouldHaveNoneBetween(ACTUAL, "keys", 15, 25,
+                        Collections.singletonList(Tuple.of(20, "twenty"))).create());
+    }
+
+    @Test
+    void should_fail_if_range_does_not_contain_exactly_given_entries() {
+        final Tuple2<Integer, String>[] entries = new Tuple2[]{Tuple.of(20, "twenty")};
+
+        assertThatThrownBy(() -> assertThat(ACTUAL).containsRange(15, 30, entries))
+                .isInstanceOf(AssertionError.class)
+                .hasMessage(shouldContainRange(ACTUAL, 15, 30, entries,
+                        List.of(Tuple.of(20, "twenty"), Tuple.of(30, "thirty")).toJavaList()).create());
+    }
+
+    @Test
+    void should_fail_if_floor_entry_differs() {
+        assertThatThrownBy(() -> assertThat(ACTUAL).hasFloorEntry(25, Tuple.of(30, "thirty")))
+                .isInstanceOf(AssertionError.class)
+                .hasMessage(shouldHaveFloorEntry(ACTUAL, 25, Tuple.of(30, "thirty"), Tuple.of(20, "twenty")).create());
+        assertThatThrownBy(() -> assertThat(ACTUAL).hasFloorEntry(5, Tuple.of(10, "ten")))
+                .isInstanceOf(AssertionError.class)
+                .hasMessage(shouldHaveFloorEntryButNoneFound(ACTUAL, 5, Tuple.of(10, "ten")).create());
+    }
+
+    @Test
+    void should_fail_if_bounds_are_reversed() {
+        assertThatThrownBy(() -> assertThat(ACTUAL).hasNoKeysBetween(30, 20))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("The lower bound 30 should not be greater than the upper bound 20");
+    }
+
+    @Test
+    void should_fail_if_Map_is_not_sorted() {
+        final Map<Integer, String> actual = HashMap.of(10, "ten");
+
+        assertThatThrownBy(() -> assertThat(actual).hasMinKey(10))
+                .isInstanceOf(AssertionError.class)
+                .hasMessage(shouldBeInstance(actual, SortedMap.class).create());
+    }
+
+    @Test
+    void should_fail_when_Map_is_null() {
+        assertThatThrownBy(() -> assertThat((Map<Integer, String>) null).hasMaxKey(10))
+                .isInstanceOf(AssertionError.class)
+                .hasMessage(actualIsNull());
+    }
+
+    @Test
+    void should_read_window_of_large_SortedMap() {
+        final SortedMap<Integer, Integer> actual = TreeMap.ofEntries(List.range(0, 1_000_000).map(i -> Tuple.of(i * 2, i)));
+
+        assertThat(actual).hasMinKey(0)
+                .hasMaxKey(1_999_998)
+                .hasAllKeysBetween(0, 2_000_000)
+                .hasNoKeysBetween(2_000_000, 3_000_000)
+                .containsRange(11, 15, Tuple.of(12, 6), Tuple.of(14, 7))
+                .hasFloorEntry(5_000_000, Tuple.of(1_999_998, 999_999));
+    }
+}
@@ -0,0 +1,131 @@
+/*
+ * Copyright 2017-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.vavr.api;
+
+import io.vavr.Tuple;
+import io.vavr.Tuple2;
+import io.vavr.collection.HashMap;
+import io.vavr.collection.LinkedHashMap;
+import io.vavr.collection.List;
+import io.vavr.collection.Map;
+import org.assertj.core.internal.ComparatorBasedComparisonStrategy;
+import org.junit.jupiter.api.Test;
+
+import java.util.Comparator;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.error.ShouldContain.shouldContain;
+import static org.assertj.core.error.ShouldContainExactly.elementsDifferAtIndex;
+import static org.assertj.core.error.ShouldContainExactly.shouldContainExactly;
+import static org.assertj.core.error.ShouldContainOnly.shouldContainOnly;
+import static org.assertj.vavr.api.VavrAssertions.assertThat;
+
+@SuppressWarnings("unchecked")
+class MapAssert_usingElementComparator_Test {
+
+    private static final Comparator<Tuple2<? extends String, ? extends Double>> TOLERANT_COMPARATOR = (first, second) -> {
+        final int byKey = first._1.compareTo(second._1);
+        if (byKey != 0) return byKey;
+        return Math.abs(first._2 - second._2) <= 0.01 ? 0 : Double.compare(first._2, second._2);
+    };
+    private static final ComparatorBasedComparisonStrategy TOLERANT_STRATEGY =
+            new ComparatorBasedComparisonStrategy(TOLERANT_COMPARATOR);
+
+    private static final Map<String, Double> ACTUAL = LinkedHashMap.of("a", 1.0, "b", 2.0);
+
+    @Test
+    void should_pass_if_Map_contains_entries_according_to_comparator() {
+        assertThat(ACTUAL).usingElementComparator(TOLERANT_COMPARATOR)
+                .contains(Tuple.of("b", 2.001), Tuple.of("a", 0.999))
+                .containsEntry("a", 1.005)
+                .containsAllEntriesOf(List.of(Tuple.of("b", 1.995)));
+    }
+
+    @Test
+    void should_fail_if_Map_does_not_contain_entries_according_to_comparator() {
+        final Tuple2<String, Double>[] entries = new Tuple2[]{Tuple.of("a", 1.001), Tuple.of("b", 2.5)};
+
+        assertThatThrownBy(
+                () -> assertThat(ACTUAL).usingElementComparator(TOLERANT_COMPARATOR).contains(entries)
+        )
+                .isInstanceOf(AssertionError.class)
+                .hasMessage(shouldContain(ACTUAL, entries, List.of(Tuple.of("b", 2.5)), TOLERANT_STRATEGY).create());
+    }
+
+    @Test
+    void should_pass_if_Map_contains_only_entries_according_to_comparator() {
+        assertThat(ACTUAL).usingElementComparator(TOLERANT_COMPARATOR)
+                .containsOnly(List.of(Tuple.of("b", 2.001), Tuple.of("a", 0.999)));
+    }
+
+    @Test
+    void should_fail_if_Map_does_not_contain_only_entries_according_to_comparator() {
+        final List<Tuple2<String, Double>> entries = List.of(Tuple.of("a", 1.001), Tuple.of("c", 3.0));
+
+        assertThatThrownBy(
+                () -> assertThat(ACTUAL).usingElementComparator(TOLERANT_COMPARATOR).containsOnly(entries)
+        )
+                .isInstanceOf(AssertionError.class)
+                .hasMessage(shouldContainOnly(ACTUAL, entries, List.of(Tuple.of("c", 3.0)), List.of(Tuple.of("b", 2.0)),
+                        TOLERANT_STRATEGY).create());
+    }
+
+    @Test
+    void should_pass_if_Map_contains_exactly_entries_according_to_comparator() {
+        assertThat(ACTUAL).usingElementComparator(TOLERANT_COMPARATOR)
+                .containsExactly(Tuple.of("a", 0.999), Tuple.of("b", 2.001));
+    }
+
+    @Test
+    void should_fail_if_Map_contains_entries_in_different_order_according_to_comparator() {
+        assertThatThrownBy(
+                () -> assertThat(ACTUAL).usingElementComparator(TOLERANT_COMPARATOR)
+                        .containsExactly(Tuple.of("b", 2.001), Tuple.of("a", 0.999))
+        )
+                .isInstanceOf(AssertionError.class)
+                .hasMessage(elementsDifferAtIndex(Tuple.of("a", 1.0), Tuple.of("b", 2.001), 0, TOLERANT_STRATEGY).create());
+    }
+
+    @Test
+    void should_fail_if_Map_does_not_contain_exactly_entries_according_to_comparator() {
+        final Tuple2<String, Double>[] entries = new Tuple2[]{Tuple.of("a", 1.001), Tuple.of("b", 2.5)};
+
+        assertThatThrownBy(
+                () -> assertThat(ACTUAL).usingElementComparator(TOLERANT_COMPARATOR).containsExactly(entries)
+        )
+                .isInstanceOf(AssertionError.class)
+                .hasMessage(shouldContainExactly(ACTUAL, List.of(entries), List.of(Tuple.of("b", 2.5)),
+                        List.of(Tuple.of("b", 2.0)), TOLERANT_STRATEGY).create());
+    }
+
+    @Test
+    void should_use_equals_again_after_usingDefaultElementComparator() {
+        assertThatThrownBy(
+                () -> assertThat(ACTUAL).usingElementComparator(TOLERANT_COMPARATOR)
+                        .usingDefaultElementComparator()
+                        .contains(Tuple.of("a", 1.001))
+        )
+                .isInstanceOf(AssertionError.class);
+    }
+
+    @Test
+    void should_match_large_Map_according_to_comparator() {
+        final Map<String, Double> actual = HashMap.ofEntries(List.range(0, 100_000).map(i -> Tuple.of("key" + i, i / 10.0)));
+        final List<Tuple2<String, Double>> expected = List.range(0, 100_000).map(i -> Tuple.of("key" + i, i / 10.0 + 0.001));
+
+        assertThat(actual).usingElementComparator(TOLERANT_COMPARATOR).containsOnly(expected);
+    }
+}
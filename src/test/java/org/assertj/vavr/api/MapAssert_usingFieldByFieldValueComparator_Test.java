@@ -0,0 +1,72 @@
+/*
+ * Copyright 2017-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.vavr.api;
+
+import io.vavr.Tuple;
+import io.vavr.collection.HashMap;
+import io.vavr.collection.List;
+import io.vavr.collection.Map;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.vavr.api.VavrAssertions.assertThat;
+
+class MapAssert_usingFieldByFieldValueComparator_Test {
+
+    private static final Map<String, Foo> ACTUAL = HashMap.of("a", new Foo("something"), "b", new Foo("other"));
+
+    @Test
+    void should_pass_if_Map_contains_entries_with_values_equal_field_by_field() {
+        assertThat(ACTUAL).usingFieldByFieldValueComparator()
+                .contains(Tuple.of("a", new Foo("something")))
+                .containsEntry("b", new Foo("other"))
+                .containsAllEntriesOf(List.of(Tuple.of("b", new Foo("other"))))
+                .containsOnly(List.of(Tuple.of("b", new Foo("other")), Tuple.of("a", new Foo("something"))));
+    }
+
+    @Test
+    void should_fail_if_Map_does_not_contain_entry_with_value_equal_field_by_field() {
+        assertThatThrownBy(
+                () -> assertThat(ACTUAL).usingFieldByFieldValueComparator().containsEntry("a", new Foo("other"))
+        )
+                .isInstanceOf(AssertionError.class)
+                .hasMessageContaining("could not find")
+                .hasMessageContaining("(a, Foo{value='other'})")
+                .hasMessageContaining("when comparing values using key equals and value field/property by field/property comparator");
+    }
+
+    @Test
+    void should_fail_if_keys_differ_even_if_values_are_equal_field_by_field() {
+        assertThatThrownBy(
+                () -> assertThat(ACTUAL).usingFieldByFieldValueComparator().containsEntry("c", new Foo("other"))
+        )
+                .isInstanceOf(AssertionError.class);
+    }
+
+    private static class Foo {
+
+        private final String value;
+
+        Foo(String value) {
+            this.value = value;
+        }
+
+        @Override
+        public String toString() {
+            return "Foo{" + "value='" + value + '\'' + '}';
+        }
+    }
+}
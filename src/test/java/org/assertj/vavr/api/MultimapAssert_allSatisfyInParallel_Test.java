@@ -0,0 +1,74 @@
+/*
+ * Copyright 2017-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.vavr.api;
+
+import io.vavr.Tuple;
+import io.vavr.collection.HashMultimap;
+import io.vavr.collection.LinkedHashMultimap;
+import io.vavr.collection.List;
+import io.vavr.collection.Multimap;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.function.BiConsumer;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.error.ShouldNotBeNull.shouldNotBeNull;
+import static org.assertj.vavr.api.TraversableShouldAllSatisfy.shouldAllSatisfy;
+import static org.assertj.vavr.api.VavrAssertions.assertThat;
+
+class MultimapAssert_allSatisfyInParallel_Test {
+
+    private static final BiConsumer<String, Integer> ODD_VALUES = (key, value) -> {
+        if (value % 2 == 0) throw new AssertionError(key + " has even " + value);
+    };
+
+    @Test
+    void should_pass_if_Multimap_is_empty() {
+        assertThat(HashMultimap.withSeq().<String, Integer>empty()).allSatisfyInParallel(ODD_VALUES);
+    }
+
+    @Test
+    void should_pass_if_all_Multimap_entries_satisfy_consumer() {
+        final Multimap<String, Integer> actual = HashMultimap.withSeq().ofEntries(List.range(0, 10_000)
+                .map(i -> Tuple.of("key" + i % 100, 2 * i + 1)));
+
+        assertThat(actual).allSatisfyInParallel(ODD_VALUES);
+    }
+
+    @Test
+    void should_fail_when_Multimap_is_null() {
+        assertThatThrownBy(
+                () -> assertThat((Multimap<String, Integer>) null).allSatisfyInParallel(ODD_VALUES)
+        )
+                .isInstanceOf(AssertionError.class)
+                .hasMessage(shouldNotBeNull().create());
+    }
+
+    @Test
+    void should_report_every_failing_entry_in_iteration_order() {
+        final Multimap<String, Integer> actual = LinkedHashMultimap.withSeq().of("key1", 1, "key1", 2, "key2", 4);
+
+        assertThatThrownBy(
+                () -> assertThat(actual).allSatisfyInParallel(ODD_VALUES)
+        )
+                .isInstanceOf(AssertionError.class)
+                .hasMessage(shouldAllSatisfy(actual.size(), Arrays.asList(
+                        new UnsatisfiedRequirement(1, Tuple.of("key1", 2), "key1 has even 2"),
+                        new UnsatisfiedRequirement(2, Tuple.of("key2", 4), "key2 has even 4")
+                )).create());
+    }
+}
@@ -115,4 +115,11 @@ class MultimapAssert_containsOnly_Test {
                 "  HashMultimap[List]((key-2, value-2))\n"
         );
   }
+
+  @Test
+  void should_pass_if_Multimap_contains_comparator_equal_keys() {
+    final Multimap<String, String> actual = TreeMultimap.withSeq().of(String.CASE_INSENSITIVE_ORDER, "key", "value");
+
+    assertThat(actual).containsOnly(List.of(Tuple.of("KEY", "value")));
+  }
 }
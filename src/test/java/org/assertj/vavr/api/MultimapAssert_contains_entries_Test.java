@@ -18,10 +18,13 @@ package org.assertj.vavr.api;
 import io.vavr.Tuple;
 import io.vavr.Tuple2;
 import io.vavr.collection.HashMultimap;
+import io.vavr.collection.HashSet;
 import io.vavr.collection.Multimap;
+import io.vavr.collection.TreeMultimap;
 import org.junit.jupiter.api.Test;
 
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.error.ShouldContain.shouldContain;
 import static org.assertj.core.error.ShouldNotBeNull.shouldNotBeNull;
 import static org.assertj.vavr.api.VavrAssertions.assertThat;
 
@@ -97,4 +100,40 @@ class MultimapAssert_contains_entries_Test {
                 .isInstanceOf(AssertionError.class)
                 .hasMessage("\nExpecting HashMultimap:\n  HashMultimap[List]((key1, value1), (key3, value3))\nto contain:\n  [(key1, value1), (key2, value2)]\nbut could not find the following element(s):\n  HashSet((key2, value2))\n");
     }
+
+    @Test
+    void should_pass_if_Multimap_with_several_values_per_key_contains_all_entries() {
+        final Tuple2<String, String>[] entries = new Tuple2[]{Tuple.of("key1", "value3"), Tuple.of("key1", "value1"), ENTRY2};
+
+        assertThat(HashMultimap.withSeq().of("key1", "value1", "key1", "value3", "key2", "value2")).contains(entries);
+        assertThat(HashMultimap.withSet().of("key1", "value1", "key1", "value3", "key2", "value2")).contains(entries);
+        assertThat(HashMultimap.withSortedSet().of("key1", "value1", "key1", "value3", "key2", "value2")).contains(entries);
+    }
+
+    @Test
+    void should_fail_if_Multimap_does_not_contain_all_values_of_a_key() {
+        Multimap<String, String> actual = HashMultimap.withSeq().of("key1", "value1", "key1", "value2", "key3", "value3");
+        final Tuple2<String, String>[] entries = new Tuple2[]{Tuple.of("key1", "value2"), Tuple.of("key1", "value4"), ENTRY2};
+
+        assertThatThrownBy(
+                () -> assertThat(actual).contains(entries)
+        )
+                .isInstanceOf(AssertionError.class)
+                .hasMessage(shouldContain(actual, entries, HashSet.of(Tuple.of("key1", "value4"), ENTRY2)).create());
+    }
+
+    @Test
+    void should_pass_if_Multimap_contains_entries_with_comparator_equal_keys() {
+        final Multimap<String, String> actual = TreeMultimap.withSeq().of(String.CASE_INSENSITIVE_ORDER, "key1", "value1", "key1", "value3");
+
+        assertThat(actual).contains(Tuple.of("KEY1", "value3"), Tuple.of("Key1", "value1"));
+    }
+
+    @Test
+    void should_match_several_values_of_a_key_with_the_comparator_of_a_sorted_set_container() {
+        final Multimap<String, String> actual = HashMultimap.withSortedSet(String.CASE_INSENSITIVE_ORDER)
+                .of("key1", "value1", "key1", "value3");
+
+        assertThat(actual).contains(Tuple.of("key1", "VALUE3"), Tuple.of("key1", "Value1"));
+    }
 }
@@ -68,4 +68,12 @@ class MultimapAssert_doesNotContainValues_Test {
                     "  <[\"value-1\"]>"
             );
     }
+
+    @Test
+    void should_pass_if_Multimap_with_several_values_per_key_does_not_contain_given_values() {
+        Multimap<String, String> actual = HashMultimap.withSeq().of("key1", "value1", "key1", "value1", "key1", "value2");
+
+        assertThat(actual).doesNotContainValues("value3", "value4")
+                .containsValues("value2", "value1");
+    }
 }
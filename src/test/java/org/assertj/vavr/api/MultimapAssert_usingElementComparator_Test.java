@@ -0,0 +1,99 @@
+/*
+ * Copyright 2017-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.vavr.api;
+
+import io.vavr.Tuple;
+import io.vavr.Tuple2;
+import io.vavr.collection.LinkedHashMultimap;
+import io.vavr.collection.List;
+import io.vavr.collection.Multimap;
+import org.assertj.core.internal.ComparatorBasedComparisonStrategy;
+import org.junit.jupiter.api.Test;
+
+import java.util.Comparator;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.error.ShouldContain.shouldContain;
+import static org.assertj.core.error.ShouldContainExactly.elementsDifferAtIndex;
+import static org.assertj.core.error.ShouldContainOnly.shouldContainOnly;
+import static org.assertj.vavr.api.VavrAssertions.assertThat;
+
+@SuppressWarnings("unchecked")
+class MultimapAssert_usingElementComparator_Test {
+
+    private static final Comparator<Tuple2<? extends String, ? extends Double>> TOLERANT_COMPARATOR = (first, second) -> {
+        final int byKey = first._1.compareTo(second._1);
+        if (byKey != 0) return byKey;
+        return Math.abs(first._2 - second._2) <= 0.01 ? 0 : Double.compare(first._2, second._2);
+    };
+    private static final ComparatorBasedComparisonStrategy TOLERANT_STRATEGY =
+            new ComparatorBasedComparisonStrategy(TOLERANT_COMPARATOR);
+
+    private static final Multimap<String, Double> ACTUAL =
+            LinkedHashMultimap.withSeq().of("a", 1.0, "a", 1.5, "b", 2.0);
+
+    @Test
+    void should_pass_if_Multimap_contains_entries_according_to_comparator() {
+        assertThat(ACTUAL).usingElementComparator(TOLERANT_COMPARATOR)
+                .contains(Tuple.of("a", 1.499), Tuple.of("b", 2.001))
+                .containsEntry("a", 1.005);
+    }
+
+    @Test
+    void should_fail_if_Multimap_does_not_contain_entries_according_to_comparator() {
+        final Tuple2<String, Double>[] entries = new Tuple2[]{Tuple.of("a", 1.25), Tuple.of("b", 2.001)};
+
+        assertThatThrownBy(
+                () -> assertThat(ACTUAL).usingElementComparator(TOLERANT_COMPARATOR).contains(entries)
+        )
+                .isInstanceOf(AssertionError.class)
+                .hasMessage(shouldContain(ACTUAL, entries, List.of(Tuple.of("a", 1.25)), TOLERANT_STRATEGY).create());
+    }
+
+    @Test
+    void should_pass_if_Multimap_contains_only_entries_according_to_comparator() {
+        assertThat(ACTUAL).usingElementComparator(TOLERANT_COMPARATOR)
+                .containsOnly(List.of(Tuple.of("b", 2.001), Tuple.of("a", 1.501), Tuple.of("a", 0.999)));
+    }
+
+    @Test
+    void should_fail_if_Multimap_does_not_contain_only_entries_according_to_comparator() {
+        final List<Tuple2<String, Double>> entries = List.of(Tuple.of("a", 1.001), Tuple.of("b", 2.001));
+
+        assertThatThrownBy(
+                () -> assertThat(ACTUAL).usingElementComparator(TOLERANT_COMPARATOR).containsOnly(entries)
+        )
+                .isInstanceOf(AssertionError.class)
+                .hasMessage(shouldContainOnly(ACTUAL, entries, List.empty(), List.of(Tuple.of("a", 1.5)),
+                        TOLERANT_STRATEGY).create());
+    }
+
+    @Test
+    void should_pass_if_Multimap_contains_exactly_entries_according_to_comparator() {
+        assertThat(ACTUAL).usingElementComparator(TOLERANT_COMPARATOR)
+                .containsExactly(Tuple.of("a", 0.999), Tuple.of("a", 1.501), Tuple.of("b", 2.001));
+    }
+
+    @Test
+    void should_fail_if_Multimap_contains_entries_in_different_order_according_to_comparator() {
+        assertThatThrownBy(
+                () -> assertThat(ACTUAL).usingElementComparator(TOLERANT_COMPARATOR)
+                        .containsExactly(Tuple.of("a", 1.501), Tuple.of("a", 0.999), Tuple.of("b", 2.001))
+        )
+                .isInstanceOf(AssertionError.class)
+                .hasMessage(elementsDifferAtIndex(Tuple.of("a", 1.0), Tuple.of("a", 1.501), 0, TOLERANT_STRATEGY).create());
+    }
+}
@@ -0,0 +1,126 @@
+/*
+ * Copyright 2017-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.vavr.api;
+
+import io.vavr.collection.List;
+import io.vavr.collection.Seq;
+import io.vavr.collection.Vector;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.error.ShouldNotBeNull.shouldNotBeNull;
+import static org.assertj.vavr.api.TraversableShouldAllSatisfy.shouldAllSatisfy;
+import static org.assertj.vavr.api.VavrAssertions.assertThat;
+
+class SeqAssert_allSatisfyInParallel_Test {
+
+    private static final Consumer<Integer> ODD = value -> {
+        if (value % 2 == 0) throw new AssertionError(value + " is even");
+    };
+
+    @Test
+    void should_pass_if_Seq_is_empty() {
+        assertThat(List.<Integer>empty()).allSatisfyInParallel(ODD);
+    }
+
+    @Test
+    void should_pass_if_all_Seq_elements_satisfy_consumer() {
+        assertThat(Vector.range(0, 100_000).map(i -> 2 * i + 1)).allSatisfyInParallel(ODD);
+    }
+
+    @Test
+    void should_fail_if_consumer_is_null() {
+        assertThatThrownBy(
+                () -> assertThat(List.<Integer>empty()).allSatisfyInParallel(null)
+        )
+                .isInstanceOf(NullPointerException.class)
+                .hasMessage("The Consumer<T> expressing the assertions requirements must not be null");
+    }
+
+    @Test
+    void should_fail_when_Seq_is_null() {
+        assertThatThrownBy(
+                () -> assertThat((Seq<Integer>) null).allSatisfyInParallel(ODD)
+        )
+                .isInstanceOf(AssertionError.class)
+                .hasMessage(shouldNotBeNull().create());
+    }
+
+    @Test
+    void should_report_every_failing_element_in_index_order() {
+        final Seq<Integer> actual = Vector.range(0, 10_000).map(i -> i == 42 || i == 9_999 ? 2 * i : 2 * i + 1);
+
+        assertThatThrownBy(
+                () -> assertThat(actual).allSatisfyInParallel(ODD)
+        )
+                .isInstanceOf(AssertionError.class)
+                .hasMessage(shouldAllSatisfy(actual.size(), Arrays.asList(
+                        new UnsatisfiedRequirement(42, 84, "84 is even"),
+                        new UnsatisfiedRequirement(9_999, 19_998, "19998 is even")
+                )).create());
+    }
+
+    @Test
+    void should_propagate_exceptions_other_than_assertion_errors() {
+        assertThatThrownBy(
+                () -> assertThat(List.of(1, 2, 3)).allSatisfyInParallel(value -> {
+                    throw new IllegalStateException("boom");
+                })
+        )
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("boom");
+    }
+
+    @Test
+    void should_stop_checking_elements_after_an_exception_other_than_assertion_error() {
+        final AtomicInteger checked = new AtomicInteger();
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            assertThatThrownBy(
+                    () -> assertThat(Vector.range(0, 1_000)).allSatisfyInParallel(value -> {
+                        checked.incrementAndGet();
+                        throw new IllegalStateException("boom");
+                    }, executor)
+            )
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasMessage("boom");
+            assertThat(checked.get()).isEqualTo(1);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void should_run_requirements_on_given_executor() {
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            assertThatThrownBy(
+                    () -> assertThat(List.of(1, 2)).allSatisfyInParallel(ODD, executor)
+            )
+                    .isInstanceOf(AssertionError.class)
+                    .hasMessageContaining("[1] 2");
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
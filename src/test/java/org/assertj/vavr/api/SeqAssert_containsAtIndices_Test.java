@@ -0,0 +1,99 @@
+/*
+ * Copyright 2017-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.vavr.api;
+
+import io.vavr.collection.HashMap;
+import io.vavr.collection.List;
+import io.vavr.collection.Map;
+import io.vavr.collection.Seq;
+import io.vavr.collection.Stream;
+import io.vavr.collection.Vector;
+import org.assertj.core.data.Index;
+import org.junit.jupiter.api.Test;
+
+import java.util.TreeMap;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.data.Index.atIndex;
+import static org.assertj.core.util.FailureMessages.actualIsNull;
+import static org.assertj.vavr.api.SeqShouldContainAtIndices.shouldContainAtIndices;
+import static org.assertj.vavr.api.VavrAssertions.assertThat;
+
+class SeqAssert_containsAtIndices_Test {
+
+    @Test
+    void should_pass_if_List_contains_elements_at_given_indices() {
+        assertThat(List.of("a", "b", "c", "d"))
+                .containsAtIndices(HashMap.of(atIndex(3), "d", atIndex(0), "a", atIndex(2), "c"));
+    }
+
+    @Test
+    void should_pass_if_Vector_contains_elements_at_given_indices() {
+        assertThat(Vector.of("a", "b", "c", "d"))
+                .containsAtIndices(HashMap.of(atIndex(1), "b", atIndex(3), "d"));
+    }
+
+    @Test
+    void should_pass_if_no_element_is_given() {
+        assertThat(List.<String>empty()).containsAtIndices(HashMap.empty());
+    }
+
+    @Test
+    void should_pass_on_infinite_Stream() {
+        assertThat(Stream.iterate(0, i -> i + 1))
+                .containsAtIndices(HashMap.of(atIndex(1_000), 1_000, atIndex(3), 3))
+                .contains(10, atIndex(10));
+    }
+
+    @Test
+    void should_fail_when_List_is_null() {
+        assertThatThrownBy(
+                () -> assertThat((List<String>) null).containsAtIndices(HashMap.of(atIndex(0), "a"))
+        )
+                .isInstanceOf(AssertionError.class)
+                .hasMessage(actualIsNull());
+    }
+
+    @Test
+    void should_fail_if_one_of_given_indices_is_out_of_bounds() {
+        final Seq<String> actual = List.of("a", "b");
+        assertThatThrownBy(
+                () -> assertThat(actual).containsAtIndices(HashMap.of(atIndex(0), "a", atIndex(5), "f"))
+        )
+                .isInstanceOf(IndexOutOfBoundsException.class)
+                .hasMessage("Index should be between <0> and <1> (inclusive) but was:\n <5>");
+    }
+
+    @Test
+    void should_fail_and_report_all_mismatching_indices() {
+        final Seq<String> actual = List.of("a", "b", "c", "d");
+        final Map<Index, String> expected = HashMap.of(atIndex(0), "a", atIndex(1), "x", atIndex(3), "y");
+
+        final TreeMap<Integer, String> expectedByPosition = new TreeMap<>();
+        expectedByPosition.put(0, "a");
+        expectedByPosition.put(1, "x");
+        expectedByPosition.put(3, "y");
+        final TreeMap<Integer, String> found = new TreeMap<>();
+        found.put(1, "b");
+        found.put(3, "d");
+
+        assertThatThrownBy(
+                () -> assertThat(actual).containsAtIndices(expected)
+        )
+                .isInstanceOf(AssertionError.class)
+                .hasMessage(shouldContainAtIndices(actual, expectedByPosition, found).create());
+    }
+}
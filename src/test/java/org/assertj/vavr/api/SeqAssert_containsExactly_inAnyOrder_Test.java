@@ -20,9 +20,15 @@ import io.vavr.collection.List;
 import io.vavr.collection.Seq;
 import io.vavr.collection.Set;
 import io.vavr.collection.Traversable;
+import io.vavr.collection.Vector;
+import org.assertj.core.internal.StandardComparisonStrategy;
 import org.junit.jupiter.api.Test;
 
+import java.util.Arrays;
+import java.util.Collections;
+
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.error.ShouldContainExactlyInAnyOrder.shouldContainExactlyInAnyOrder;
 import static org.assertj.core.util.FailureMessages.actualIsNull;
 import static org.assertj.vavr.api.VavrAssertions.assertThat;
 
@@ -75,4 +81,41 @@ class SeqAssert_containsExactly_inAnyOrder_Test {
         )
                 .isInstanceOf(NullPointerException.class);
     }
+
+    @Test
+    void should_report_missing_and_unexpected_occurrences_of_duplicated_elements() {
+        final Seq<String> actual = List.of("a", "a", "b", "c");
+        final Seq<String> expectedInAnyOrder = List.of("b", "a", "b", "b", "c");
+        assertThatThrownBy(
+                () -> assertThat(actual).containsExactlyInAnyOrder(expectedInAnyOrder)
+        )
+                .isInstanceOf(AssertionError.class)
+                .hasMessage(shouldContainExactlyInAnyOrder(actual, expectedInAnyOrder.toJavaArray(),
+                        Arrays.asList("b", "b"), Collections.singletonList("a"), StandardComparisonStrategy.instance()).create());
+    }
+
+    @Test
+    void should_report_missing_duplicated_elements_in_the_same_order_as_core() {
+        final Seq<String> actual = List.of("a", "b");
+        final Seq<String> expectedInAnyOrder = List.of("b", "a", "b", "c", "a");
+        assertThatThrownBy(
+                () -> assertThat(actual).containsExactlyInAnyOrder(expectedInAnyOrder)
+        )
+                .isInstanceOf(AssertionError.class)
+                .hasMessage(shouldContainExactlyInAnyOrder(actual, expectedInAnyOrder.toJavaArray(),
+                        Arrays.asList("b", "c", "a"), Collections.emptyList(), StandardComparisonStrategy.instance()).create());
+    }
+
+    @Test
+    void should_pass_if_large_Vector_contains_exactly_elements_in_any_order() {
+        final Vector<Integer> actual = Vector.range(0, 300_000).map(i -> i % 1_000);
+        final Vector<Integer> expectedInAnyOrder = actual.reverse();
+        assertThat(actual).containsExactlyInAnyOrder(expectedInAnyOrder);
+    }
+
+    @Test
+    void should_use_element_comparator_if_set() {
+        assertThat(HashSet.of("A", "b")).usingElementComparator(String.CASE_INSENSITIVE_ORDER)
+                .containsExactlyInAnyOrder(List.of("B", "a"));
+    }
 }
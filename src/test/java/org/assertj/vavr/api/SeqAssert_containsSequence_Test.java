@@ -0,0 +1,92 @@
+/*
+ * Copyright 2017-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.vavr.api;
+
+import io.vavr.collection.List;
+import io.vavr.collection.Seq;
+import io.vavr.collection.Stream;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.error.ShouldContainSequence.shouldContainSequence;
+import static org.assertj.core.error.ShouldNotContainSequence.shouldNotContainSequence;
+import static org.assertj.core.util.FailureMessages.actualIsNull;
+import static org.assertj.vavr.api.VavrAssertions.assertThat;
+
+class SeqAssert_containsSequence_Test {
+
+    @Test
+    void should_pass_if_List_contains_sequence() {
+        assertThat(List.of("a", "b", "c", "d")).containsSequence("b", "c")
+                                               .containsSequence(List.of("c", "d"))
+                                               .doesNotContainSequence("c", "b");
+    }
+
+    @Test
+    void should_pass_if_sequence_starts_after_a_partial_match() {
+        assertThat(List.of(1, 1, 2, 1, 1, 1, 2, 3)).containsSequence(1, 1, 2, 3)
+                                                   .containsSequence(List.of(1, 1, 1, 2))
+                                                   .doesNotContainSequence(1, 1, 1, 1);
+    }
+
+    @Test
+    void should_stop_evaluating_Stream_at_first_occurrence() {
+        final Stream<Integer> numbers = Stream.iterate(0, i -> {
+            if (i > 1_000) throw new IllegalStateException("Stream evaluated past the sequence");
+            return i + 1;
+        });
+
+        assertThat(numbers).containsSequence(998, 999, 1_000);
+    }
+
+    @Test
+    void should_pass_on_long_Stream() {
+        assertThat(Stream.range(0, 2_000_000).map(i -> i % 1_000)).containsSequence(List.range(0, 1_000));
+    }
+
+    @Test
+    void should_fail_when_Seq_is_null() {
+        assertThatThrownBy(
+                () -> assertThat((Seq<String>) null).containsSequence("a")
+        )
+                .isInstanceOf(AssertionError.class)
+                .hasMessage(actualIsNull());
+    }
+
+    @Test
+    void should_fail_if_Seq_does_not_contain_sequence() {
+        final Seq<String> actual = List.of("a", "b", "a", "c");
+        final String[] sequence = {"a", "b", "c"};
+
+        assertThatThrownBy(
+                () -> assertThat(actual).containsSequence(sequence)
+        )
+                .isInstanceOf(AssertionError.class)
+                .hasMessage(shouldContainSequence(actual, sequence).create());
+    }
+
+    @Test
+    void should_fail_and_report_index_if_Seq_contains_sequence() {
+        final Seq<String> actual = List.of("a", "b", "a", "b", "c");
+        final String[] sequence = {"a", "b", "c"};
+
+        assertThatThrownBy(
+                () -> assertThat(actual).doesNotContainSequence(sequence)
+        )
+                .isInstanceOf(AssertionError.class)
+                .hasMessage(shouldNotContainSequence(actual, sequence, 2).create());
+    }
+}
@@ -18,6 +18,7 @@ package org.assertj.vavr.api;
 import io.vavr.collection.Array;
 import io.vavr.collection.List;
 import io.vavr.collection.Seq;
+import io.vavr.collection.Stream;
 import org.junit.jupiter.api.Test;
 
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -72,4 +73,19 @@ class SeqAssert_contains_atIndex_Test {
                 .isInstanceOf(AssertionError.class)
                 .hasMessage(shouldContainAtIndex(actual, "a", atIndex(2), "c").create());
     }
+
+    @Test
+    void should_pass_if_infinite_Stream_contains_expected_value_at_given_index() {
+        assertThat(Stream.from(0)).contains(1_000, atIndex(1_000));
+    }
+
+    @Test
+    void should_fail_if_given_index_is_greater_than_List_size() {
+        final Seq<String> actual = List.of("a", "b");
+        assertThatThrownBy(
+                () -> assertThat(actual).contains("a", atIndex(5))
+        )
+                .isInstanceOf(IndexOutOfBoundsException.class)
+                .hasMessage("Index should be between <0> and <1> (inclusive) but was:\n <5>");
+    }
 }
@@ -54,7 +54,8 @@ class SeqAssert_isSortedAccordingTo_Test {
                 () -> assertThat(values).isSortedAccordingTo(LIST_ELEMENT_COMPARATOR)
         )
                 .isInstanceOf(AssertionError.class)
-                .hasMessage(shouldBeSortedAccordingToGivenComparator(1, values, LIST_ELEMENT_COMPARATOR).create());
+                .hasMessage(shouldBeSortedAccordingToGivenComparator(1, "thing", "something", values,
+                                                                     LIST_ELEMENT_COMPARATOR).create());
     }
 
     @Test
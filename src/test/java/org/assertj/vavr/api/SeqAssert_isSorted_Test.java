@@ -15,13 +15,21 @@
  */
 package org.assertj.vavr.api;
 
+import io.vavr.collection.Array;
 import io.vavr.collection.List;
+import io.vavr.collection.Queue;
 import io.vavr.collection.Seq;
+import io.vavr.collection.Vector;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
 
 import java.util.Comparator;
+import java.util.function.Function;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.description.EmptyTextDescription.emptyDescription;
 import static org.assertj.core.error.ShouldBeSorted.shouldHaveComparableElementsAccordingToGivenComparator;
 import static org.assertj.core.util.FailureMessages.actualIsNull;
 import static org.assertj.vavr.api.SeqShouldBeSorted.*;
@@ -29,6 +37,8 @@ import static org.assertj.vavr.api.VavrAssertions.assertThat;
 
 class SeqAssert_isSorted_Test {
 
+    private static final int LARGE_SIZE = 200_000;
+
     private static final Comparator<Object> LIST_ELEMENT_COMPARATOR = (s1, s2) -> {
         if (s1 == null) return s2 == null ? 0 : 1;
         if (s2 == null) return -1;
@@ -54,7 +64,8 @@ class SeqAssert_isSorted_Test {
                 () -> assertThat(values).usingElementComparator(LIST_ELEMENT_COMPARATOR).isSorted()
         )
                 .isInstanceOf(AssertionError.class)
-                .hasMessage(shouldBeSortedAccordingToGivenComparator(1, values, LIST_ELEMENT_COMPARATOR).create());
+                .hasMessage(shouldBeSortedAccordingToGivenComparator(1, "thing", "something", values,
+                                                                     LIST_ELEMENT_COMPARATOR).create());
     }
 
     @Test
@@ -74,7 +85,7 @@ class SeqAssert_isSorted_Test {
                 () -> assertThat(values).isSorted()
         )
                 .isInstanceOf(AssertionError.class)
-                .hasMessage(shouldBeSorted(2, values).create());
+                .hasMessage(shouldBeSorted(2, 3, 2, values).create());
     }
 
     @Test
@@ -87,6 +98,35 @@ class SeqAssert_isSorted_Test {
                 .hasMessage(shouldHaveMutuallyComparableElements(values).create());
     }
 
+    @ParameterizedTest
+    @MethodSource("seqFactories")
+    void should_pass_if_large_Seq_is_sorted(Function<Iterable<Integer>, Seq<Integer>> seqFactory) {
+        assertThat(seqFactory.apply(List.range(0, LARGE_SIZE))).isSorted();
+    }
+
+    @ParameterizedTest
+    @MethodSource("seqFactories")
+    void should_fail_with_first_unsorted_index_if_large_Seq_is_not_sorted(Function<Iterable<Integer>, Seq<Integer>> seqFactory) {
+        final Seq<Integer> values = seqFactory.apply(List.range(0, LARGE_SIZE).update(LARGE_SIZE - 10, -1));
+        assertThatThrownBy(
+                () -> assertThat(values).isSorted()
+        )
+                .isInstanceOf(AssertionError.class)
+                .hasMessage(shouldBeSorted(LARGE_SIZE - 11, LARGE_SIZE - 11, -1, values)
+                                    .create(emptyDescription(), new VavrRepresentation()));
+    }
+
+    @ParameterizedTest
+    @MethodSource("seqFactories")
+    void should_fail_if_single_element_is_not_comparable(Function<Iterable<Object>, Seq<Object>> seqFactory) {
+        final Seq<Object> values = seqFactory.apply(List.of(new Foo("some")));
+        assertThatThrownBy(
+                () -> assertThat(values).isSorted()
+        )
+                .isInstanceOf(AssertionError.class)
+                .hasMessage(shouldHaveMutuallyComparableElements(values).create());
+    }
+
     @Test
     void should_fail_when_List_is_null() {
         assertThatThrownBy(
@@ -96,6 +136,10 @@ class SeqAssert_isSorted_Test {
                 .hasMessage(actualIsNull());
     }
 
+    static <T> Stream<Function<Iterable<T>, Seq<T>>> seqFactories() {
+        return Stream.of(List::ofAll, Vector::ofAll, Array::ofAll, Queue::ofAll, io.vavr.collection.Stream::ofAll);
+    }
+
     private static class Foo {
 
         private final String value;
@@ -0,0 +1,77 @@
+/*
+ * Copyright 2017-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.vavr.api;
+
+import io.vavr.collection.HashMap;
+import io.vavr.collection.List;
+import io.vavr.collection.Map;
+import io.vavr.collection.Seq;
+import org.assertj.core.data.Index;
+import org.junit.jupiter.api.Test;
+
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.data.Index.atIndex;
+import static org.assertj.vavr.api.VavrAssertions.assertThat;
+
+class SeqAssert_satisfiesAtIndices_Test {
+
+    private static final Consumer<String> STARTS_WITH_A = value -> assertThat(value).startsWith("a");
+    private static final Consumer<String> ENDS_WITH_Z = value -> assertThat(value).endsWith("z");
+
+    @Test
+    void should_pass_if_elements_satisfy_requirements_at_given_indices() {
+        assertThat(List.of("ab", "cz", "az"))
+                .satisfiesAtIndices(HashMap.of(atIndex(2), STARTS_WITH_A, atIndex(0), STARTS_WITH_A, atIndex(1), ENDS_WITH_Z));
+    }
+
+    @Test
+    void should_fail_and_report_every_unsatisfied_requirement_in_index_order() {
+        final Seq<String> actual = List.of("ab", "cz", "bb");
+        final Map<Index, Consumer<String>> requirements =
+                HashMap.of(atIndex(2), STARTS_WITH_A, atIndex(1), STARTS_WITH_A, atIndex(0), ENDS_WITH_Z);
+
+        assertThatThrownBy(
+                () -> assertThat(actual).satisfiesAtIndices(requirements)
+        )
+                .isInstanceOf(AssertionError.class)
+                .hasMessageContaining("but these 3 element(s) did not")
+                .hasMessageContaining("[0] \"ab\"")
+                .satisfies(error -> assertThat(error.getMessage().indexOf("[1] \"cz\""))
+                        .isGreaterThan(error.getMessage().indexOf("[0] \"ab\""))
+                        .isLessThan(error.getMessage().indexOf("[2] \"bb\"")));
+    }
+
+    @Test
+    void should_fail_if_one_of_given_indices_is_out_of_bounds() {
+        assertThatThrownBy(
+                () -> assertThat(List.of("ab")).satisfiesAtIndices(HashMap.of(atIndex(1), STARTS_WITH_A))
+        )
+                .isInstanceOf(IndexOutOfBoundsException.class)
+                .hasMessage("Index should be between <0> and <0> (inclusive) but was:\n <1>");
+    }
+
+    @Test
+    void should_fail_if_one_of_requirements_is_null() {
+        assertThatThrownBy(
+                () -> assertThat(List.of("ab")).satisfiesAtIndices(HashMap.of(atIndex(0), (Consumer<String>) null))
+        )
+                .isInstanceOf(NullPointerException.class)
+                .hasMessage("The Consumer expressing the assertions requirements must not be null");
+    }
+}
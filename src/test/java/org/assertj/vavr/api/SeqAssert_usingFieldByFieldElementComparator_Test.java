@@ -0,0 +1,72 @@
+/*
+ * Copyright 2017-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.vavr.api;
+
+import io.vavr.collection.HashMap;
+import io.vavr.collection.List;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.data.Index.atIndex;
+import static org.assertj.vavr.api.VavrAssertions.assertThat;
+
+class SeqAssert_usingFieldByFieldElementComparator_Test {
+
+    private static final List<Foo> ACTUAL = List.of(new Foo("a"), new Foo("b"), new Foo("c"));
+
+    @Test
+    void should_pass_if_Seq_contains_elements_equal_field_by_field() {
+        assertThat(ACTUAL).usingFieldByFieldElementComparator()
+                .contains(new Foo("b"), atIndex(1))
+                .doesNotContain(new Foo("b"), atIndex(2))
+                .containsAtIndices(HashMap.of(atIndex(0), new Foo("a"), atIndex(2), new Foo("c")));
+    }
+
+    @Test
+    @SuppressWarnings("deprecation")
+    void should_use_comparators_registered_for_element_fields() {
+        assertThat(ACTUAL).usingComparatorForElementFieldsWithNames(String.CASE_INSENSITIVE_ORDER, "value")
+                .usingFieldByFieldElementComparator()
+                .contains(new Foo("B"), atIndex(1));
+        assertThat(ACTUAL).usingComparatorForElementFieldsWithType(String.CASE_INSENSITIVE_ORDER, String.class)
+                .usingFieldByFieldElementComparator()
+                .contains(new Foo("C"), atIndex(2));
+    }
+
+    @Test
+    void should_fail_if_Seq_does_not_contain_element_equal_field_by_field() {
+        assertThatThrownBy(
+                () -> assertThat(ACTUAL).usingFieldByFieldElementComparator().contains(new Foo("c"), atIndex(1))
+        )
+                .isInstanceOf(AssertionError.class)
+                .hasMessageContaining("Foo{value='c'}")
+                .hasMessageContaining("when comparing values using field/property by field/property comparator on all fields/properties");
+    }
+
+    private static class Foo {
+
+        private final String value;
+
+        Foo(String value) {
+            this.value = value;
+        }
+
+        @Override
+        public String toString() {
+            return "Foo{" + "value='" + value + '\'' + '}';
+        }
+    }
+}
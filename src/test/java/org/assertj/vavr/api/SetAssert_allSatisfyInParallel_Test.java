@@ -0,0 +1,64 @@
+/*
+ * Copyright 2017-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.vavr.api;
+
+import io.vavr.collection.HashSet;
+import io.vavr.collection.Set;
+import io.vavr.collection.TreeSet;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.error.ShouldNotBeNull.shouldNotBeNull;
+import static org.assertj.vavr.api.TraversableShouldAllSatisfy.shouldAllSatisfy;
+import static org.assertj.vavr.api.VavrAssertions.assertThat;
+
+class SetAssert_allSatisfyInParallel_Test {
+
+    private static final Consumer<Integer> ODD = value -> {
+        if (value % 2 == 0) throw new AssertionError(value + " is even");
+    };
+
+    @Test
+    void should_pass_if_all_Set_elements_satisfy_consumer() {
+        assertThat(HashSet.range(0, 100_000).map(i -> 2 * i + 1)).allSatisfyInParallel(ODD);
+    }
+
+    @Test
+    void should_fail_when_Set_is_null() {
+        assertThatThrownBy(
+                () -> assertThat((Set<Integer>) null).allSatisfyInParallel(ODD)
+        )
+                .isInstanceOf(AssertionError.class)
+                .hasMessage(shouldNotBeNull().create());
+    }
+
+    @Test
+    void should_report_every_failing_element_in_iteration_order() {
+        final Set<Integer> actual = TreeSet.of(1, 2, 3, 4, 5);
+
+        assertThatThrownBy(
+                () -> assertThat(actual).allSatisfyInParallel(ODD)
+        )
+                .isInstanceOf(AssertionError.class)
+                .hasMessage(shouldAllSatisfy(actual.size(), Arrays.asList(
+                        new UnsatisfiedRequirement(1, 2, "2 is even"),
+                        new UnsatisfiedRequirement(3, 4, "4 is even")
+                )).create());
+    }
+}
@@ -0,0 +1,127 @@
+/*
+ * Copyright 2017-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.vavr.api;
+
+import io.vavr.collection.HashSet;
+import io.vavr.collection.Set;
+import io.vavr.collection.TreeSet;
+import org.assertj.core.internal.ComparatorBasedComparisonStrategy;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+
+import static java.lang.String.CASE_INSENSITIVE_ORDER;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.error.ShouldContain.shouldContain;
+import static org.assertj.core.error.ShouldContainOnly.shouldContainOnly;
+import static org.assertj.core.error.ShouldNotContain.shouldNotContain;
+import static org.assertj.core.util.FailureMessages.actualIsNull;
+import static org.assertj.vavr.api.VavrAssertions.assertThat;
+
+class SetAssert_contains_Test {
+
+    @Test
+    void should_pass_if_Set_contains_values() {
+        assertThat(HashSet.of("a", "b", "c")).contains("c", "a")
+                .containsOnly("c", "b", "a", "b")
+                .doesNotContain("d", "e");
+    }
+
+    @Test
+    void should_fail_if_Set_does_not_contain_values() {
+        final Set<String> actual = HashSet.of("a", "b");
+        final String[] values = {"a", "c", "d"};
+
+        assertThatThrownBy(
+                () -> assertThat(actual).contains(values)
+        )
+                .isInstanceOf(AssertionError.class)
+                .hasMessage(shouldContain(actual, values, new LinkedHashSet<>(Arrays.asList("c", "d"))).create());
+    }
+
+    @Test
+    void should_fail_if_Set_does_not_contain_only_values() {
+        final Set<String> actual = TreeSet.of("a", "b");
+        final String[] values = {"a", "c"};
+
+        assertThatThrownBy(
+                () -> assertThat(actual).usingDefaultElementComparator().containsOnly(values)
+        )
+                .isInstanceOf(AssertionError.class)
+                .hasMessage(shouldContainOnly(actual, values, Collections.singletonList("c"), Collections.singletonList("b")).create());
+    }
+
+    @Test
+    void should_fail_if_Set_contains_values() {
+        final Set<String> actual = HashSet.of("a", "b");
+        final String[] values = {"b", "c"};
+
+        assertThatThrownBy(
+                () -> assertThat(actual).doesNotContain(values)
+        )
+                .isInstanceOf(AssertionError.class)
+                .hasMessage(shouldNotContain(actual, values, Collections.singleton("b")).create());
+    }
+
+    @Test
+    void should_use_tree_lookup_of_SortedSet() {
+        final Set<String> actual = TreeSet.of(CASE_INSENSITIVE_ORDER, "a", "B");
+
+        assertThat(actual).contains("A", "b")
+                .containsOnly("b", "A")
+                .doesNotContain("c");
+    }
+
+    @Test
+    void should_fail_if_SortedSet_does_not_contain_values_according_to_its_comparator() {
+        final Set<String> actual = TreeSet.of(CASE_INSENSITIVE_ORDER, "a", "B");
+        final String[] values = {"A", "c"};
+
+        assertThatThrownBy(
+                () -> assertThat(actual).contains(values)
+        )
+                .isInstanceOf(AssertionError.class)
+                .hasMessage(shouldContain(actual, values, Collections.singleton("c"),
+                        new ComparatorBasedComparisonStrategy(CASE_INSENSITIVE_ORDER)).create());
+    }
+
+    @Test
+    void should_use_custom_element_comparator() {
+        assertThat(HashSet.of("a", "B")).usingElementComparator(CASE_INSENSITIVE_ORDER)
+                .contains("A", "b")
+                .containsOnly("b", "A")
+                .doesNotContain("c");
+    }
+
+    @Test
+    void should_fail_when_Set_is_null() {
+        assertThatThrownBy(
+                () -> assertThat((Set<String>) null).contains("a")
+        )
+                .isInstanceOf(AssertionError.class)
+                .hasMessage(actualIsNull());
+    }
+
+    @Test
+    void should_look_up_values_in_large_HashSet() {
+        final Set<Integer> actual = HashSet.range(0, 1_000_000);
+        final Integer[] values = HashSet.range(0, 10_000).map(i -> i * 100).toJavaArray(Integer[]::new);
+
+        assertThat(actual).contains(values).doesNotContain(-1, 1_000_000);
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright 2017-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.vavr.api;
+
+import io.vavr.collection.HashSet;
+import io.vavr.collection.Set;
+import io.vavr.collection.SortedSet;
+import io.vavr.collection.TreeSet;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static java.lang.String.CASE_INSENSITIVE_ORDER;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.error.ShouldBeInstance.shouldBeInstance;
+import static org.assertj.vavr.api.SortedShouldHaveBoundary.shouldHaveMaxElement;
+import static org.assertj.vavr.api.SortedShouldHaveBoundary.shouldHaveMinElement;
+import static org.assertj.vavr.api.SortedShouldHaveInRange.shouldContainRange;
+import static org.assertj.vavr.api.SortedShouldHaveInRange.shouldHaveAllBetween;
+import static org.assertj.vavr.api.SortedShouldHaveInRange.shouldHaveNoneBetween;
+import static org.assertj.vavr.api.VavrAssertions.assertThat;
+
+class SetAssert_sortedRange_Test {
+
+    private static final SortedSet<Integer> ACTUAL = TreeSet.of(10, 20, 30, 40);
+
+    @Test
+    void should_pass_if_SortedSet_matches_range_assertions() {
+        assertThat(ACTUAL).hasMinElement(10)
+                .hasMaxElement(40)
+                .hasAllElementsBetween(0, 40)
+                .hasNoElementsBetween(21, 29)
+                .containsRange(15, 35, 20, 30)
+                .containsRange(41, 50);
+    }
+
+    @Test
+    void should_use_comparator_of_SortedSet() {
+        assertThat(TreeSet.of(CASE_INSENSITIVE_ORDER, "b", "C", "a"))
+                .hasMinElement("A")
+                .hasMaxElement("c")
+                .containsRange("B", "z", "b", "c");
+    }
+
+    @Test
+    void should_fail_if_min_or_max_element_differs() {
+        assertThatThrownBy(() -> assertThat(ACTUAL).hasMinElement(20))
+                .isInstanceOf(AssertionError.class)
+                .hasMessage(shouldHaveMinElement(ACTUAL, 20, 10).create());
+        assertThatThrownBy(() -> assertThat(ACTUAL).hasMaxElement(30))
+                .isInstanceOf(AssertionError.class)
+                .hasMessage(shouldHaveMaxElement(ACTUAL, 30, 40).create());
+    }
+
+    @Test
+    void should_fail_if_elements_are_not_all_between_bounds() {
+        assertThatThrownBy(() -> assertThat(ACTUAL).hasAllElementsBetween(10, 35))
+                .isInstanceOf(AssertionError.class)
+                .hasMessage(shouldHaveAllBetween(ACTUAL, "elements", 10, 35, Collections.singletonList(40)).create());
+    }
+
+    @Test
+    void should_fail_if_elements_are_between_bounds() {
+        assertThatThrownBy(() -> assertThat(ACTUAL).hasNoElementsBetween(15, 35))
+                .isInstanceOf(AssertionError.class)
+                .hasMessage(shouldHaveNoneBetween(ACTUAL, "elements", 15, 35, Arrays.asList(20, 30)).create());
+    }
+
+    @Test
+    void should_fail_if_range_does_not_contain_exactly_given_values() {
+        final Integer[] values = {20, 25};
+
+        assertThatThrownBy(() -> assertThat(ACTUAL).containsRange(15, 35, values))
+                .isInstanceOf(AssertionError.class)
+                .hasMessage(shouldContainRange(ACTUAL, 15, 35, values, Arrays.asList(20, 30)).create());
+    }
+
+    @Test
+    void should_fail_if_Set_is_not_sorted() {
+        final Set<Integer> actual = HashSet.of(10);
+
+        assertThatThrownBy(() -> assertThat(actual).hasMaxElement(10))
+                .isInstanceOf(AssertionError.class)
+                .hasMessage(shouldBeInstance(actual, SortedSet.class).create());
+    }
+
+    @Test
+    void should_read_window_of_large_SortedSet() {
+        final SortedSet<Integer> actual = TreeSet.ofAll(HashSet.range(0, 1_000_000));
+
+        assertThat(actual).hasMinElement(0)
+                .hasMaxElement(999_999)
+                .hasAllElementsBetween(0, 999_999)
+                .hasNoElementsBetween(1_000_000, 2_000_000)
+                .containsRange(10, 12, 10, 11, 12);
+    }
+}
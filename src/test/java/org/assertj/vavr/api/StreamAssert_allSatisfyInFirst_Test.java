@@ -0,0 +1,72 @@
+/*
+ * Copyright 2017-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.vavr.api;
+
+import io.vavr.collection.Stream;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.error.ShouldNotBeNull.shouldNotBeNull;
+import static org.assertj.vavr.api.VavrAssertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StreamAssert_allSatisfyInFirst_Test {
+
+    @Test
+    void should_pass_if_first_elements_of_infinite_Stream_satisfy_requirements() {
+        assertThat(Stream.from(0, 2)).allSatisfyInFirst(1_000, even -> assertThat(even % 2).isZero())
+                                     .isNotEvaluatedBeyond(1_000);
+    }
+
+    @Test
+    void should_pass_if_Stream_is_shorter_than_limit() {
+        assertThat(Stream.of(2, 4)).allSatisfyInFirst(10, even -> assertThat(even % 2).isZero());
+    }
+
+    @Test
+    void should_fail_when_Stream_is_null() {
+        assertThatThrownBy(
+                () -> assertThat((Stream<Integer>) null).allSatisfyInFirst(1, value -> {})
+        )
+                .isInstanceOf(AssertionError.class)
+                .hasMessage(shouldNotBeNull().create());
+    }
+
+    @Test
+    void should_fail_if_requirements_are_null() {
+        assertThatThrownBy(
+                () -> assertThat(Stream.from(1)).allSatisfyInFirst(1, null)
+        )
+                .isInstanceOf(NullPointerException.class)
+                .hasMessage("The Consumer<T> expressing the assertions requirements must not be null");
+    }
+
+    @Test
+    void should_fail_at_first_element_not_satisfying_requirements_without_evaluating_further() {
+        final AtomicInteger evaluated = new AtomicInteger();
+        final Stream<Integer> actual = Stream.from(0, 2).peek(element -> evaluated.incrementAndGet());
+
+        assertThatThrownBy(
+                () -> assertThat(actual).allSatisfyInFirst(1_000, even -> assertThat(even).isLessThan(4))
+        )
+                .isInstanceOf(AssertionError.class)
+                .hasMessageContaining("but element at index 2:")
+                .hasMessageContaining("(3 element(s) evaluated)");
+        assertThat(evaluated.get()).isLessThanOrEqualTo(3);
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright 2017-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.vavr.api;
+
+import io.vavr.collection.Stream;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.error.ShouldNotBeNull.shouldNotBeNull;
+import static org.assertj.vavr.api.StreamShouldContainWithinFirst.shouldContainWithinFirst;
+import static org.assertj.vavr.api.VavrAssertions.assertThat;
+
+class StreamAssert_containsWithinFirst_Test {
+
+    @Test
+    void should_pass_if_values_are_within_first_elements_of_infinite_Stream() {
+        assertThat(Stream.from(1).map(i -> i * i)).containsWithinFirst(10, 81, 4);
+    }
+
+    @Test
+    void should_stop_evaluating_once_all_values_are_found() {
+        assertThat(Stream.from(1)).containsWithinFirst(1_000_000, 3, 2)
+                                  .isNotEvaluatedBeyond(3);
+    }
+
+    @Test
+    void should_pass_with_custom_element_comparator() {
+        assertThat(Stream.of("a", "b", "c")).usingElementComparator(String.CASE_INSENSITIVE_ORDER)
+                                            .containsWithinFirst(2, "B");
+    }
+
+    @Test
+    void should_fail_when_Stream_is_null() {
+        assertThatThrownBy(
+                () -> assertThat((Stream<Integer>) null).containsWithinFirst(1, 1)
+        )
+                .isInstanceOf(AssertionError.class)
+                .hasMessage(shouldNotBeNull().create());
+    }
+
+    @Test
+    void should_fail_if_limit_is_negative() {
+        assertThatThrownBy(
+                () -> assertThat(Stream.from(1)).containsWithinFirst(-1, 1)
+        )
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("The number of elements to evaluate should not be negative but was: -1");
+    }
+
+    @Test
+    void should_fail_if_values_are_not_within_first_elements_without_evaluating_further() {
+        final AtomicInteger evaluated = new AtomicInteger();
+        final Stream<Integer> actual = Stream.from(1).peek(element -> evaluated.incrementAndGet());
+
+        assertThatThrownBy(
+                () -> assertThat(actual).containsWithinFirst(5, 2, 7, 9)
+        )
+                .isInstanceOf(AssertionError.class)
+                .hasMessage(shouldContainWithinFirst(actual, 5, new Integer[]{2, 7, 9}, Arrays.asList(7, 9), 5).create());
+        assertThat(evaluated.get()).isLessThanOrEqualTo(5);
+    }
+}
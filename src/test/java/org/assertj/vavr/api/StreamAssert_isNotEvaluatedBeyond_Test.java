@@ -0,0 +1,60 @@
+/*
+ * Copyright 2017-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.vavr.api;
+
+import io.vavr.collection.Stream;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.error.ShouldNotBeNull.shouldNotBeNull;
+import static org.assertj.vavr.api.StreamShouldNotBeEvaluatedBeyond.shouldNotBeEvaluatedBeyond;
+import static org.assertj.vavr.api.VavrAssertions.assertThat;
+
+class StreamAssert_isNotEvaluatedBeyond_Test {
+
+    @Test
+    void should_pass_if_Stream_is_empty() {
+        assertThat(Stream.empty()).isNotEvaluatedBeyond(0);
+    }
+
+    @Test
+    void should_pass_if_bounded_assertions_evaluated_no_more_than_limit() {
+        assertThat(Stream.from(1)).containsWithinFirst(10, 2)
+                                  .allSatisfyInFirst(3, natural -> assertThat(natural).isPositive())
+                                  .isNotEvaluatedBeyond(3);
+    }
+
+    @Test
+    void should_fail_when_Stream_is_null() {
+        assertThatThrownBy(
+                () -> assertThat((Stream<Integer>) null).isNotEvaluatedBeyond(1)
+        )
+                .isInstanceOf(AssertionError.class)
+                .hasMessage(shouldNotBeNull().create());
+    }
+
+    @Test
+    void should_fail_if_more_cells_are_evaluated() {
+        final Stream<Integer> actual = Stream.from(1);
+
+        assertThatThrownBy(
+                () -> assertThat(actual).containsWithinFirst(10, 5).isNotEvaluatedBeyond(3)
+        )
+                .isInstanceOf(AssertionError.class)
+                .hasMessage(shouldNotBeEvaluatedBeyond(actual, 3, 5).create());
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright 2017-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.vavr.api;
+
+import io.vavr.collection.Stream;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.error.ShouldNotBeNull.shouldNotBeNull;
+import static org.assertj.vavr.api.StreamShouldStartWith.shouldStartWith;
+import static org.assertj.vavr.api.StreamShouldStartWith.shouldStartWithButEnded;
+import static org.assertj.vavr.api.VavrAssertions.assertThat;
+
+class StreamAssert_startsWith_Test {
+
+    @Test
+    void should_pass_if_infinite_Stream_starts_with_sequence() {
+        assertThat(Stream.from(1)).startsWith(1, 2, 3);
+    }
+
+    @Test
+    void should_evaluate_only_as_many_cells_as_elements_in_sequence() {
+        final StreamAssert<Integer> assertion = assertThat(Stream.from(1));
+
+        assertion.startsWith(1, 2, 3);
+
+        assertion.isNotEvaluatedBeyond(3);
+        assertThatThrownBy(() -> assertion.isNotEvaluatedBeyond(2)).isInstanceOf(AssertionError.class);
+    }
+
+    @Test
+    void should_fail_when_Stream_is_null() {
+        assertThatThrownBy(
+                () -> assertThat((Stream<Integer>) null).startsWith(1)
+        )
+                .isInstanceOf(AssertionError.class)
+                .hasMessage(shouldNotBeNull().create());
+    }
+
+    @Test
+    void should_pass_if_Stream_and_sequence_are_empty() {
+        assertThat(Stream.empty()).startsWith();
+    }
+
+    @Test
+    void should_fail_if_sequence_is_empty_but_Stream_is_not() {
+        assertThatThrownBy(
+                () -> assertThat(Stream.from(1)).startsWith()
+        )
+                .isInstanceOf(AssertionError.class)
+                .hasMessageContaining("is not empty while group of values to look for is.");
+    }
+
+    @Test
+    void should_fail_at_first_differing_element_without_evaluating_further() {
+        final AtomicInteger evaluated = new AtomicInteger();
+        final Stream<Integer> actual = Stream.from(1).peek(element -> evaluated.incrementAndGet());
+
+        assertThatThrownBy(
+                () -> assertThat(actual).startsWith(1, 5, 6)
+        )
+                .isInstanceOf(AssertionError.class)
+                .hasMessage(shouldStartWith(actual, new Integer[]{1, 5, 6}, 1, 2, 2).create());
+        assertThat(evaluated.get()).isLessThanOrEqualTo(2);
+    }
+
+    @Test
+    void should_fail_if_Stream_is_shorter_than_sequence() {
+        final Stream<Integer> actual = Stream.of(1, 2);
+
+        assertThatThrownBy(
+                () -> assertThat(actual).startsWith(1, 2, 3)
+        )
+                .isInstanceOf(AssertionError.class)
+                .hasMessage(shouldStartWithButEnded(actual, new Integer[]{1, 2, 3}, 2).create());
+    }
+}
@@ -0,0 +1,41 @@
+/*
+ * Copyright 2017-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.vavr.api;
+
+import io.vavr.collection.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.vavr.api.BaseAssumptionRunner.assumptionRunner;
+import static org.assertj.vavr.api.VavrAssumptions.assumeThat;
+
+public class Stream_assertion_methods_in_assumptions_Test extends BaseAssumptionsTest {
+
+    private static final Stream<Integer> NATURALS = Stream.from(1);
+
+    public static java.util.stream.Stream<AssumptionRunner<?>> provideAssumptionsRunners() {
+        return java.util.stream.Stream.of(
+                assumptionRunner(NATURALS,
+                        value -> assumeThat(value).startsWith(1, 2, 3),
+                        value -> assumeThat(value).startsWith(2, 3)),
+                assumptionRunner(NATURALS,
+                        value -> assumeThat(value).containsWithinFirst(10, 4, 9),
+                        value -> assumeThat(value).containsWithinFirst(3, 4, 9)),
+                assumptionRunner(NATURALS,
+                        value -> assumeThat(value).allSatisfyInFirst(5, natural -> assertThat(natural).isLessThan(6)),
+                        value -> assumeThat(value).allSatisfyInFirst(5, natural -> assertThat(natural).isLessThan(5)))
+        );
+    }
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright 2017-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.vavr.api;
+
+import io.vavr.collection.List;
+import io.vavr.control.Try;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.util.FailureMessages.actualIsNull;
+import static org.assertj.vavr.api.VavrAssertions.assertThat;
+
+class TryAssert_get_Test {
+
+    @Test
+    void should_fail_when_Try_is_null() {
+        assertThatThrownBy(
+                () -> assertThat((Try<List<String>>) null).get(VavrInstanceOfAssertFactories.seq(String.class))
+        )
+                .isInstanceOf(AssertionError.class)
+                .hasMessage(actualIsNull());
+    }
+
+    @Test
+    void should_fail_when_Try_is_failure() {
+        assertThatThrownBy(
+                () -> assertThat(Try.<List<String>>failure(new RuntimeException("boom")))
+                        .get(VavrInstanceOfAssertFactories.seq(String.class))
+        )
+                .isInstanceOf(AssertionError.class)
+                .hasMessageStartingWith(String.format("%nExpecting Try to be a Success, but was a Failure:"));
+    }
+
+    @Test
+    void should_fail_when_value_is_not_of_the_factory_type() {
+        assertThatThrownBy(
+                () -> assertThat(Try.success("frodo")).get(VavrInstanceOfAssertFactories.seq(String.class))
+        )
+                .isInstanceOf(AssertionError.class);
+    }
+
+    @Test
+    void should_return_narrowed_assert_to_allow_chaining() {
+        assertThat(Try.success(List.of("frodo", "sam")))
+                .get(VavrInstanceOfAssertFactories.seq(String.class))
+                .containsExactly("frodo", "sam");
+    }
+}
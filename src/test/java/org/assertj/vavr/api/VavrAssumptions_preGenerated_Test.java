@@ -0,0 +1,70 @@
+/*
+ * Copyright 2017-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.vavr.api;
+
+import io.vavr.control.Option;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeFalse;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+import static org.assertj.vavr.api.VavrAssumptions.assumeThat;
+
+class VavrAssumptions_preGenerated_Test {
+
+    @Test
+    void should_generate_assumption_class_for_every_assertion_type(@TempDir File outputDirectory) throws IOException {
+        AssumptionClassGenerator.generateInto(outputDirectory);
+
+        VavrAssumptions.PRE_GENERATED_TYPES.forEach(assertionType -> {
+            final String path = VavrAssumptions.preGeneratedName(assertionType).replace('.', File.separatorChar) + ".class";
+            assertThat(new File(outputDirectory, path)).isFile();
+        });
+    }
+
+    @Test
+    void should_use_assumption_class_generated_during_build() {
+        assumeTrue(isPreGenerated(OptionAssert.class), "assumption classes are only generated by the Maven build");
+
+        final OptionAssert<String> assumption = assumeThat(Option.some("ring"));
+
+        assertThat(assumption.getClass().getName()).isEqualTo(VavrAssumptions.preGeneratedName(OptionAssert.class));
+    }
+
+    @Test
+    void should_generate_assumption_class_at_runtime_when_not_generated_during_build() {
+        assumeFalse(isPreGenerated(OptionAssert.class), "assumption classes were generated by the build");
+
+        final OptionAssert<String> assumption = assumeThat(Option.some("ring"));
+
+        assertThat(assumption).isInstanceOf(OptionAssert.class);
+        assertThat(assumption.getClass().getName()).isNotEqualTo(VavrAssumptions.preGeneratedName(OptionAssert.class));
+        assumption.contains("ring");
+    }
+
+    private static boolean isPreGenerated(Class<?> assertionType) {
+        try {
+            Class.forName(VavrAssumptions.preGeneratedName(assertionType), false, assertionType.getClassLoader());
+            return true;
+        } catch (ClassNotFoundException e) {
+            return false;
+        }
+    }
+}
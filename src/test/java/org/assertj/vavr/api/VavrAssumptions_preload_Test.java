@@ -0,0 +1,51 @@
+/*
+ * Copyright 2017-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.vavr.api;
+
+import io.vavr.control.Option;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.vavr.api.VavrAssumptions.assumeThat;
+
+class VavrAssumptions_preload_Test {
+
+    @Test
+    void should_pin_assumption_classes_of_all_assertion_types() {
+        final VavrAssumptionsStats stats = VavrAssumptions.preload();
+
+        assertThat(stats.pinnedClasses()).isEqualTo(VavrAssumptions.PRE_GENERATED_TYPES.size());
+    }
+
+    @Test
+    void should_create_assumptions_after_preloading() {
+        VavrAssumptions.preload();
+
+        assumeThat(Option.some("ring")).contains("ring");
+    }
+
+    @Test
+    void should_count_assumption_class_lookups() {
+        final VavrAssumptionsStats before = VavrAssumptions.stats();
+
+        assumeThat(Option.some("ring")).isDefined();
+
+        final VavrAssumptionsStats after = VavrAssumptions.stats();
+        assertThat(after.preGeneratedHits() + after.cacheHits())
+                .isGreaterThan(before.preGeneratedHits() + before.cacheHits());
+        assertThat(after.generationTime()).isGreaterThanOrEqualTo(before.generationTime());
+    }
+}
@@ -20,12 +20,15 @@ import io.vavr.collection.Array;
 import io.vavr.collection.HashMap;
 import io.vavr.collection.HashMultimap;
 import io.vavr.collection.HashSet;
+import io.vavr.concurrent.Future;
 import io.vavr.control.Either;
 import io.vavr.control.Option;
 import io.vavr.control.Try;
 import io.vavr.control.Validation;
 import org.junit.jupiter.api.Test;
 
+import java.time.Duration;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.vavr.api.VavrInstanceOfAssertFactories.*;
 
@@ -54,6 +57,26 @@ class VavrInstanceOfAssertFactoriesTest {
         result.isRight();
     }
 
+    @Test
+    void future_factory_should_allow_future_assertions() {
+        // GIVEN
+        Object value = Future.successful("future");
+        // WHEN
+        FutureAssert<Object> result = assertThat(value).asInstanceOf(FUTURE);
+        // THEN
+        result.succeedsWithin(Duration.ofSeconds(1));
+    }
+
+    @Test
+    void future_typed_factory_should_allow_future_typed_assertions() {
+        // GIVEN
+        Object value = Future.successful("future");
+        // WHEN
+        FutureAssert<String> result = assertThat(value).asInstanceOf(future(String.class));
+        // THEN
+        result.succeedsWithin(Duration.ofSeconds(1));
+    }
+
     @Test
     void lazy_factory_should_allow_lazy_assertions() {
         // GIVEN
@@ -0,0 +1,214 @@
+/*
+ * Copyright 2017-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.vavr.api;
+
+import io.vavr.Lazy;
+import io.vavr.Tuple;
+import io.vavr.Tuple2;
+import io.vavr.collection.HashMap;
+import io.vavr.collection.HashMultimap;
+import io.vavr.collection.HashSet;
+import io.vavr.collection.LinkedHashMap;
+import io.vavr.collection.List;
+import io.vavr.collection.Map;
+import io.vavr.collection.Multimap;
+import io.vavr.collection.Vector;
+import io.vavr.control.Either;
+import io.vavr.control.Option;
+import io.vavr.control.Try;
+import io.vavr.control.Validation;
+import org.assertj.core.api.recursive.comparison.RecursiveComparisonConfiguration;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.vavr.api.VavrAssertions.assertThat;
+import static org.assertj.vavr.api.VavrRecursiveComparison.configuration;
+
+class VavrRecursiveComparison_Test {
+
+    @Test
+    void should_pass_if_Lists_sharing_a_tail_have_equal_heads() {
+        final List<Hobbit> shire = List.range(0, 200_000).map(i -> new Hobbit("hobbit" + i, i));
+
+        assertThat(shire.prepend(new Hobbit("frodo", 50)))
+                .usingRecursiveComparison(configuration())
+                .isEqualTo(shire.prepend(new Hobbit("frodo", 50)));
+    }
+
+    @Test
+    void should_fail_if_Lists_sharing_a_tail_have_different_heads() {
+        final List<Hobbit> shire = List.of(new Hobbit("sam", 38));
+
+        assertThatThrownBy(
+                () -> assertThat(shire.prepend(new Hobbit("frodo", 50)))
+                        .usingRecursiveComparison(configuration())
+                        .isEqualTo(shire.prepend(new Hobbit("frodo", 33)))
+        )
+                .isInstanceOf(AssertionError.class);
+    }
+
+    @Test
+    void should_compare_Maps_by_key_whatever_their_iteration_order() {
+        final Map<String, Hobbit> actual = LinkedHashMap.of("frodo", new Hobbit("frodo", 50), "sam", new Hobbit("sam", 38));
+        final Map<String, Hobbit> expected = LinkedHashMap.of("sam", new Hobbit("sam", 38), "frodo", new Hobbit("frodo", 50));
+
+        assertThat(actual).usingRecursiveComparison(configuration()).isEqualTo(expected);
+        assertThatThrownBy(
+                () -> assertThat(actual).usingRecursiveComparison(configuration()).isEqualTo(expected.put("frodo", new Hobbit("frodo", 51)))
+        )
+                .isInstanceOf(AssertionError.class);
+    }
+
+    @Test
+    void should_compare_Multimaps_by_key() {
+        final Multimap<String, Hobbit> actual = HashMultimap.withSeq().of("baggins", new Hobbit("frodo", 50),
+                                                                          "baggins", new Hobbit("bilbo", 111));
+        final Multimap<String, Hobbit> expected = HashMultimap.withSeq().of("baggins", new Hobbit("frodo", 50),
+                                                                            "baggins", new Hobbit("bilbo", 111));
+
+        assertThat(actual).usingRecursiveComparison(configuration()).isEqualTo(expected);
+    }
+
+    @Test
+    void should_compare_Maps_with_keys_without_equals_structurally() {
+        final Map<Hobbit, String> actual = HashMap.of(new Hobbit("frodo", 50), "ring bearer",
+                                                      new Hobbit("sam", 38), "gardener");
+
+        assertThat(actual)
+                .usingRecursiveComparison(configuration())
+                .isEqualTo(HashMap.of(new Hobbit("sam", 38), "gardener", new Hobbit("frodo", 50), "ring bearer"));
+        assertThatThrownBy(
+                () -> assertThat(actual)
+                        .usingRecursiveComparison(configuration())
+                        .isEqualTo(HashMap.of(new Hobbit("sam", 38), "ring bearer",
+                                              new Hobbit("frodo", 50), "gardener"))
+        )
+                .isInstanceOf(AssertionError.class);
+    }
+
+    @Test
+    void should_compare_Multimaps_with_keys_without_equals_structurally() {
+        final Hobbit frodo = new Hobbit("frodo", 50);
+        final Hobbit expectedFrodo = new Hobbit("frodo", 50);
+        final Multimap<Hobbit, String> actual = HashMultimap.withSeq().of(frodo, "ring bearer", frodo, "baggins",
+                                                                           new Hobbit("sam", 38), "gardener");
+
+        assertThat(actual)
+                .usingRecursiveComparison(configuration())
+                .isEqualTo(HashMultimap.withSeq().of(new Hobbit("sam", 38), "gardener",
+                                                     expectedFrodo, "ring bearer", expectedFrodo, "baggins"));
+        assertThatThrownBy(
+                () -> assertThat(actual)
+                        .usingRecursiveComparison(configuration())
+                        .isEqualTo(HashMultimap.withSeq().of(new Hobbit("sam", 38), "gardener",
+                                                             expectedFrodo, "ring bearer", expectedFrodo, "gardener"))
+        )
+                .isInstanceOf(AssertionError.class);
+    }
+
+    @Test
+    void should_compare_Sets_of_elements_without_equals_structurally() {
+        assertThat(HashSet.of(new Hobbit("frodo", 50), new Hobbit("sam", 38)))
+                .usingRecursiveComparison(configuration())
+                .isEqualTo(HashSet.of(new Hobbit("sam", 38), new Hobbit("frodo", 50)));
+        assertThatThrownBy(
+                () -> assertThat(HashSet.of(new Hobbit("frodo", 50)))
+                        .usingRecursiveComparison(configuration())
+                        .isEqualTo(HashSet.of(new Hobbit("sam", 38)))
+        )
+                .isInstanceOf(AssertionError.class);
+    }
+
+    @Test
+    void should_compare_control_types_by_content() {
+        assertThat(Option.of(new Hobbit("frodo", 50)))
+                .usingRecursiveComparison(configuration())
+                .isEqualTo(Option.of(new Hobbit("frodo", 50)));
+        assertThat(Either.right(new Hobbit("frodo", 50)))
+                .usingRecursiveComparison(configuration())
+                .isEqualTo(Either.right(new Hobbit("frodo", 50)));
+        assertThat(Try.success(new Hobbit("frodo", 50)))
+                .usingRecursiveComparison(configuration())
+                .isEqualTo(Try.success(new Hobbit("frodo", 50)));
+        assertThat(Validation.invalid(new Hobbit("frodo", 50))).usingRecursiveComparison(configuration())
+                                                               .isEqualTo(Validation.invalid(new Hobbit("frodo", 50)));
+        assertThat(Lazy.of(() -> new Hobbit("frodo", 50))).usingRecursiveComparison(configuration())
+                                                          .isEqualTo(Lazy.of(() -> new Hobbit("frodo", 50)));
+        assertThatThrownBy(
+                () -> assertThat(Either.right(new Hobbit("frodo", 50))).usingRecursiveComparison(configuration())
+                                                                      .isEqualTo(Either.left(new Hobbit("frodo", 50)))
+        )
+                .isInstanceOf(AssertionError.class);
+    }
+
+    @Test
+    void should_compare_nested_Vavr_values_structurally() {
+        final Vector<Tuple2<String, Option<Hobbit>>> actual = Vector.of(Tuple.of("ring bearer", Option.of(new Hobbit("frodo", 50))));
+        final Vector<Tuple2<String, Option<Hobbit>>> expected = Vector.of(Tuple.of("ring bearer", Option.of(new Hobbit("frodo", 50))));
+
+        assertThat(actual).usingRecursiveComparison(configuration()).isEqualTo(expected);
+        assertThatThrownBy(
+                () -> assertThat(actual).usingRecursiveComparison(configuration())
+                                        .isEqualTo(Vector.of(Tuple.of("ring bearer", Option.none())))
+        )
+                .isInstanceOf(AssertionError.class);
+    }
+
+    @Test
+    void should_compare_Vavr_fields_of_objects_structurally() {
+        final Fellowship actual = new Fellowship(HashMap.of("frodo", new Hobbit("frodo", 50)));
+        final Fellowship expected = new Fellowship(HashMap.of("frodo", new Hobbit("frodo", 50)));
+
+        org.assertj.core.api.Assertions.assertThat(actual)
+                                       .usingRecursiveComparison(configuration())
+                                       .isEqualTo(expected);
+    }
+
+    @Test
+    void should_keep_other_settings_of_a_given_configuration() {
+        final RecursiveComparisonConfiguration configuration = VavrRecursiveComparison.registerIn(
+                RecursiveComparisonConfiguration.builder().withIgnoredFields("age").build());
+
+        assertThat(List.of(new Hobbit("frodo", 50)))
+                .usingRecursiveComparison(configuration)
+                .isEqualTo(List.of(new Hobbit("frodo", 33)));
+    }
+
+    @Test
+    void should_fail_if_configuration_is_null() {
+        assertThatThrownBy(() -> VavrRecursiveComparison.registerIn(null))
+                .isInstanceOf(NullPointerException.class)
+                .hasMessage("The recursive comparison configuration should not be null");
+    }
+
+    private static final class Hobbit {
+        private final String name;
+        private final int age;
+
+        Hobbit(String name, int age) {
+            this.name = name;
+            this.age = age;
+        }
+    }
+
+    private static final class Fellowship {
+        private final Map<String, Hobbit> members;
+
+        Fellowship(Map<String, Hobbit> members) {
+            this.members = members;
+        }
+    }
+}
@@ -0,0 +1,153 @@
+/*
+ * Copyright 2017-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.vavr.api;
+
+import io.vavr.Tuple;
+import io.vavr.collection.CharSeq;
+import io.vavr.collection.HashMap;
+import io.vavr.collection.HashMultimap;
+import io.vavr.collection.LinkedHashMap;
+import io.vavr.collection.List;
+import io.vavr.collection.Map;
+import io.vavr.collection.Stream;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Date;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.presentation.StandardRepresentation.STANDARD_REPRESENTATION;
+import static org.assertj.vavr.api.VavrAssertions.assertThat;
+
+class VavrRepresentation_Test {
+
+    private final VavrRepresentation representation = new VavrRepresentation(4, 2);
+
+    @Test
+    void should_render_collections_within_limits_like_the_standard_representation() {
+        assertRenderedLikeStandardRepresentation(List.of(1, 2, 3, 4));
+        assertRenderedLikeStandardRepresentation(HashMap.of("key", "value"));
+    }
+
+    @Test
+    void should_render_other_objects_like_the_standard_representation() {
+        assertRenderedLikeStandardRepresentation("value");
+        assertRenderedLikeStandardRepresentation(new Date(0));
+        assertRenderedLikeStandardRepresentation(Tuple.of(1, 2));
+        assertRenderedLikeStandardRepresentation(CharSeq.of("a long sequence of characters"));
+    }
+
+    @Test
+    void should_render_lazy_collections_like_the_standard_representation() {
+        final Stream<Integer> stream = Stream.range(0, 10);
+        stream.last();
+
+        assertRenderedLikeStandardRepresentation(stream);
+    }
+
+    @Test
+    void should_render_head_tail_and_size_of_large_Seq() {
+        assertThat(representation.toStringOf(List.range(0, 10))).isEqualTo("List(0, 1, ..., 8, 9) (size: 10)");
+    }
+
+    @Test
+    void should_render_head_tail_and_size_of_large_Map() {
+        final Map<String, Integer> actual = LinkedHashMap.of("a", 1, "b", 2, "c", 3, "d", 4, "e", 5);
+
+        assertThat(representation.toStringOf(actual))
+                .isEqualTo("LinkedHashMap((\"a\", 1), (\"b\", 2), ..., (\"d\", 4), (\"e\", 5)) (size: 5)");
+    }
+
+    @Test
+    void should_render_container_type_of_large_Multimap() {
+        final HashMultimap<String, Integer> actual = HashMultimap.withSeq().of("a", 1, "a", 2, "a", 3, "a", 4, "a", 5);
+
+        assertThat(representation.toStringOf(actual))
+                .isEqualTo("HashMultimap[List]((\"a\", 1), (\"a\", 2), ..., (\"a\", 4), (\"a\", 5)) (size: 5)");
+    }
+
+    @Test
+    void should_cap_nested_collections() {
+        assertThat(representation.toStringOf(List.of(List.range(0, 10), List.of(1))))
+                .isEqualTo("List(List(0, 1, ..., 8, 9) (size: 10), List(1))");
+        assertThat(representation.toStringOf(List.of(Tuple.of("key", List.range(0, 5)))))
+                .isEqualTo("List((\"key\", List(0, 1, ..., 3, 4) (size: 5)))");
+    }
+
+    @Test
+    void should_render_collections_nested_beyond_max_depth_by_size() {
+        assertThat(representation.toStringOf(List.of(List.of(List.of(1, 2)))))
+                .isEqualTo("List(List(List(size: 2)))");
+    }
+
+    @Test
+    void should_fail_if_max_elements_is_too_small() {
+        assertThatThrownBy(() -> new VavrRepresentation(1, 2))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("The maximum number of elements should be at least 2 but was: 1");
+    }
+
+    @Test
+    void should_cap_failure_messages_when_used_by_an_assertion() {
+        final Map<Integer, Integer> actual = HashMap.ofEntries(List.range(0, 5_000).map(i -> Tuple.of(i, i)));
+
+        assertThatThrownBy(() -> assertThat(actual).withRepresentation(new VavrRepresentation()).containsKey(-1))
+                .isInstanceOf(AssertionError.class)
+                .hasMessageContaining("(size: 5000)")
+                .satisfies(error -> assertThat(error.getMessage().length()).isLessThan(50_000));
+    }
+
+    @Test
+    void should_bound_failure_messages_of_vavr_assertions_by_default() {
+        final Map<Integer, Integer> actual = HashMap.ofEntries(List.range(0, 5_000).map(i -> Tuple.of(i, i)));
+
+        assertThatThrownBy(() -> assertThat(actual).containsKey(-1))
+                .isInstanceOf(AssertionError.class)
+                .hasMessageContaining("(size: 5000)")
+                .satisfies(error -> assertThat(error.getMessage().length()).isLessThan(50_000));
+        assertThatThrownBy(() -> assertThat(List.range(0, 5_000)).contains(-1))
+                .isInstanceOf(AssertionError.class)
+                .hasMessageContaining("(size: 5000)");
+    }
+
+    @Test
+    void should_keep_the_representation_given_to_an_assertion() {
+        final Map<Integer, Integer> actual = HashMap.ofEntries(List.range(0, 5_000).map(i -> Tuple.of(i, i)));
+
+        assertThatThrownBy(() -> assertThat(actual).withRepresentation(STANDARD_REPRESENTATION).containsKey(-1))
+                .isInstanceOf(AssertionError.class)
+                .satisfies(error -> assertThat(error.getMessage()).doesNotContain("(size: 5000)"));
+    }
+
+    @Test
+    void should_keep_the_representation_configured_for_all_assertions() {
+        final Map<Integer, Integer> actual = HashMap.ofEntries(List.range(0, 5_000).map(i -> Tuple.of(i, i)));
+        Assertions.useRepresentation(new VavrRepresentation(10, 2));
+        try {
+            assertThatThrownBy(() -> assertThat(actual).containsKey(-1))
+                    .isInstanceOf(AssertionError.class)
+                    .hasMessageContaining("(size: 5000)")
+                    .satisfies(error -> assertThat(error.getMessage().length()).isLessThan(1_000));
+        } finally {
+            Assertions.useDefaultRepresentation();
+        }
+    }
+
+    private void assertRenderedLikeStandardRepresentation(Object object) {
+        assertThat(representation.toStringOf(object)).isEqualTo(STANDARD_REPRESENTATION.toStringOf(object));
+    }
+}
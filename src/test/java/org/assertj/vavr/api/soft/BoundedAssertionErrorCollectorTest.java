@@ -0,0 +1,124 @@
+/*
+ * Copyright 2017-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.vavr.api.soft;
+
+import io.vavr.collection.List;
+import io.vavr.control.Option;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.opentest4j.MultipleFailuresError;
+
+import static java.lang.String.format;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BoundedAssertionErrorCollectorTest {
+
+    @Test
+    void should_retain_errors_up_to_the_limit_and_count_the_others() {
+        SoftVavrAssertions softly = new SoftVavrAssertions();
+        softly.setDelegate(new BoundedAssertionErrorCollector(2));
+
+        List.range(0, 1_000).forEach(i -> softly.assertThat(Option.some(i)).isEmpty());
+        softly.assertThat(Option.some("value")).contains("other");
+
+        assertThat(softly.errorsCollected()).hasSize(3);
+        assertThat(softly.errorsCollected().get(0)).hasMessageContaining("<0>");
+        assertThat(softly.errorsCollected().get(1)).hasMessageContaining("<1>");
+        assertThat(softly.errorsCollected().get(2))
+                .hasMessage(format("%n999 more error(s) were not retained:%n" +
+                                   "  OptionAssert.contains: 1%n" +
+                                   "  OptionAssert.isEmpty: 998"));
+        assertThatThrownBy(softly::assertAll).isInstanceOf(MultipleFailuresError.class);
+    }
+
+    @Test
+    void should_count_errors_by_assertion_when_AssertJ_frames_are_kept_in_stack_traces() {
+        Assertions.setRemoveAssertJRelatedElementsFromStackTrace(false);
+        try {
+            SoftVavrAssertions softly = new SoftVavrAssertions();
+            softly.setDelegate(new BoundedAssertionErrorCollector(0));
+
+            softly.assertThat(Option.some(1)).isEmpty();
+            softly.assertThat(Option.some("value")).contains("other");
+
+            assertThat(softly.errorsCollected()).singleElement()
+                                                .satisfies(error -> assertThat(error).hasMessage(
+                                                        format("%n2 more error(s) were not retained:%n" +
+                                                               "  OptionAssert.contains: 1%n" +
+                                                               "  OptionAssert.isEmpty: 1")));
+        } finally {
+            Assertions.setRemoveAssertJRelatedElementsFromStackTrace(true);
+        }
+    }
+
+    @Test
+    void should_pass_when_no_error_is_collected() {
+        SoftVavrAssertions softly = new SoftVavrAssertions();
+        softly.setDelegate(new BoundedAssertionErrorCollector(0));
+
+        softly.assertThat(Option.some("value")).contains("value");
+
+        assertThat(softly.wasSuccess()).isTrue();
+        softly.assertAll();
+    }
+
+    @Test
+    void should_count_errors_not_coming_from_a_vavr_assertion_by_error_type() {
+        final BoundedAssertionErrorCollector collector = new BoundedAssertionErrorCollector(0);
+
+        collector.collectAssertionError(new AssertionError("failure"));
+
+        assertThat(collector.assertionErrorsCollected()).hasSize(1);
+        assertThat(collector.assertionErrorsCollected().get(0))
+                .hasMessage(format("%n1 more error(s) were not retained:%n  java.lang.AssertionError: 1"));
+    }
+
+    @Test
+    void should_ignore_errors_after_the_given_number_of_errors() {
+        SoftVavrAssertions softly = new SoftVavrAssertions();
+        softly.setDelegate(new BoundedAssertionErrorCollector(10).ignoringAfter(3));
+
+        List.range(0, 5).forEach(i -> softly.assertThat(Option.some(i)).isEmpty());
+
+        assertThat(softly.errorsCollected()).hasSize(4);
+        assertThat(softly.errorsCollected().get(3))
+                .hasMessage(format("%n2 more error(s) were ignored after the first 3 error(s)"));
+        assertThatThrownBy(softly::assertAll)
+                .isInstanceOfSatisfying(MultipleFailuresError.class,
+                                        error -> assertThat(error.getFailures()).hasSize(4));
+    }
+
+    @Test
+    void should_discard_stack_traces_of_retained_errors() {
+        SoftVavrAssertions softly = new SoftVavrAssertions();
+        softly.setDelegate(new BoundedAssertionErrorCollector(10).discardingStackTraces());
+
+        softly.assertThat(Option.some(1)).isEmpty();
+
+        assertThat(softly.errorsCollected()).singleElement()
+                                            .satisfies(error -> assertThat(error.getStackTrace()).isEmpty());
+    }
+
+    @Test
+    void should_fail_if_limits_are_invalid() {
+        assertThatIllegalArgumentException().isThrownBy(() -> new BoundedAssertionErrorCollector(-1))
+                                            .withMessage("The maximum number of retained errors should not be negative but was: -1");
+        assertThatIllegalArgumentException().isThrownBy(() -> new BoundedAssertionErrorCollector(1).ignoringAfter(0))
+                                            .withMessage("The number of errors to ignore after should be at least 1 but was: 0");
+    }
+}
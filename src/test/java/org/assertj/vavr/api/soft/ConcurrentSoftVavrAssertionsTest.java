@@ -0,0 +1,92 @@
+/*
+ * Copyright 2017-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.vavr.api.soft;
+
+import io.vavr.collection.List;
+import io.vavr.concurrent.Future;
+import io.vavr.control.Option;
+import org.junit.jupiter.api.Test;
+import org.opentest4j.MultipleFailuresError;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ConcurrentSoftVavrAssertionsTest {
+
+    @Test
+    void all_assertions_should_pass() {
+        ConcurrentSoftVavrAssertions softly = new ConcurrentSoftVavrAssertions();
+        softly.assertThat(Option.some("value")).contains("value");
+        softly.assertThat(List.of(1, 2)).containsOnly(1, 2);
+        softly.assertAll();
+    }
+
+    @Test
+    void should_keep_errors_of_a_single_thread_in_order() {
+        ConcurrentSoftVavrAssertions softly = new ConcurrentSoftVavrAssertions();
+        softly.assertThat(Option.some("value")).contains("first");
+        softly.assertThat(List.of(1, 2)).containsOnly(1, 2);
+        assertThat(softly.wasSuccess()).isTrue();
+        softly.assertThat(Option.some("value")).contains("second");
+        assertThat(softly.wasSuccess()).isFalse();
+
+        assertThat(softly.errorsCollected()).hasSize(2);
+        assertThat(softly.errorsCollected().get(0)).hasMessageContaining("first");
+        assertThat(softly.errorsCollected().get(1)).hasMessageContaining("second");
+    }
+
+    @Test
+    void should_collect_every_error_of_parallel_stream() {
+        ConcurrentSoftVavrAssertions softly = new ConcurrentSoftVavrAssertions();
+
+        IntStream.range(0, 100_000).parallel().forEach(i -> {
+            softly.assertThat(Option.some(i)).contains(i);
+            if (i % 10 == 0) softly.assertThat(Option.some(i)).isEmpty();
+        });
+
+        assertThat(softly.errorsCollected()).hasSize(10_000);
+        assertThatThrownBy(softly::assertAll).isInstanceOf(MultipleFailuresError.class);
+    }
+
+    @Test
+    void should_collect_errors_of_Future_callbacks() {
+        final ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            ConcurrentSoftVavrAssertions softly = new ConcurrentSoftVavrAssertions();
+
+            Future.sequence(List.range(0, 1_000).map(i -> Future.of(executor, () -> i).map(value -> {
+                softly.assertThat(Option.some(value)).isEmpty();
+                return value;
+            }))).await();
+
+            assertThat(softly.errorsCollected()).hasSize(1_000);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void should_fail_with_all_errors_when_asserting_softly() {
+        assertThatThrownBy(() -> ConcurrentSoftVavrAssertions.assertSoftly(softly ->
+                IntStream.range(0, 1_000).parallel().forEach(i -> softly.assertThat(Option.some(i)).isEmpty())))
+                .isInstanceOfSatisfying(MultipleFailuresError.class,
+                                        error -> assertThat(error.getFailures()).hasSize(1_000));
+    }
+}
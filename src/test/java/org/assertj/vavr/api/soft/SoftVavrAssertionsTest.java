@@ -16,12 +16,14 @@
 package org.assertj.vavr.api.soft;
 
 import io.vavr.Lazy;
+import io.vavr.collection.Iterator;
 import io.vavr.collection.List;
 import io.vavr.control.Option;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.opentest4j.MultipleFailuresError;
 
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.assertj.vavr.api.soft.SoftVavrAssertionsHelper.runSoftlyAssertions;
 import static org.assertj.vavr.api.soft.SoftVavrAssertionsHelper.verifyErrors;
 import static org.junit.jupiter.api.Assertions.fail;
@@ -56,4 +58,14 @@ class SoftVavrAssertionsTest {
         fail("Should not reach here");
     }
 
+    @Test
+    void should_collect_errors_of_Iterator_assertions_with_varargs() {
+        SoftVavrAssertions softly = new SoftVavrAssertions();
+        softly.assertThat(Iterator.from(1)).startsWith(2, 3);
+        softly.assertThat(Iterator.from(1)).containsWithinFirst(3, 4, 9);
+
+        assertThatThrownBy(softly::assertAll)
+                .isInstanceOfSatisfying(MultipleFailuresError.class,
+                                        error -> Assertions.assertThat(error.getFailures()).hasSize(2));
+    }
 }